@@ -1,8 +1,87 @@
 package software.amazon.amplify.app;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.amplify.common.utils.BackoffPolicies;
+import software.amazon.amplify.common.utils.BackoffPolicy;
+import software.amazon.amplify.common.utils.Primer;
+import software.amazon.awssdk.services.amplify.model.App;
+import software.amazon.awssdk.services.amplify.model.GetAppResponse;
+import software.amazon.awssdk.services.amplify.model.ListAppsResponse;
+
+import java.util.Collections;
+
 class Configuration extends BaseConfiguration {
+    // Stabilization backoff per handler, AMPLIFY_BACKOFF_POLICIES overrides it. Delete keeps the 5 second polls for
+    // up to 20 minutes the framework uses when a handler sets no delay.
+    static final BackoffPolicies BACKOFF_POLICIES = BackoffPolicies.fromEnvironment(BackoffPolicies.builder()
+            .policy(BackoffPolicies.DELETE, BackoffPolicy.builder()
+                    .strategy(BackoffPolicy.Strategy.CONSTANT)
+                    .minDelaySeconds(5L)
+                    .timeoutSeconds(1200L)
+                    .build())
+            .build());
+
+    private static final String PRIMING_APP_ID = "primingAppId";
+    private static final String PRIMING_APP_ARN = "arn:aws:amplify:us-east-1:123456789012:apps/" + PRIMING_APP_ID;
+
+    // Primed once when HandlerWrapper constructs the handlers, see BaseHandlerStd
+    static final Primer<ResourceModel, CallbackContext> PRIMER = Primer.<ResourceModel, CallbackContext>builder()
+            .sampleModel(Configuration::primingModel)
+            .modelType(new TypeReference<ResourceModel>() {})
+            .callbackContext(CallbackContext::new)
+            .callbackContextType(new TypeReference<CallbackContext>() {})
+            .translate(Configuration::primeTranslator)
+            .clientBuilder(ClientBuilder::builder)
+            .request((client, model) -> client.getApp(Translator.translateToReadRequest(model)))
+            .request((client, model) -> client.createApp(Translator.translateToCreateRequest(model)))
+            .build();
 
     public Configuration() {
         super("aws-amplify-app.json");
     }
+
+    private static void primeTranslator(final ResourceModel model) {
+        Translator.translateToCreateRequest(model);
+        Translator.translateToUpdateRequest(model);
+        Translator.translateToDeleteRequest(model);
+        Translator.translateToListRequest(null);
+
+        final App app = App.builder()
+                .appId(PRIMING_APP_ID)
+                .appArn(PRIMING_APP_ARN)
+                .name(model.getName())
+                .environmentVariables(Collections.singletonMap("name", "value"))
+                .customRules(software.amazon.awssdk.services.amplify.model.CustomRule.builder()
+                        .source("/<*>")
+                        .target("/index.html")
+                        .status("404-200")
+                        .build())
+                .tags(Collections.singletonMap("key", "value"))
+                .build();
+        Translator.translateFromReadResponse(GetAppResponse.builder().app(app).build());
+        Translator.translateFromListRequest(ListAppsResponse.builder().apps(app).build());
+    }
+
+    private static ResourceModel primingModel() {
+        return ResourceModel.builder()
+                .appId(PRIMING_APP_ID)
+                .arn(PRIMING_APP_ARN)
+                .name("priming")
+                .description("priming")
+                .environmentVariables(Collections.singletonList(
+                        EnvironmentVariable.builder().name("name").value("value").build()))
+                .customRules(Collections.singletonList(
+                        CustomRule.builder().source("/<*>").target("/index.html").status("404-200").build()))
+                .basicAuthConfig(BasicAuthConfig.builder()
+                        .enableBasicAuth(true)
+                        .username("priming")
+                        .password("priming")
+                        .build())
+                .autoBranchCreationConfig(AutoBranchCreationConfig.builder()
+                        .enableAutoBranchCreation(true)
+                        .autoBranchCreationPatterns(Collections.singletonList("feature/*"))
+                        .build())
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+    }
 }
@@ -2,10 +2,16 @@ package software.amazon.amplify.app;
 
 import lombok.NonNull;
 import org.apache.commons.lang3.ObjectUtils;
+import software.amazon.amplify.common.utils.ArnUtils;
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
 import software.amazon.awssdk.services.amplify.model.CreateAppResponse;
+import software.amazon.awssdk.services.amplify.model.ListAppsResponse;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -16,8 +22,18 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.util.ArrayList;
 
 public class CreateHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-App::Create";
+    private final OperationJournal journal;
     private Logger logger;
 
+    public CreateHandler() {
+        this(OperationJournal.fromEnvironment());
+    }
+
+    CreateHandler(final OperationJournal journal) {
+        this.journal = journal;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -34,25 +50,109 @@ public class CreateHandler extends BaseHandlerStd {
         if (disallowedVal != null) {
             throw new CfnInvalidRequestException(String.format("Attempted to provide value to a read-only property: %s", disallowedVal));
         }
+        final String journalKey = OperationJournal.key(ResourceModel.TYPE_NAME, request.getLogicalResourceIdentifier(),
+                request.getClientRequestToken());
+        journal.restore(journalKey, callbackContext);
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-Amplify-App::Create", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .makeServiceCall((createAppRequest, proxyInvocation) -> {
-                        CreateAppResponse createAppResponse = (CreateAppResponse) ClientWrapper.execute(
-                                proxy,
-                                createAppRequest,
-                                proxyInvocation.client()::createApp,
-                                ResourceModel.TYPE_NAME, model.getArn(),
-                                logger
-                        );
+                proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+                    .translateToServiceRequest(Tracing.translate(CALL_GRAPH, resourceModel ->
+                            stamp(Translator.translateToCreateRequest(resourceModel), journalKey)))
+                    .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (createAppRequest, proxyInvocation) -> {
+                        if (callbackContext.getCreatedArn() != null) {
+                            final CreateAppResponse createdResponse = getCreated(callbackContext.getCreatedArn());
+                            setResourceModelId(model, createdResponse.app());
+                            return createdResponse;
+                        }
+                        if (callbackContext.isCreateIssued()) {
+                            final CreateAppResponse issuedCreateResponse = getStampedApp(proxy, proxyClient, journalKey);
+                            if (issuedCreateResponse != null) {
+                                journal.recordCreated(journalKey, callbackContext, issuedCreateResponse.app().appArn());
+                                setResourceModelId(model, issuedCreateResponse.app());
+                                return issuedCreateResponse;
+                            }
+                        }
+                        journal.recordIssued(journalKey, callbackContext);
+                        final CreateAppResponse createAppResponse;
+                        try {
+                            createAppResponse = (CreateAppResponse) ClientWrapper.execute(
+                                    proxy,
+                                    createAppRequest,
+                                    proxyInvocation.client()::createApp,
+                                    ResourceModel.TYPE_NAME, model.getArn(),
+                                    logger
+                            );
+                        } catch (final BaseHandlerException e) {
+                            // App names need not be unique, a create never conflicts with an existing app. Only a
+                            // create the service turned down is known not to have left an app behind
+                            if (ClientWrapper.isRejected(e)) {
+                                journal.clearIssued(journalKey, callbackContext);
+                            }
+                            throw e;
+                        }
+                        journal.recordCreated(journalKey, callbackContext, createAppResponse.app().appArn());
                         setResourceModelId(model, createAppResponse.app());
                         return createAppResponse;
-                    })
+                    }))
                     .progress()
                 )
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> new ReadHandler()
+                    .handleRequest(proxy, request, callbackContext, proxyClient, logger));
+    }
+
+    private static CreateAppRequest stamp(final CreateAppRequest createAppRequest, final String journalKey) {
+        if (journalKey == null) {
+            return createAppRequest;
+        }
+        return createAppRequest.toBuilder()
+                .tags(OperationJournal.stamp(createAppRequest.tags(), journalKey))
+                .build();
+    }
+
+    // An earlier create of this operation returned no ARN. App ids are assigned by the service and names need not be
+    // unique, so the app it may have created is found by its stamp. Null when there is none and the create is resent
+    private CreateAppResponse getStampedApp(final AmazonWebServicesClientProxy proxy,
+                                            final ProxyClient<AmplifyClient> proxyClient,
+                                            final String journalKey) {
+        if (journalKey == null) {
+            logger.log(String.format("INFO: previously issued create of %s has no stamp to find it by, creating again",
+                    ResourceModel.TYPE_NAME));
+            return null;
+        }
+        String nextToken = null;
+        do {
+            final ListAppsResponse listAppsResponse = (ListAppsResponse) ClientWrapper.execute(
+                    proxy,
+                    Translator.translateToListRequest(nextToken),
+                    proxyClient.client()::listApps,
+                    ResourceModel.TYPE_NAME,
+                    logger);
+            for (final App app : listAppsResponse.apps()) {
+                if (OperationJournal.isStamped(app.tags(), journalKey)) {
+                    logger.log(String.format("INFO: resuming %s %s created by a previous invocation",
+                            ResourceModel.TYPE_NAME, app.appArn()));
+                    return CreateAppResponse.builder()
+                            .app(app)
+                            .build();
+                }
+            }
+            nextToken = listAppsResponse.nextToken();
+        } while (nextToken != null);
+        logger.log(String.format("INFO: previously issued create of %s left no app, creating again",
+                ResourceModel.TYPE_NAME));
+        return null;
+    }
+
+    // An earlier invocation journaled the ARN of the app it created, the read that follows fills in the rest
+    private CreateAppResponse getCreated(final String arn) {
+        logger.log(String.format("INFO: resuming %s %s journaled by a previous invocation", ResourceModel.TYPE_NAME, arn));
+        return CreateAppResponse.builder()
+                .app(App.builder()
+                        .appArn(arn)
+                        .appId(ArnUtils.getResourceName(arn, "apps/"))
+                        .build())
+                .build();
     }
 
     private String checkReadOnlyProperties(final ResourceModel model) {
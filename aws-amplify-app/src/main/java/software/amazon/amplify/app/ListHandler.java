@@ -1,8 +1,10 @@
 package software.amazon.amplify.app;
 
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.ListBudget;
+import software.amazon.amplify.common.utils.ListPaginator;
+import software.amazon.amplify.common.utils.ResponseProjection;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.ListAppsRequest;
 import software.amazon.awssdk.services.amplify.model.ListAppsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -13,6 +15,22 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
 
+    private final ListBudget listBudget;
+    private final ResponseProjection responseProjection;
+
+    public ListHandler() {
+        this(ListBudget.fromEnvironment(), ResponseProjection.forList());
+    }
+
+    ListHandler(final ListBudget listBudget) {
+        this(listBudget, ResponseProjection.forList());
+    }
+
+    ListHandler(final ListBudget listBudget, final ResponseProjection responseProjection) {
+        this.listBudget = listBudget;
+        this.responseProjection = responseProjection;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -21,17 +39,34 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        final ListAppsRequest listAppsRequest = Translator.translateToListRequest(request.getNextToken());
-        ListAppsResponse listAppsResponse = (ListAppsResponse) ClientWrapper.execute(
-                proxy,
-                listAppsRequest,
-                proxyClient.client()::listApps,
+        final ListPaginator.Result<ResourceModel> result = ListPaginator.collect(
+                request.getNextToken(),
+                listBudget,
+                nextToken -> (ListAppsResponse) ClientWrapper.execute(
+                        proxy,
+                        Translator.translateToListRequest(nextToken),
+                        proxyClient.client()::listApps,
+                        ResourceModel.TYPE_NAME,
+                        "",
+                        logger
+                ),
+                nextToken -> ClientWrapper.executeAsync(
+                        proxy,
+                        Translator.translateToListRequest(nextToken),
+                        ClientWrapper.async(proxyClient.client()::listApps),
+                        ResourceModel.TYPE_NAME,
+                        "",
+                        logger
+                ).thenApply(ListAppsResponse.class::cast),
+                ListAppsResponse::nextToken,
+                response -> response.apps().size(),
+                (response, sink) -> Translator.translateFromListRequest(response, responseProjection, sink),
                 ResourceModel.TYPE_NAME,
                 logger
         );
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(Translator.translateFromListRequest(listAppsResponse))
-            .nextToken(listAppsResponse.nextToken())
+            .resourceModels(result.getModels())
+            .nextToken(result.getNextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
@@ -1,6 +1,7 @@
 package software.amazon.amplify.app;
 
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.GetAppResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -10,6 +11,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-App::Read";
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,20 +25,20 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         logger.log("INFO: requesting with model: " + model);
 
-        return proxy.initiate("AWS-Amplify-App::Read", proxyClient, model, callbackContext)
-            .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall((getAppRequest, proxyInvocation) -> (GetAppResponse) ClientWrapper.execute(
+        return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+            .translateToServiceRequest(Tracing.translate(CALL_GRAPH, Translator::translateToReadRequest))
+            .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (getAppRequest, proxyInvocation) -> (GetAppResponse) ClientWrapper.execute(
                     proxy,
                     getAppRequest,
                     proxyInvocation.client()::getApp,
                     ResourceModel.TYPE_NAME,
                     model.getArn(),
                     logger
-            ))
-            .done(getAppResponse -> {
+            )))
+            .done(Tracing.done(CALL_GRAPH, getAppResponse -> {
                 ResourceModel modelRet = Translator.translateFromReadResponse(getAppResponse);
                 logger.log("INFO: returning model: " + modelRet);
                 return ProgressEvent.defaultSuccessHandler(modelRet);
-            });
+            }));
     }
 }
@@ -5,6 +5,10 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.utils.ChangedProperties;
+import software.amazon.amplify.common.utils.ModelFingerprint;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.amplify.common.utils.ResponseProjection;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
 import software.amazon.awssdk.services.amplify.model.CustomRule;
@@ -18,9 +22,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 
 import lombok.NonNull;
 import software.amazon.awssdk.services.amplify.model.DeleteAppRequest;
@@ -43,6 +45,22 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 
 public class Translator {
   private static final String ARN_SPLIT_KEY = " ";
+  // Read-only properties from the resource schema, they never take part in what an update applies
+  private static final List<String> READ_ONLY_PROPERTIES = Arrays.asList("AppId", "AppName", "Arn", "DefaultDomain");
+  static final String NAME = "Name";
+  static final String DESCRIPTION = "Description";
+  static final String OAUTH_TOKEN = "OauthToken";
+  static final String REPOSITORY = "Repository";
+  static final String IAM_SERVICE_ROLE = "IAMServiceRole";
+  static final String BUILD_SPEC = "BuildSpec";
+  static final String ACCESS_TOKEN = "AccessToken";
+  static final String ENABLE_BRANCH_AUTO_DELETION = "EnableBranchAutoDeletion";
+  static final String CUSTOM_HEADERS = "CustomHeaders";
+  static final String CUSTOM_RULES = "CustomRules";
+  static final String ENVIRONMENT_VARIABLES = "EnvironmentVariables";
+  static final String BASIC_AUTH_CONFIG = "BasicAuthConfig";
+  static final String AUTO_BRANCH_CREATION_CONFIG = "AutoBranchCreationConfig";
+
   /**
    * Request to create a resource
    * @param model resource model
@@ -108,45 +126,7 @@ public class Translator {
    * @return model resource model
    */
   static ResourceModel translateFromReadResponse(final GetAppResponse getAppResponse) {
-    ResourceModel.ResourceModelBuilder appModelBuilder = ResourceModel.builder();
-    App app = getAppResponse.app();
-
-    appModelBuilder
-            .appId(app.appId())
-            .appName(app.name())
-            .arn(app.appArn())
-            .buildSpec(app.buildSpec())
-            .customHeaders(app.customHeaders())
-            .description(app.description())
-            .defaultDomain(app.defaultDomain())
-            .enableBranchAutoDeletion(app.enableBranchAutoDeletion())
-            .iAMServiceRole(app.iamServiceRoleArn())
-            .name(app.name())
-            .repository(app.repository());
-
-    Map<String, String> appEnvVars = app.environmentVariables();
-    if (MapUtils.isNotEmpty(appEnvVars)) {
-      appModelBuilder.environmentVariables(getEnvironmentVariablesCFN(appEnvVars));
-    }
-
-    if (CollectionUtils.isNotEmpty(app.customRules())) {
-      List<software.amazon.amplify.app.CustomRule> customRulesCFN = new ArrayList<>();
-      for (CustomRule customRule : app.customRules()) {
-        customRulesCFN.add(software.amazon.amplify.app.CustomRule.builder()
-                .source(customRule.source())
-                .target(customRule.target())
-                .status(customRule.status())
-                .condition(customRule.condition())
-                .build());
-      }
-      appModelBuilder.customRules(customRulesCFN);
-    }
-
-    Map<String, String> appTags = app.tags();
-    if (MapUtils.isNotEmpty(appTags)) {
-      appModelBuilder.tags(getTagsCFN(appTags));
-    }
-    return appModelBuilder.build();
+    return translateFromApp(getAppResponse.app(), ResponseProjection.FULL);
   }
 
   /**
@@ -205,6 +185,125 @@ public class Translator {
     return updateAppRequest.build();
   }
 
+  /**
+   * Request to update only the properties that changed since the previous resource state.
+   * Collections removed from the template are sent empty and removed configs are disabled, which is how Amplify clears them.
+   * @param previousModel resource model of the previous template, full request is built when absent
+   * @param model desired or read resource model
+   * @return updateAppRequest the aws service request to modify a resource
+   */
+  static UpdateAppRequest translateToUpdateRequest(final ResourceModel previousModel, final ResourceModel model) {
+    if (previousModel == null) {
+      return translateToUpdateRequest(model);
+    }
+    initializeModel(model);
+    final ChangedProperties changedProperties = getChangedProperties(previousModel, model);
+    final UpdateAppRequest.Builder updateAppRequest = UpdateAppRequest.builder()
+            .appId(model.getAppId());
+
+    if (changedProperties.contains(NAME)) {
+      updateAppRequest.name(model.getName());
+    }
+    if (changedProperties.contains(DESCRIPTION)) {
+      updateAppRequest.description(model.getDescription());
+    }
+    if (changedProperties.contains(OAUTH_TOKEN)) {
+      updateAppRequest.oauthToken(model.getOauthToken());
+    }
+    if (changedProperties.contains(REPOSITORY)) {
+      updateAppRequest.repository(model.getRepository());
+    }
+    if (changedProperties.contains(IAM_SERVICE_ROLE)) {
+      updateAppRequest.iamServiceRoleArn(model.getIAMServiceRole());
+    }
+    if (changedProperties.contains(BUILD_SPEC)) {
+      updateAppRequest.buildSpec(model.getBuildSpec());
+    }
+    if (changedProperties.contains(ACCESS_TOKEN)) {
+      updateAppRequest.accessToken(model.getAccessToken());
+    }
+    if (changedProperties.contains(ENABLE_BRANCH_AUTO_DELETION)) {
+      updateAppRequest.enableBranchAutoDeletion(model.getEnableBranchAutoDeletion());
+    }
+    if (changedProperties.contains(CUSTOM_HEADERS)) {
+      updateAppRequest.customHeaders(model.getCustomHeaders());
+    }
+    if (changedProperties.contains(CUSTOM_RULES)) {
+      List<software.amazon.amplify.app.CustomRule> customRules = model.getCustomRules();
+      updateAppRequest.customRules(customRules != null ? getCustomRulesSDK(customRules) : new ArrayList<>());
+    }
+    // Amplify replaces the whole variable map, so removals are expressed by sending the remaining set
+    if (changedProperties.contains(ENVIRONMENT_VARIABLES)) {
+      updateAppRequest.environmentVariables(getEnvironmentVariablesOrEmpty(model.getEnvironmentVariables()));
+    }
+    if (changedProperties.contains(BASIC_AUTH_CONFIG)) {
+      BasicAuthConfig basicAuthConfig = model.getBasicAuthConfig();
+      if (basicAuthConfig != null) {
+        updateAppRequest.enableBasicAuth(basicAuthConfig.getEnableBasicAuth());
+        updateAppRequest.basicAuthCredentials(getBasicAuthCredentialsSDK(basicAuthConfig));
+      } else {
+        updateAppRequest.enableBasicAuth(false);
+      }
+    }
+    if (changedProperties.contains(AUTO_BRANCH_CREATION_CONFIG)) {
+      software.amazon.amplify.app.AutoBranchCreationConfig autoBranchCreationConfigCFN = model.getAutoBranchCreationConfig();
+      if (autoBranchCreationConfigCFN != null) {
+        updateAppRequest.enableAutoBranchCreation(autoBranchCreationConfigCFN.getEnableAutoBranchCreation());
+        updateAppRequest.autoBranchCreationConfig(getAutoBranchCreationConfigSDK(autoBranchCreationConfigCFN));
+        List<String> autoBranchCreationPatterns = autoBranchCreationConfigCFN.getAutoBranchCreationPatterns();
+        if (autoBranchCreationPatterns != null) {
+          updateAppRequest.autoBranchCreationPatterns(autoBranchCreationPatterns);
+        }
+      } else {
+        updateAppRequest.enableAutoBranchCreation(false);
+      }
+    }
+    return updateAppRequest.build();
+  }
+
+  /**
+   * Compares the previous and desired resource models property by property
+   * @param previousModel resource model of the previous template
+   * @param model desired or read resource model
+   * @return names of the properties an update request has to carry
+   */
+  static ChangedProperties getChangedProperties(@NonNull final ResourceModel previousModel, @NonNull final ResourceModel model) {
+    final ChangedProperties changedProperties = new ChangedProperties()
+            .addIfChanged(NAME, previousModel.getName(), model.getName())
+            .addIfChanged(DESCRIPTION, previousModel.getDescription(), model.getDescription())
+            .addIfChanged(OAUTH_TOKEN, previousModel.getOauthToken(), model.getOauthToken())
+            .addIfChanged(REPOSITORY, previousModel.getRepository(), model.getRepository())
+            .addIfChanged(IAM_SERVICE_ROLE, previousModel.getIAMServiceRole(), model.getIAMServiceRole())
+            .addIfChanged(BUILD_SPEC, previousModel.getBuildSpec(), model.getBuildSpec())
+            .addIfChanged(ACCESS_TOKEN, previousModel.getAccessToken(), model.getAccessToken())
+            .addIfChanged(ENABLE_BRANCH_AUTO_DELETION, previousModel.getEnableBranchAutoDeletion(),
+                    model.getEnableBranchAutoDeletion())
+            .addIfChanged(CUSTOM_HEADERS, previousModel.getCustomHeaders(), model.getCustomHeaders())
+            // Rules are matched in the order given, so reordering them is a change
+            .addIfChanged(CUSTOM_RULES, previousModel.getCustomRules(), model.getCustomRules())
+            .addIfChanged(BASIC_AUTH_CONFIG, previousModel.getBasicAuthConfig(), model.getBasicAuthConfig())
+            .addIfChanged(AUTO_BRANCH_CREATION_CONFIG, previousModel.getAutoBranchCreationConfig(),
+                    model.getAutoBranchCreationConfig());
+    if (isCleared(previousModel.getCustomRules(), model.getCustomRules())) {
+      changedProperties.add(CUSTOM_RULES);
+    }
+    // Variables are compared as maps so reordering them in the template is not an update
+    List<EnvironmentVariable> environmentVariables = model.getEnvironmentVariables();
+    final Map<String, String> previousEnvVars = getEnvironmentVariablesOrEmpty(previousModel.getEnvironmentVariables());
+    if (environmentVariables != null ? !getEnvironmentVariablesSDK(environmentVariables).equals(previousEnvVars)
+            : !previousEnvVars.isEmpty()) {
+      changedProperties.add(ENVIRONMENT_VARIABLES);
+    }
+    // Removed configs are disabled
+    if (model.getBasicAuthConfig() == null && previousModel.getBasicAuthConfig() != null) {
+      changedProperties.add(BASIC_AUTH_CONFIG);
+    }
+    if (model.getAutoBranchCreationConfig() == null && previousModel.getAutoBranchCreationConfig() != null) {
+      changedProperties.add(AUTO_BRANCH_CREATION_CONFIG);
+    }
+    return changedProperties;
+  }
+
   /**
    * Request to list resources
    * @param nextToken token passed to the aws service list resources request
@@ -222,11 +321,32 @@ public class Translator {
    * @return list of resource models
    */
   static List<ResourceModel> translateFromListRequest(final ListAppsResponse listAppsResponse) {
-    return streamOfOrEmpty(listAppsResponse.apps())
-        .map(resource -> ResourceModel.builder()
-            .arn(resource.appArn())
-            .build())
-        .collect(Collectors.toList());
+    final List<ResourceModel> models = new ArrayList<>(listAppsResponse.apps().size());
+    translateFromListRequest(listAppsResponse, models::add);
+    return models;
+  }
+
+  /**
+   * Translates resource objects from sdk into resource models one at a time, without intermediate collections
+   * @param listAppsResponse the aws service describe resource response
+   * @param sink receives each resource model in listing order
+   */
+  static void translateFromListRequest(final ListAppsResponse listAppsResponse, final Consumer<ResourceModel> sink) {
+    translateFromListRequest(listAppsResponse, ResponseProjection.IDENTIFIERS, sink);
+  }
+
+  /**
+   * Translates resource objects from sdk into resource models with only the properties of the projection
+   * @param listAppsResponse the aws service describe resource response
+   * @param projection how much of each app the models carry
+   * @param sink receives each resource model in listing order
+   */
+  static void translateFromListRequest(final ListAppsResponse listAppsResponse,
+                                       final ResponseProjection projection,
+                                       final Consumer<ResourceModel> sink) {
+    for (final App app : listAppsResponse.apps()) {
+      sink.accept(translateFromApp(app, projection));
+    }
   }
 
   static ListTagsForResourceRequest translateToListTagsForResourceRequest(final String arn) {
@@ -235,9 +355,67 @@ public class Translator {
             .build();
   }
 
+  /**
+   * Content hash of what an update with this model applies, see ModelFingerprint
+   * @param model desired or read resource model
+   * @return fingerprint of the model without its read-only properties
+   */
+  static String fingerprint(final ResourceModel model) {
+    return ModelFingerprint.of(model, READ_ONLY_PROPERTIES);
+  }
+
   /*
    * Helpers
    */
+  private static ResourceModel translateFromApp(final App app, final ResponseProjection projection) {
+    ResourceModel.ResourceModelBuilder appModelBuilder = ResourceModel.builder()
+            .arn(app.appArn());
+    if (!projection.includes(ResponseProjection.SUMMARY)) {
+      return appModelBuilder.build();
+    }
+
+    appModelBuilder
+            .appId(app.appId())
+            .appName(app.name())
+            .description(app.description())
+            .defaultDomain(app.defaultDomain())
+            .enableBranchAutoDeletion(app.enableBranchAutoDeletion())
+            .iAMServiceRole(app.iamServiceRoleArn())
+            .name(app.name())
+            .repository(app.repository());
+
+    Map<String, String> appTags = OperationJournal.withoutStamp(app.tags());
+    if (MapUtils.isNotEmpty(appTags)) {
+      appModelBuilder.tags(getTagsCFN(appTags));
+    }
+    if (!projection.includes(ResponseProjection.FULL)) {
+      return appModelBuilder.build();
+    }
+
+    appModelBuilder
+            .buildSpec(app.buildSpec())
+            .customHeaders(app.customHeaders());
+
+    Map<String, String> appEnvVars = app.environmentVariables();
+    if (MapUtils.isNotEmpty(appEnvVars)) {
+      appModelBuilder.environmentVariables(getEnvironmentVariablesCFN(appEnvVars));
+    }
+
+    if (CollectionUtils.isNotEmpty(app.customRules())) {
+      List<software.amazon.amplify.app.CustomRule> customRulesCFN = new ArrayList<>();
+      for (CustomRule customRule : app.customRules()) {
+        customRulesCFN.add(software.amazon.amplify.app.CustomRule.builder()
+                .source(customRule.source())
+                .target(customRule.target())
+                .status(customRule.status())
+                .condition(customRule.condition())
+                .build());
+      }
+      appModelBuilder.customRules(customRulesCFN);
+    }
+    return appModelBuilder.build();
+  }
+
   private static void initializeModel(final ResourceModel model) {
     if (model.getAppId() == null) {
       String arn = model.getArn();
@@ -248,6 +426,14 @@ public class Translator {
     }
   }
 
+  private static Map<String, String> getEnvironmentVariablesOrEmpty(final List<EnvironmentVariable> envVarsCFN) {
+    return envVarsCFN == null ? new HashMap<>() : getEnvironmentVariablesSDK(envVarsCFN);
+  }
+
+  private static boolean isCleared(final Collection<?> previousValue, final Collection<?> desiredValue) {
+    return desiredValue == null && CollectionUtils.isNotEmpty(previousValue);
+  }
+
   static Map<String, String> getTagsSDK(final List<Tag> tags) {
     Map<String, String> tagMap = new HashMap<>();
     for (Tag tag : tags) {
@@ -335,10 +521,4 @@ public class Translator {
     }
     return autoBranchCreationConfig.build();
   }
-
-  private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-    return Optional.ofNullable(collection)
-        .map(Collection::stream)
-        .orElseGet(Stream::empty);
-  }
 }
@@ -1,14 +1,21 @@
 package software.amazon.amplify.app;
 
+import software.amazon.amplify.common.utils.AppliedStateCache;
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.MetricsUtils;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.amplify.common.utils.PayloadUtils;
+import software.amazon.amplify.common.utils.Tracing;
 
 import com.google.common.collect.Sets;
 import org.apache.commons.collections.MapUtils;
+import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.amplify.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.amplify.model.TagResourceRequest;
 import software.amazon.awssdk.services.amplify.model.UntagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.UpdateAppRequest;
 import software.amazon.awssdk.services.amplify.model.UpdateAppResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -16,15 +23,28 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-App::Update";
+    private final AppliedStateCache appliedStates;
     private Logger logger;
 
+    public UpdateHandler() {
+        this(AppliedStateCache.fromEnvironment());
+    }
+
+    UpdateHandler(final AppliedStateCache appliedStates) {
+        this.appliedStates = appliedStates;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -36,11 +56,30 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         logger.log("INFO: requesting with model: " + model);
 
+        final String fingerprint = appliedStates.isEnabled() ? Translator.fingerprint(model) : null;
+        final String appliedReadFingerprint = appliedStates.getAppliedReadFingerprint(model.getArn(), fingerprint);
+        if (appliedReadFingerprint != null) {
+            // Own context, the read after an update must not replay this one's memoized response
+            final ProgressEvent<ResourceModel, CallbackContext> current = new ReadHandler()
+                    .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            if (current.isSuccess() && appliedReadFingerprint.equals(Translator.fingerprint(current.getResourceModel()))) {
+                logger.log("INFO: desired model matches the last applied one, skipping update");
+                MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "UpdateSkipped", 1, MetricsUtils.UNIT_COUNT);
+                return current;
+            }
+            logger.log("INFO: resource changed since the last applied update, updating");
+        }
+        appliedStates.invalidate(model.getArn());
+
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-Amplify-App::Update", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToUpdateRequest)
-                    .makeServiceCall((updateAppRequest, proxyInvocation) -> {
+                proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+                    .translateToServiceRequest(Tracing.translate(CALL_GRAPH, desiredModel -> translateToUpdateRequest(request.getPreviousResourceState(), desiredModel)))
+                    .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (updateAppRequest, proxyInvocation) -> {
+                        final long startTime = System.currentTimeMillis();
+                        // Tags are keyed by the ARN, read them while the update is in flight when it is already known
+                        final CompletableFuture<Set<Tag>> existingTagsFuture = model.getArn() == null ? null :
+                                getExistingTags(proxy, proxyInvocation.client(), model);
                         UpdateAppResponse updateAppResponse = (UpdateAppResponse) ClientWrapper.execute(
                                 proxy,
                                 updateAppRequest,
@@ -50,48 +89,80 @@ public class UpdateHandler extends BaseHandlerStd {
                                 logger
                         );
                         setResourceModelId(model, updateAppResponse.app());
-                        updateTags(proxy, proxyClient, model, convertToResourceTags(model.getTags()));
+                        updateTags(proxy, proxyInvocation.client(), model, convertToResourceTags(model.getTags()),
+                                existingTagsFuture != null ? existingTagsFuture : getExistingTags(proxy, proxyInvocation.client(), model));
+                        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "UpdateLatency",
+                                System.currentTimeMillis() - startTime, MetricsUtils.UNIT_MILLISECONDS);
                         return updateAppResponse;
-                    })
+                    }))
                     .progress()
             )
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> recordApplied(fingerprint, new ReadHandler()
+                    .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> recordApplied(
+            final String fingerprint,
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        if (fingerprint != null && progress.isSuccess()) {
+            appliedStates.record(progress.getResourceModel().getArn(), fingerprint,
+                    Translator.fingerprint(progress.getResourceModel()));
+        }
+        return progress;
+    }
+
+    private UpdateAppRequest translateToUpdateRequest(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        if (previousModel != null) {
+            Translator.getChangedProperties(previousModel, desiredModel).publish(logger, ResourceModel.TYPE_NAME);
+        }
+        final UpdateAppRequest updateAppRequest = Translator.translateToUpdateRequest(previousModel, desiredModel);
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "UpdateRequestSize",
+                PayloadUtils.estimateSize(updateAppRequest), MetricsUtils.UNIT_BYTES);
+        return updateAppRequest;
     }
 
     private void updateTags(final AmazonWebServicesClientProxy proxy,
-                            final ProxyClient<AmplifyClient> proxyClient,
+                            final AmplifyClient client,
                             final ResourceModel model,
-                            final Map<String, String> desiredTags) {
+                            final Map<String, String> desiredTags,
+                            final CompletableFuture<Set<Tag>> existingTagsFuture) {
         logger.log("INFO: Modifying Tags");
         final Set<Tag> finalTags = convertResourceTagsToSet(desiredTags);
-        final Set<Tag> existingTags = getExistingTags(proxy, proxyClient, model);
+        final Set<Tag> existingTags = ClientWrapper.join(existingTagsFuture);
 
         final Set<Tag> tagsToRemove = Sets.difference(existingTags, finalTags);
         final Set<Tag> tagsToAdd = Sets.difference(finalTags, existingTags);
+        // A changed value is overwritten by TagResource, untagging the same key concurrently would race with it
+        final Map<String, String> tags = convertToResourceTags(tagsToAdd);
+        final Collection<String> tagKeys = tagsToRemove.stream().map(Tag::getKey)
+                .filter(key -> !tags.containsKey(key)).collect(Collectors.toSet());
 
-        if (tagsToRemove.size() > 0) {
-            Collection<String> tagKeys = tagsToRemove.stream().map(Tag::getKey).collect(Collectors.toSet());
+        final List<CompletableFuture<AwsResponse>> tagUpdates = new ArrayList<>();
+        if (tagKeys.size() > 0) {
             final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder().resourceArn(model.getArn())
                     .tagKeys(tagKeys).build();
-            ClientWrapper.execute(proxy, untagResourceRequest, proxyClient.client()::untagResource, ResourceModel.TYPE_NAME, model.getAppId(), logger);
+            tagUpdates.add(ClientWrapper.executeAsync(proxy, untagResourceRequest, ClientWrapper.async(client::untagResource),
+                    ResourceModel.TYPE_NAME, model.getAppId(), logger));
         }
 
-        if (tagsToAdd.size() > 0) {
-            Map<String, String> tags = convertToResourceTags(tagsToAdd);
+        if (tags.size() > 0) {
             final TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
                     .resourceArn(model.getArn()).tags(tags).build();
-            ClientWrapper.execute(proxy, tagResourceRequest, proxyClient.client()::tagResource, ResourceModel.TYPE_NAME, model.getAppId(), logger);
+            tagUpdates.add(ClientWrapper.executeAsync(proxy, tagResourceRequest, ClientWrapper.async(client::tagResource),
+                    ResourceModel.TYPE_NAME, model.getAppId(), logger));
         }
+        ClientWrapper.join(CompletableFuture.allOf(tagUpdates.toArray(new CompletableFuture<?>[0])));
         logger.log("INFO: Successfully Updated Tags");
     }
 
-    private Set<Tag> getExistingTags(final AmazonWebServicesClientProxy proxy,
-                                     final ProxyClient<AmplifyClient> proxyClient,
-                                     final ResourceModel model) {
+    private CompletableFuture<Set<Tag>> getExistingTags(final AmazonWebServicesClientProxy proxy,
+                                                        final AmplifyClient client,
+                                                        final ResourceModel model) {
         ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsForResourceRequest(model.getArn());
-        ListTagsForResourceResponse listTagsForResourceResponse = (ListTagsForResourceResponse) ClientWrapper.execute(proxy,
-                listTagsForResourceRequest, proxyClient.client()::listTagsForResource,ResourceModel.TYPE_NAME, model.getAppId(), logger);
-        return convertResourceTagsToSet(listTagsForResourceResponse.tags());
+        return ClientWrapper.executeAsync(proxy, listTagsForResourceRequest, ClientWrapper.async(client::listTagsForResource),
+                ResourceModel.TYPE_NAME, model.getAppId(), logger)
+                .thenApply(response -> convertResourceTagsToSet(
+                        OperationJournal.withoutStamp(((ListTagsForResourceResponse) response).tags())));
     }
 
     private static Set<Tag> convertResourceTagsToSet(final Map<String, String> resourceTags) {
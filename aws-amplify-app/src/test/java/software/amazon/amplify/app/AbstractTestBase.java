@@ -51,6 +51,8 @@ public class AbstractTestBase {
           .environmentVariables(ENV_VARS_CFN)
           .build();
   protected static List<Tag> TAGS_CFN = ImmutableList.of(Tag.builder().key("foo").value("bar").build());
+  protected static String CLIENT_REQUEST_TOKEN = "dummyToken";
+  protected static String LOGICAL_RESOURCE_IDENTIFIER = "dummyLogicalId";
 
   static {
     MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
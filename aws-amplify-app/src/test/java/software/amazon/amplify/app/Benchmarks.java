@@ -0,0 +1,113 @@
+package software.amazon.amplify.app;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.amplify.common.benchmark.BenchmarkModule;
+import software.amazon.amplify.common.benchmark.HandlerBenchmark;
+import software.amazon.amplify.common.benchmark.ProjectionBenchmark;
+import software.amazon.amplify.common.utils.BackoffPolicies;
+import software.amazon.amplify.common.utils.ResponseProjection;
+import software.amazon.awssdk.services.amplify.model.App;
+import software.amazon.awssdk.services.amplify.model.CustomRule;
+import software.amazon.awssdk.services.amplify.model.ListAppsResponse;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Not a test, the module's side of BenchmarkLauncher. The benchmark, startup and native profiles pass this class to
+// the launcher, e.g. mvn -Pbenchmark test-compile exec:java -Dbenchmark=serialization from the module directory.
+public final class Benchmarks implements BenchmarkModule<ResourceModel, CallbackContext> {
+    private static final String APP_ID = "benchmarkAppId";
+
+    @Override
+    public String resourceTypeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public HandlerBenchmark.Entrypoint newEntrypoint() {
+        return new HandlerWrapper()::testEntrypoint;
+    }
+
+    @Override
+    public void overrideEndpoint(final URI endpoint) {
+        ClientBuilder.overrideEndpoint(endpoint);
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {};
+    }
+
+    @Override
+    public TypeReference<CallbackContext> callbackContextType() {
+        return new TypeReference<CallbackContext>() {};
+    }
+
+    @Override
+    public CallbackContext newCallbackContext() {
+        return new CallbackContext();
+    }
+
+    @Override
+    public Function<ResourceModel, String> fingerprint() {
+        return Translator::fingerprint;
+    }
+
+    @Override
+    public ProjectionBenchmark<ListAppsResponse, ResourceModel> projectionBenchmark() {
+        return ProjectionBenchmark.<ListAppsResponse, ResourceModel>builder()
+                .resourceTypeName(ResourceModel.TYPE_NAME)
+                .responseFactory(Benchmarks::largeApp)
+                .projection(Benchmarks::translateFirst)
+                .build();
+    }
+
+    @Override
+    public BackoffPolicies backoffPolicies() {
+        return Configuration.BACKOFF_POLICIES;
+    }
+
+    // The List handler's translation of the single item in the response
+    private static ResourceModel translateFirst(final ListAppsResponse response,
+                                                final ResponseProjection projection) {
+        final List<ResourceModel> models = new ArrayList<>(1);
+        Translator.translateFromListRequest(response, projection, models::add);
+        return models.get(0);
+    }
+
+    private static ListAppsResponse largeApp(final int entries) {
+        final StringBuilder buildSpec = new StringBuilder(
+                "version: 1\nfrontend:\n  phases:\n    build:\n      commands:\n");
+        final Map<String, String> environmentVariables = new HashMap<>();
+        final List<CustomRule> customRules = new ArrayList<>();
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < entries; i++) {
+            buildSpec.append("        - npm run build -- --step ").append(i).append('\n');
+            environmentVariables.put("VARIABLE_" + i, "value-" + i);
+            customRules.add(CustomRule.builder()
+                    .source("/source-" + i)
+                    .target("/target-" + i)
+                    .status("301")
+                    .build());
+            tags.put("key-" + i, "value-" + i);
+        }
+        return ListAppsResponse.builder()
+                .apps(App.builder()
+                        .appId(APP_ID)
+                        .appArn("arn:aws:amplify:us-east-1:123456789012:apps/" + APP_ID)
+                        .name("benchmark")
+                        .description("benchmark")
+                        .repository("https://github.com/example/benchmark")
+                        .defaultDomain(APP_ID + ".amplifyapp.com")
+                        .buildSpec(buildSpec.toString())
+                        .environmentVariables(environmentVariables)
+                        .customRules(customRules)
+                        .tags(tags)
+                        .build())
+                .build();
+    }
+}
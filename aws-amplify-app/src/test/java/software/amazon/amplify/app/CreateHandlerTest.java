@@ -1,10 +1,14 @@
 package software.amazon.amplify.app;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.amplify.common.utils.OperationJournal;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
+import software.amazon.awssdk.services.amplify.model.BadRequestException;
 import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
 import software.amazon.awssdk.services.amplify.model.CreateAppResponse;
 import software.amazon.awssdk.services.amplify.model.GetAppRequest;
@@ -28,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -175,6 +180,46 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_CreateJournaledBeforeCrashIsResumed(@TempDir final Path journalDirectory) {
+        App appMock = App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build();
+        when(proxyClient.client().createApp(any(CreateAppRequest.class)))
+                .thenReturn(CreateAppResponse.builder().app(appMock).build());
+        // The first invocation dies after the create returned, before it can hand its CallbackContext back
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenThrow(new IllegalStateException("injected crash"))
+                .thenReturn(GetAppResponse.builder().app(appMock).build());
+        final CreateHandler handler = new CreateHandler(new OperationJournal(journalDirectory, Duration.ofHours(1L)));
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, newJournaledRequest(), new CallbackContext(),
+                proxyClient, logger))
+                .hasMessage("injected crash");
+        // CloudFormation retries with the context it last received, an empty one
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                newJournaledRequest(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(APP_ARN);
+        assertThat(response.getResourceModel().getAppId()).isEqualTo(APP_ID);
+        verify(amplifyClient, times(1)).createApp(any(CreateAppRequest.class));
+        verify(amplifyClient, times(2)).getApp(any(GetAppRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RejectedCreateClearsIssuedMark() {
+        when(proxyClient.client().createApp(any(CreateAppRequest.class)))
+                .thenThrow(BadRequestException.builder().message("Invalid repository").build());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+        final CallbackContext callbackContext = new CallbackContext();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, newJournaledRequest(), callbackContext, proxyClient,
+                logger))
+                .isInstanceOf(CfnInvalidRequestException.class);
+        // The service turned the create down, a retry creates again instead of looking for an app
+        assertThat(callbackContext.isCreateIssued()).isFalse();
+        verify(amplifyClient, times(1)).createApp(any(CreateAppRequest.class));
+    }
+
     @Test
     public void handleRequest_initializeModel() {
         stubProxyClientGet();
@@ -245,6 +290,14 @@ public class CreateHandlerTest extends AbstractTestBase {
         stubProxyClient(createAppResponseMock, getAppResponseMock);
     }
 
+    private ResourceHandlerRequest<ResourceModel> newJournaledRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER)
+                .desiredResourceState(ResourceModel.builder().name(APP_NAME).build())
+                .build();
+    }
+
     private void stubProxyClientGet() {
         App appMock = App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build();
         GetAppResponse getAppResponseMock = GetAppResponse.builder().app(appMock).build();
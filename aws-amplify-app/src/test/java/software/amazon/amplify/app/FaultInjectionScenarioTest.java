@@ -0,0 +1,198 @@
+package software.amazon.amplify.app;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import software.amazon.amplify.common.faults.Fault;
+import software.amazon.amplify.common.faults.FaultInjectingAmplifyClient;
+import software.amazon.amplify.common.faults.FaultScenario;
+import software.amazon.amplify.common.faults.SimulatedClock;
+import software.amazon.amplify.common.utils.AppliedStateCache;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.App;
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
+import software.amazon.awssdk.services.amplify.model.CreateAppResponse;
+import software.amazon.awssdk.services.amplify.model.DeleteAppRequest;
+import software.amazon.awssdk.services.amplify.model.DeleteAppResponse;
+import software.amazon.awssdk.services.amplify.model.GetAppRequest;
+import software.amazon.awssdk.services.amplify.model.GetAppResponse;
+import software.amazon.awssdk.services.amplify.model.ListAppsRequest;
+import software.amazon.awssdk.services.amplify.model.ListAppsResponse;
+import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.amplify.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.amplify.model.TagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.TagResourceResponse;
+import software.amazon.awssdk.services.amplify.model.UpdateAppRequest;
+import software.amazon.awssdk.services.amplify.model.UpdateAppResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Create, Update and Delete run to completion through throttling, 5xx bursts and latency spikes scripted on the
+// Amplify client, within a budget of calls, CloudFormation retries and simulated time
+public class FaultInjectionScenarioTest extends AbstractTestBase {
+    private static final App APP = App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build();
+
+    private SimulatedClock clock;
+    private AmplifyClient amplifyClient;
+    private FaultInjectingAmplifyClient faults;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<AmplifyClient> proxyClient;
+    private FaultScenario scenario;
+
+    @BeforeEach
+    public void setup() {
+        clock = new SimulatedClock();
+        amplifyClient = mock(AmplifyClient.class);
+        faults = new FaultInjectingAmplifyClient(amplifyClient, clock);
+        // No time left to wait in process, every stabilization wait comes back as IN_PROGRESS on the simulated clock
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> 0L);
+        proxyClient = MOCK_PROXY(proxy, faults.client());
+        scenario = FaultScenario.builder().clock(clock).build();
+    }
+
+    @Test
+    public void create_CompletesThroughThrottlingBurst() {
+        when(amplifyClient.createApp(any(CreateAppRequest.class)))
+                .thenReturn(CreateAppResponse.builder().app(APP).build());
+        when(amplifyClient.getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder().app(APP).build());
+        faults.on("createApp", Fault.throttle(), Fault.throttle())
+                .on("getApp", Fault.throttle());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(APP_NAME).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getResourceModel().getArn()).isEqualTo(APP_ARN);
+        assertThat(outcome.getRetries()).isEqualTo(3);
+        // Once created the journaled ARN stands in for the create, the throttled read never creates a second app.
+        // A throttled create left nothing behind, so no retry looks for one
+        assertThat(faults.getCalls("createApp")).isEqualTo(3);
+        assertThat(faults.getCalls("listApps")).isZero();
+        assertThat(faults.getTotalCalls()).isLessThanOrEqualTo(6);
+        assertThat(outcome.getElapsed()).isLessThanOrEqualTo(Duration.ofMinutes(1L));
+    }
+
+    @Test
+    public void create_AdoptsStampedAppAfterInternalFailure() {
+        // The create failed with a 5xx after the service had created the app, stamped with the operation's key
+        final App stampedApp = APP.toBuilder()
+                .tags(Collections.singletonMap(OperationJournal.CREATE_STAMP_TAG, OperationJournal.key(
+                        ResourceModel.TYPE_NAME, LOGICAL_RESOURCE_IDENTIFIER, CLIENT_REQUEST_TOKEN)))
+                .build();
+        when(amplifyClient.listApps(any(ListAppsRequest.class)))
+                .thenReturn(ListAppsResponse.builder().apps(APP.toBuilder().appArn("other").build(), stampedApp).build());
+        when(amplifyClient.getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder().app(stampedApp).build());
+        faults.on("createApp", Fault.internalFailure());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER)
+                .desiredResourceState(ResourceModel.builder().name(APP_NAME).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        // The retry finds the app by its stamp instead of creating a second one with the same name
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getResourceModel().getArn()).isEqualTo(APP_ARN);
+        assertThat(outcome.getResourceModel().getTags()).isNull();
+        assertThat(outcome.getRetries()).isEqualTo(1);
+        assertThat(faults.getCalls("createApp")).isEqualTo(1);
+        assertThat(faults.getCalls("listApps")).isEqualTo(1);
+        assertThat(faults.getCalls("getApp")).isEqualTo(1);
+    }
+
+    @Test
+    public void create_LimitExceededFailsWithoutRetrying() {
+        faults.on("createApp", Fault.limitExceeded());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(APP_NAME).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        // A quota does not lift by retrying, the stack is told right away
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(outcome.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+        assertThat(outcome.getRetries()).isZero();
+        assertThat(faults.getCalls("createApp")).isEqualTo(1);
+        assertThat(faults.getCalls("getApp")).isZero();
+        assertThat(outcome.getElapsed()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void update_CompletesThroughInternalFailureBurstAndLatency() {
+        when(amplifyClient.updateApp(any(UpdateAppRequest.class)))
+                .thenReturn(UpdateAppResponse.builder().app(APP).build());
+        when(amplifyClient.getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder().app(APP).build());
+        when(amplifyClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        when(amplifyClient.tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+        faults.on("updateApp", Fault.internalFailure(), Fault.internalFailure(), Fault.latency(Duration.ofSeconds(40L)))
+                .on("listTagsForResource", Fault.latency(Duration.ofSeconds(10L)));
+        final UpdateHandler handler = new UpdateHandler(AppliedStateCache.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).name(APP_NAME).tags(TAGS_CFN).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getRetries()).isEqualTo(2);
+        assertThat(faults.getCalls("updateApp")).isEqualTo(3);
+        assertThat(faults.getCalls("tagResource")).isEqualTo(1);
+        assertThat(faults.getTotalCalls()).isLessThanOrEqualTo(7);
+        // Two retry delays and both latency spikes
+        assertThat(outcome.getElapsed()).isGreaterThanOrEqualTo(Duration.ofSeconds(50L))
+                .isLessThanOrEqualTo(Duration.ofMinutes(2L));
+    }
+
+    @Test
+    public void delete_CompletesThroughLatencyAndThrottledPolls() {
+        when(amplifyClient.deleteApp(any(DeleteAppRequest.class)))
+                .thenReturn(DeleteAppResponse.builder().app(APP).build());
+        when(amplifyClient.getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder().app(APP).build());
+        // Still there for two polls, a throttled one, then gone
+        faults.on("deleteApp", Fault.latency(Duration.ofSeconds(20L)))
+                .on("getApp", Fault.latency(Duration.ofSeconds(30L)), Fault.pass(), Fault.throttle(), Fault.notFound());
+        final DeleteHandler handler = new DeleteHandler(AppliedStateCache.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).arn(APP_ARN).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getRetries()).isEqualTo(1);
+        assertThat(faults.getCalls("getApp")).isEqualTo(4);
+        assertThat(faults.getTotalCalls()).isLessThanOrEqualTo(8);
+        assertThat(outcome.getInvocations()).isLessThanOrEqualTo(4);
+        assertThat(outcome.getElapsed()).isGreaterThanOrEqualTo(Duration.ofSeconds(50L))
+                .isLessThanOrEqualTo(Duration.ofMinutes(3L));
+    }
+}
@@ -1,6 +1,8 @@
 package software.amazon.amplify.app;
 
 import com.google.common.collect.ImmutableList;
+import software.amazon.amplify.common.utils.ListBudget;
+import software.amazon.amplify.common.utils.ResponseProjection;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.ListAppsRequest;
@@ -17,9 +19,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 
@@ -75,4 +80,113 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_SinglePageFetchedOnCallerThread() {
+        final ListHandler handler = new ListHandler(ListBudget.SINGLE_PAGE);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        final AtomicReference<Thread> callingThread = new AtomicReference<>();
+        when(proxyClient.client().listApps(any(ListAppsRequest.class))).thenAnswer(invocation -> {
+            callingThread.set(Thread.currentThread());
+            return listAppsPage("token2");
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("token2");
+        assertThat(callingThread.get()).isSameAs(Thread.currentThread());
+        verify(amplifyClient, times(1)).listApps(any(ListAppsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AutoPaginationStopsAtItemBudget() {
+        final ListHandler handler = new ListHandler(new ListBudget(3, Duration.ofSeconds(10L)));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        when(proxyClient.client().listApps(any(ListAppsRequest.class)))
+                .thenReturn(listAppsPage("token2"))
+                .thenReturn(listAppsPage("token3"))
+                .thenReturn(listAppsPage("token4"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getNextToken()).isEqualTo("token4");
+        verify(amplifyClient, times(3)).listApps(any(ListAppsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AutoPaginationExhaustsListing() {
+        final ListHandler handler = new ListHandler(new ListBudget(10, Duration.ofSeconds(10L)));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+
+        when(proxyClient.client().listApps(any(ListAppsRequest.class)))
+                .thenReturn(listAppsPage("token2"))
+                .thenReturn(listAppsPage(null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getNextToken()).isNull();
+        verify(amplifyClient, times(2)).listApps(any(ListAppsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SummaryProjection() {
+        final ListHandler handler = new ListHandler(ListBudget.SINGLE_PAGE, ResponseProjection.SUMMARY);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+        final ResourceModel expected = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .appName(APP_NAME)
+                .name(APP_NAME)
+                .tags(TAGS_CFN)
+                .build();
+
+        when(proxyClient.client().listApps(any(ListAppsRequest.class)))
+                .thenReturn(ListAppsResponse.builder()
+                        .apps(ImmutableList.of(App.builder()
+                                .appArn(APP_ARN)
+                                .appId(APP_ID)
+                                .name(APP_NAME)
+                                .buildSpec("version: 1")
+                                .customRules(Translator.getCustomRulesSDK(CUSTOM_RULES_CFN))
+                                .environmentVariables(Translator.getEnvironmentVariablesSDK(ENV_VARS_CFN))
+                                .tags(Translator.getTagsSDK(TAGS_CFN))
+                                .build()))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(expected);
+    }
+
+    private static ListAppsResponse listAppsPage(final String nextToken) {
+        return ListAppsResponse.builder()
+                .apps(ImmutableList.of(App.builder()
+                        .appArn(APP_ARN)
+                        .build()))
+                .nextToken(nextToken)
+                .build();
+    }
 }
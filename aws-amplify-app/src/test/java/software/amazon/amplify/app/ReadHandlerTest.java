@@ -1,7 +1,14 @@
 package software.amazon.amplify.app;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import software.amazon.amplify.common.utils.Span;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.GetAppRequest;
@@ -96,4 +103,38 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_TracesStagesAndServiceCalls() {
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder()
+                        .app(App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build())
+                        .build());
+        final List<Span> exported = new ArrayList<>();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().arn(APP_ARN).appId(APP_ID).build())
+                .build();
+
+        Tracing.install(exported::addAll);
+        try {
+            // Stands in for the span the final handleRequest opens
+            try (Span root = Tracing.startSpan("handleRequest")) {
+                root.setAttribute("cfn.handler", ReadHandler.class.getSimpleName());
+                new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            }
+        } finally {
+            Tracing.install(null);
+        }
+
+        final Map<String, Span> spans = exported.stream()
+                .collect(Collectors.toMap(Span::getName, Function.identity()));
+        assertThat(spans).containsOnlyKeys("handleRequest", "translate", "makeServiceCall", "Amplify/GetApp", "done");
+        assertThat(spans.get("makeServiceCall").getParentSpanId()).isEqualTo(spans.get("handleRequest").getSpanId());
+        assertThat(spans.get("Amplify/GetApp").getParentSpanId()).isEqualTo(spans.get("makeServiceCall").getSpanId());
+        assertThat(spans.get("Amplify/GetApp").getAttributes()).containsEntry("rpc.method", "GetApp")
+                .containsEntry("aws.resource.id", APP_ARN);
+        assertThat(spans.get("done").getAttributes()).containsEntry("cfn.call_graph", "AWS-Amplify-App::Read")
+                .containsEntry("cfn.operation_status", OperationStatus.SUCCESS);
+        assertThat(exported).allMatch(span -> span.getStatus() == Span.Status.OK);
+    }
 }
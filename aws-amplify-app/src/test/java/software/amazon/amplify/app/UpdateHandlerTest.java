@@ -1,6 +1,12 @@
 package software.amazon.amplify.app;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import software.amazon.amplify.common.utils.AppliedStateCache;
 
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
@@ -24,6 +30,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -155,6 +163,271 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(amplifyClient, never()).untagResource(any(UntagResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_OnlyChangedFieldsSent() {
+        stubProxyClientNoTags();
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .buildSpec("version: 1")
+                .customRules(CUSTOM_RULES_CFN)
+                .basicAuthConfig(BASIC_AUTH_CONFIG)
+                .environmentVariables(ENV_VARS_CFN)
+                .autoBranchCreationConfig(AUTO_BRANCH_CREATION_CONFIG)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .description("updated")
+                .buildSpec("version: 1")
+                .customRules(CUSTOM_RULES_CFN)
+                .basicAuthConfig(BASIC_AUTH_CONFIG)
+                .environmentVariables(ENV_VARS_CFN)
+                .autoBranchCreationConfig(AUTO_BRANCH_CREATION_CONFIG)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<UpdateAppRequest> captor = ArgumentCaptor.forClass(UpdateAppRequest.class);
+        verify(amplifyClient).updateApp(captor.capture());
+        final UpdateAppRequest updateAppRequest = captor.getValue();
+        assertThat(updateAppRequest.appId()).isEqualTo(APP_ID);
+        assertThat(updateAppRequest.description()).isEqualTo("updated");
+        assertThat(updateAppRequest.name()).isNull();
+        assertThat(updateAppRequest.buildSpec()).isNull();
+        assertThat(updateAppRequest.hasCustomRules()).isFalse();
+        assertThat(updateAppRequest.hasEnvironmentVariables()).isFalse();
+        assertThat(updateAppRequest.enableBasicAuth()).isNull();
+        assertThat(updateAppRequest.basicAuthCredentials()).isNull();
+        assertThat(updateAppRequest.enableAutoBranchCreation()).isNull();
+        assertThat(updateAppRequest.autoBranchCreationConfig()).isNull();
+    }
+
+    @Test
+    public void handleRequest_RemovedPropertiesCleared() {
+        stubProxyClientNoTags();
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .customRules(CUSTOM_RULES_CFN)
+                .basicAuthConfig(BASIC_AUTH_CONFIG)
+                .environmentVariables(ENV_VARS_CFN)
+                .autoBranchCreationConfig(AUTO_BRANCH_CREATION_CONFIG)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<UpdateAppRequest> captor = ArgumentCaptor.forClass(UpdateAppRequest.class);
+        verify(amplifyClient).updateApp(captor.capture());
+        final UpdateAppRequest updateAppRequest = captor.getValue();
+        assertThat(updateAppRequest.name()).isNull();
+        assertThat(updateAppRequest.hasCustomRules()).isTrue();
+        assertThat(updateAppRequest.customRules()).isEmpty();
+        assertThat(updateAppRequest.hasEnvironmentVariables()).isTrue();
+        assertThat(updateAppRequest.environmentVariables()).isEmpty();
+        assertThat(updateAppRequest.enableBasicAuth()).isFalse();
+        assertThat(updateAppRequest.basicAuthCredentials()).isNull();
+        assertThat(updateAppRequest.enableAutoBranchCreation()).isFalse();
+        assertThat(Translator.getChangedProperties(previousModel, model).getNames()).containsExactly(
+                Translator.CUSTOM_RULES, Translator.ENVIRONMENT_VARIABLES, Translator.BASIC_AUTH_CONFIG,
+                Translator.AUTO_BRANCH_CREATION_CONFIG);
+    }
+
+    @Test
+    public void handleRequest_ReorderedEnvironmentVariablesNotSent() {
+        stubProxyClientNoTags();
+        final UpdateHandler handler = new UpdateHandler();
+        final EnvironmentVariable foo = EnvironmentVariable.builder().name("foo").value("bar").build();
+        final EnvironmentVariable baz = EnvironmentVariable.builder().name("baz").value("qux").build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .environmentVariables(ImmutableList.of(foo, baz))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .environmentVariables(ImmutableList.of(baz, foo))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<UpdateAppRequest> captor = ArgumentCaptor.forClass(UpdateAppRequest.class);
+        verify(amplifyClient).updateApp(captor.capture());
+        assertThat(captor.getValue().hasEnvironmentVariables()).isFalse();
+    }
+
+    @Test
+    public void handleRequest_ChangedTagValueNotUntagged() {
+        stubProxyClientWithExistingTags(ImmutableMap.of("foo", "oldBar", "oldFoo", "oldBar"));
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder()
+                .build());
+        when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder()
+                .build());
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .tags(TAGS_CFN)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<UntagResourceRequest> untagCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        verify(amplifyClient).untagResource(untagCaptor.capture());
+        assertThat(untagCaptor.getValue().tagKeys()).containsExactly("oldFoo");
+        final ArgumentCaptor<TagResourceRequest> tagCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        verify(amplifyClient).tagResource(tagCaptor.capture());
+        assertThat(tagCaptor.getValue().tags()).containsEntry("foo", "bar");
+    }
+
+    @Test
+    public void handleRequest_AlreadyAppliedModelSkipped(@TempDir final Path appliedStateDirectory) {
+        final GetAppResponse getAppResponse = GetAppResponse.builder()
+                .app(App.builder()
+                        .appArn(APP_ARN)
+                        .appId(APP_ID)
+                        .name(APP_NAME)
+                        .build())
+                .build();
+        when(proxyClient.client().getApp(any(GetAppRequest.class))).thenReturn(getAppResponse);
+        final AppliedStateCache appliedStates = new AppliedStateCache(appliedStateDirectory, Duration.ofMinutes(15L));
+        final UpdateHandler handler = new UpdateHandler(appliedStates);
+
+        final List<EnvironmentVariable> environmentVariables = ImmutableList.of(
+                EnvironmentVariable.builder().name("foo").value("bar").build(),
+                EnvironmentVariable.builder().name("baz").value("qux").build());
+        final ResourceModel model = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .environmentVariables(environmentVariables)
+                .tags(TAGS_CFN)
+                .build();
+        // Same content in another order and with other read-only values, as a rollback would send it
+        final ResourceModel appliedModel = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .defaultDomain("dummyId.amplifyapp.com")
+                .name(APP_NAME)
+                .environmentVariables(ImmutableList.of(environmentVariables.get(1), environmentVariables.get(0)))
+                .tags(TAGS_CFN)
+                .build();
+        appliedStates.record(APP_ARN, Translator.fingerprint(appliedModel),
+                Translator.fingerprint(Translator.translateFromReadResponse(getAppResponse)));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(amplifyClient, never()).updateApp(any(UpdateAppRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AlreadyAppliedModelChangedOutOfBandUpdated(@TempDir final Path appliedStateDirectory) {
+        stubProxyClientNoTags();
+        final AppliedStateCache appliedStates = new AppliedStateCache(appliedStateDirectory, Duration.ofMinutes(15L));
+        final UpdateHandler handler = new UpdateHandler(appliedStates);
+
+        final ResourceModel model = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .description("applied")
+                .build();
+        // The update left the description in place, someone has since changed it in the console
+        final ResourceModel appliedReadModel = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .description("applied")
+                .build();
+        appliedStates.record(APP_ARN, Translator.fingerprint(model), Translator.fingerprint(appliedReadModel));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(amplifyClient).updateApp(any(UpdateAppRequest.class));
+        assertThat(appliedStates.getAppliedReadFingerprint(APP_ARN, Translator.fingerprint(model)))
+                .isEqualTo(Translator.fingerprint(response.getResourceModel()));
+    }
+
+    private void stubProxyClientNoTags() {
+        stubProxyClientWithExistingTags(null);
+    }
+
+    private void stubProxyClientWithExistingTags(final Map<String, String> existingTags) {
+        when(proxyClient.client().updateApp(any(UpdateAppRequest.class)))
+                .thenReturn(UpdateAppResponse.builder()
+                        .app(App.builder()
+                                .appArn(APP_ARN)
+                                .appId(APP_ID)
+                                .name(APP_NAME)
+                                .build())
+                        .build());
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder()
+                        .app(App.builder()
+                                .appArn(APP_ARN)
+                                .appId(APP_ID)
+                                .name(APP_NAME)
+                                .build())
+                        .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().tags(existingTags).build());
+    }
+
     private void stubProxyClient() {
         when(proxyClient.client().updateApp(any(UpdateAppRequest.class)))
                 .thenReturn(UpdateAppResponse.builder()
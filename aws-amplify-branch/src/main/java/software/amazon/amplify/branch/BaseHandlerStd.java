@@ -1,7 +1,12 @@
 package software.amazon.amplify.branch;
 
 import lombok.NonNull;
+import software.amazon.amplify.common.utils.AmplifyClientPool;
+import software.amazon.amplify.common.utils.InitWarnings;
 import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.utils.SharedHttpClient;
+import software.amazon.amplify.common.utils.Span;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -11,6 +16,11 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  // HandlerWrapper constructs the handlers while the container initializes, priming there keeps it off the first
+  // invocation. Outside Lambda it only runs when amplify.priming or AMPLIFY_PRIMING opt in, see Priming.
+  protected BaseHandlerStd() {
+    Configuration.PRIMER.prime();
+  }
 
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -18,13 +28,29 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    InitWarnings.log(logger);
+    try (Span span = Tracing.startSpan("handleRequest");
+         AmplifyClientPool.Lease lease = ClientBuilder.leaseClient(request.getRegion(), request.getAwsAccountId())) {
+      if (span.isRecording()) {
+        span.setAttribute("cfn.resource_type", ResourceModel.TYPE_NAME)
+          .setAttribute("cfn.handler", getClass().getSimpleName())
+          .setAttribute("aws.resource.arn", request.getDesiredResourceState() != null
+            ? request.getDesiredResourceState().getArn() : null);
+      }
+      final ProgressEvent<ResourceModel, CallbackContext> progress = Tracing.traced(span, () -> handleRequest(
+        proxy,
+        request,
+        callbackContext != null ? callbackContext : new CallbackContext(),
+        proxy.newProxy(lease::getClient),
+        logger
+      ));
+      span.setAttribute("cfn.operation_status", progress.getStatus());
+      if (lease.isCreated()) {
+        ClientBuilder.POOL.publishMetrics(logger, ResourceModel.TYPE_NAME);
+      }
+      SharedHttpClient.STATS.publish(logger, ResourceModel.TYPE_NAME);
+      return progress;
+    }
   }
 
   protected void setResourceModelId(@NonNull final ResourceModel model, @NonNull final Branch branch) {
@@ -0,0 +1,19 @@
+package software.amazon.amplify.branch;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+
+@Value
+@Builder
+public class BranchProvisioningResult {
+    // Copy of the model the caller passed in, with the branch's identifiers filled in
+    ResourceModel model;
+    // Number of CreateBranch calls made for this branch, including throttled ones
+    int attempts;
+    BaseHandlerException error;
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
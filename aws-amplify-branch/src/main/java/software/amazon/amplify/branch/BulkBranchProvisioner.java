@@ -0,0 +1,291 @@
+package software.amazon.amplify.branch;
+
+import lombok.Builder;
+import lombok.NonNull;
+import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.MetricsUtils;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.Branch;
+import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
+import software.amazon.awssdk.services.amplify.model.CreateBranchResponse;
+import software.amazon.awssdk.services.amplify.model.DeleteBranchRequest;
+import software.amazon.awssdk.services.amplify.model.ListBranchesResponse;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Creates or deletes many branches of one app in a single pass with one client, instead of one handler invocation per branch
+@Builder
+public class BulkBranchProvisioner {
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(1L);
+    private static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofSeconds(5L);
+    private static final int DEFAULT_MAX_SWEEPS = 60;
+
+    @NonNull
+    private final AmazonWebServicesClientProxy proxy;
+    @NonNull
+    private final AmplifyClient client;
+    @NonNull
+    private final Logger logger;
+    @Builder.Default
+    private final int parallelism = DEFAULT_PARALLELISM;
+    @Builder.Default
+    private final int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    @Builder.Default
+    private final Duration retryDelay = DEFAULT_RETRY_DELAY;
+    @Builder.Default
+    private final Duration sweepInterval = DEFAULT_SWEEP_INTERVAL;
+    @Builder.Default
+    private final int maxSweeps = DEFAULT_MAX_SWEEPS;
+    // Shared by all workers, a throttled call pauses every worker rather than only the one that was throttled
+    private final AtomicLong throttledUntil = new AtomicLong();
+
+    /**
+     * Create all branches, each branch is retried on its own when throttled
+     * @param branchModels branch models, all for the same app, they are not modified
+     * @return results in the same order as the models, each with a new model holding the created branch's arn
+     */
+    public List<BranchProvisioningResult> createBranches(@NonNull final List<ResourceModel> branchModels) {
+        if (branchModels.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<ResourceModel> models = copyOf(branchModels);
+        requireSingleApp(models);
+
+        final long startTime = System.currentTimeMillis();
+        final List<BranchProvisioningResult> results = runAll(models, this::createBranch);
+        final long succeeded = results.stream().filter(BranchProvisioningResult::isSuccess).count();
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "BulkCreateSucceeded", succeeded, MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "BulkCreateFailed", results.size() - succeeded,
+                MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "BulkCreateRetries", getRetries(results), MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "BulkCreateLatency", System.currentTimeMillis() - startTime,
+                MetricsUtils.UNIT_MILLISECONDS);
+        return results;
+    }
+
+    /**
+     * Delete all branches, then wait for them to disappear from ListBranches instead of polling each branch
+     * @param branchModels branch models, all for the same app, either appId and branchName or arn must be set, they are
+     *                     not modified
+     * @return results in the same order as the models, each with a new model holding the branch's appId and branchName
+     */
+    public List<BranchProvisioningResult> deleteBranches(@NonNull final List<ResourceModel> branchModels) {
+        if (branchModels.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<ResourceModel> models = copyOf(branchModels);
+        final Map<ResourceModel, DeleteBranchRequest> deleteBranchRequests = new IdentityHashMap<>();
+        // Translating fills in appId and branchName for models identified only by arn, so it has to come before the app check
+        models.forEach(model -> deleteBranchRequests.put(model, Translator.translateToDeleteRequest(model)));
+        requireSingleApp(models);
+
+        final long startTime = System.currentTimeMillis();
+        final List<BranchProvisioningResult> deleteResults = runAll(models,
+                model -> deleteBranch(model, deleteBranchRequests.get(model)));
+
+        // Branch name to the sweep it was first missing from the listing in
+        final Map<String, Integer> deletedInSweep = new HashMap<>();
+        final Set<String> pending = deleteResults.stream()
+                .filter(BranchProvisioningResult::isSuccess)
+                .map(result -> result.getModel().getBranchName())
+                .collect(Collectors.toCollection(HashSet::new));
+        final AtomicInteger listCalls = new AtomicInteger();
+        for (int sweep = 1; sweep <= maxSweeps && !pending.isEmpty(); sweep++) {
+            try {
+                Thread.sleep(sweepInterval.toMillis());
+                final Set<String> listedBranchNames = listBranchNames(models.get(0), listCalls);
+                final int currentSweep = sweep;
+                pending.removeIf(branchName -> {
+                    final boolean deleted = !listedBranchNames.contains(branchName);
+                    if (deleted) {
+                        deletedInSweep.put(branchName, currentSweep);
+                    }
+                    return deleted;
+                });
+                logger.log(String.format("INFO: %s DELETE sweep %d, %d branches still listed",
+                        models.get(0).getAppId(), sweep, pending.size()));
+            } catch (final CfnThrottlingException | CfnServiceLimitExceededException e) {
+                logger.log(String.format("INFO: %s DELETE sweep %d throttled, waiting for the next sweep",
+                        models.get(0).getAppId(), sweep));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        final List<BranchProvisioningResult> results = deleteResults.stream()
+                .map(result -> result.isSuccess() && pending.contains(result.getModel().getBranchName())
+                        ? failure(result.getModel(), result.getAttempts(), "delete",
+                                new CfnNotStabilizedException(ResourceModel.TYPE_NAME, result.getModel().getArn()))
+                        : result)
+                .collect(Collectors.toList());
+        publishDeleteMetrics(results, deletedInSweep, listCalls.get(), System.currentTimeMillis() - startTime);
+        return results;
+    }
+
+    private List<BranchProvisioningResult> runAll(final List<ResourceModel> models,
+                                                  final Function<ResourceModel, BranchProvisioningResult> operation) {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, models.size()));
+        try {
+            final List<CompletableFuture<BranchProvisioningResult>> futures = models.stream()
+                    .map(model -> CompletableFuture.supplyAsync(() -> operation.apply(model), executor))
+                    .collect(Collectors.toList());
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BranchProvisioningResult createBranch(final ResourceModel model) {
+        final CreateBranchRequest createBranchRequest = Translator.translateToCreateRequest(model);
+        return withRetries(model, "create", () -> {
+            final CreateBranchResponse createBranchResponse = (CreateBranchResponse) ClientWrapper.execute(
+                    proxy,
+                    createBranchRequest,
+                    client::createBranch,
+                    ResourceModel.TYPE_NAME,
+                    model.getBranchName(),
+                    logger);
+            final Branch branch = createBranchResponse.branch();
+            model.setArn(branch.branchArn());
+            model.setBranchName(branch.branchName());
+        });
+    }
+
+    private BranchProvisioningResult deleteBranch(final ResourceModel model, final DeleteBranchRequest deleteBranchRequest) {
+        return withRetries(model, "delete", () -> {
+            try {
+                ClientWrapper.execute(
+                        proxy,
+                        deleteBranchRequest,
+                        client::deleteBranch,
+                        ResourceModel.TYPE_NAME,
+                        model.getArn(),
+                        logger);
+            } catch (final CfnNotFoundException e) {
+                logger.log(String.format("INFO: %s - %s was already deleted", model.getAppId(), model.getBranchName()));
+            }
+        });
+    }
+
+    private BranchProvisioningResult withRetries(final ResourceModel model, final String operation, final Runnable call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                awaitThrottle();
+                call.run();
+                return BranchProvisioningResult.builder().model(model).attempts(attempt).build();
+            } catch (final CfnThrottlingException | CfnServiceLimitExceededException e) {
+                if (attempt >= maxAttempts) {
+                    return failure(model, attempt, operation, e);
+                }
+                final Duration delay = retryDelay.multipliedBy(1L << (attempt - 1));
+                logger.log(String.format("INFO: %s - %s throttled on attempt %d, retrying in %d ms",
+                        model.getAppId(), model.getBranchName(), attempt, delay.toMillis()));
+                throttledUntil.accumulateAndGet(System.currentTimeMillis() + delay.toMillis(), Math::max);
+            } catch (final BaseHandlerException e) {
+                return failure(model, attempt, operation, e);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return failure(model, attempt, operation, new CfnInternalFailureException(e));
+            }
+        }
+    }
+
+    private Set<String> listBranchNames(final ResourceModel model, final AtomicInteger listCalls) {
+        final Set<String> branchNames = new HashSet<>();
+        String nextToken = null;
+        do {
+            listCalls.incrementAndGet();
+            final ListBranchesResponse listBranchesResponse = (ListBranchesResponse) ClientWrapper.execute(
+                    proxy,
+                    Translator.translateToListRequest(model, nextToken),
+                    client::listBranches,
+                    ResourceModel.TYPE_NAME,
+                    model.getAppId(),
+                    logger);
+            listBranchesResponse.branches().forEach(branch -> branchNames.add(branch.branchName()));
+            nextToken = listBranchesResponse.nextToken();
+        } while (nextToken != null);
+        return branchNames;
+    }
+
+    // Results carry models of their own, the caller's models are left as they were
+    private static List<ResourceModel> copyOf(final List<ResourceModel> models) {
+        return models.stream()
+                .map(Translator::copyOf)
+                .collect(Collectors.toList());
+    }
+
+    private static void requireSingleApp(final List<ResourceModel> models) {
+        final String appId = models.get(0).getAppId();
+        if (appId == null || !models.stream().allMatch(model -> appId.equals(model.getAppId()))) {
+            throw new CfnInvalidRequestException("All branches of a bulk operation must belong to the same app");
+        }
+    }
+
+    private void awaitThrottle() throws InterruptedException {
+        final long waitMillis = throttledUntil.get() - System.currentTimeMillis();
+        if (waitMillis > 0) {
+            Thread.sleep(waitMillis);
+        }
+    }
+
+    private BranchProvisioningResult failure(final ResourceModel model,
+                                             final int attempts,
+                                             final String operation,
+                                             final BaseHandlerException e) {
+        logger.log(String.format("ERROR: %s - %s %s failed after %d attempts: %s",
+                model.getAppId(), model.getBranchName(), operation, attempts, e.getMessage()));
+        return BranchProvisioningResult.builder().model(model).attempts(attempts).error(e).build();
+    }
+
+    private void publishDeleteMetrics(final List<BranchProvisioningResult> results,
+                                      final Map<String, Integer> deletedInSweep,
+                                      final int listCalls,
+                                      final long elapsedMillis) {
+        final long succeeded = results.stream().filter(BranchProvisioningResult::isSuccess).count();
+        final int deleteCalls = results.stream().mapToInt(BranchProvisioningResult::getAttempts).sum();
+        // A per-branch poll loop needs one GetBranch per branch per sweep interval until the branch is gone
+        final int perBranchPollCalls = deletedInSweep.values().stream().mapToInt(Integer::intValue).sum();
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "BulkDeleteSucceeded", succeeded, MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "BulkDeleteFailed", results.size() - succeeded,
+                MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "BulkDeleteApiCalls", deleteCalls + listCalls,
+                MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "PerBranchDeleteApiCalls", deleteCalls + perBranchPollCalls,
+                MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "BulkDeleteLatency", elapsedMillis,
+                MetricsUtils.UNIT_MILLISECONDS);
+    }
+
+    private static int getRetries(final List<BranchProvisioningResult> results) {
+        return results.stream().mapToInt(BranchProvisioningResult::getAttempts).sum() - results.size();
+    }
+}
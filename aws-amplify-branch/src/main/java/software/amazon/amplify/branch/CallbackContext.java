@@ -1,10 +1,8 @@
 package software.amazon.amplify.branch;
 
-import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.amplify.common.utils.StabilizationCallbackContext;
 
-@lombok.Getter
-@lombok.Setter
-@lombok.ToString
+@lombok.ToString(callSuper = true)
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends StabilizationCallbackContext {
 }
@@ -1,12 +1,42 @@
 package software.amazon.amplify.branch;
 
+import software.amazon.amplify.common.utils.AmplifyClientPool;
+import software.amazon.amplify.common.utils.SharedHttpClient;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
- import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.amplify.AmplifyClientBuilder;
+
+import java.net.URI;
 
 public class ClientBuilder {
+  // Handlers lease their client from here, so a JVM driving them for many accounts and regions keeps a bounded set
+  public static final AmplifyClientPool POOL = AmplifyClientPool.fromEnvironment(SharedHttpClient.HTTP_CLIENT,
+      ClientBuilder::builder);
+
+  // Only set by the module's benchmarks, through overrideEndpoint, to point new clients at a local Amplify stand-in
+  private static volatile URI endpointOverride;
+
   public static AmplifyClient getClient() {
-    return AmplifyClient.builder()
-              .httpClient(LambdaWrapper.HTTP_CLIENT)
-              .build();
+    return builder().build();
+  }
+
+  // Credentials are injected into every request by the proxy, the account only keeps clients apart
+  public static AmplifyClientPool.Lease leaseClient(final String region, final String awsAccountId) {
+    return POOL.lease(region, awsAccountId, null);
+  }
+
+  static AmplifyClientBuilder builder() {
+    final AmplifyClientBuilder builder = AmplifyClient.builder()
+              .httpClient(SharedHttpClient.HTTP_CLIENT)
+              .overrideConfiguration(configuration -> configuration.addMetricPublisher(SharedHttpClient.STATS));
+    final URI endpoint = endpointOverride;
+    if (endpoint != null) {
+      builder.endpointOverride(endpoint);
+    }
+    return builder;
+  }
+
+  // Test-only hook, null goes back to the service endpoint for clients built from then on
+  static void overrideEndpoint(final URI endpoint) {
+    endpointOverride = endpoint;
   }
 }
@@ -1,8 +1,81 @@
 package software.amazon.amplify.branch;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.amplify.common.utils.BackoffPolicies;
+import software.amazon.amplify.common.utils.BackoffPolicy;
+import software.amazon.amplify.common.utils.Primer;
+import software.amazon.awssdk.services.amplify.model.Branch;
+import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
+import software.amazon.awssdk.services.amplify.model.ListBranchesResponse;
+
+import java.util.Collections;
+
 class Configuration extends BaseConfiguration {
+    // Stabilization backoff per handler, AMPLIFY_BACKOFF_POLICIES overrides it. Delete keeps the 5 second polls for
+    // up to 20 minutes the framework uses when a handler sets no delay.
+    static final BackoffPolicies BACKOFF_POLICIES = BackoffPolicies.fromEnvironment(BackoffPolicies.builder()
+            .policy(BackoffPolicies.DELETE, BackoffPolicy.builder()
+                    .strategy(BackoffPolicy.Strategy.CONSTANT)
+                    .minDelaySeconds(5L)
+                    .timeoutSeconds(1200L)
+                    .build())
+            .build());
+
+    private static final String PRIMING_APP_ID = "primingAppId";
+    private static final String PRIMING_BRANCH_NAME = "priming";
+    private static final String PRIMING_BRANCH_ARN =
+            "arn:aws:amplify:us-east-1:123456789012:apps/" + PRIMING_APP_ID + "/branches/" + PRIMING_BRANCH_NAME;
+
+    // Primed once when HandlerWrapper constructs the handlers, see BaseHandlerStd
+    static final Primer<ResourceModel, CallbackContext> PRIMER = Primer.<ResourceModel, CallbackContext>builder()
+            .sampleModel(Configuration::primingModel)
+            .modelType(new TypeReference<ResourceModel>() {})
+            .callbackContext(CallbackContext::new)
+            .callbackContextType(new TypeReference<CallbackContext>() {})
+            .translate(Configuration::primeTranslator)
+            .clientBuilder(ClientBuilder::builder)
+            .request((client, model) -> client.getBranch(Translator.translateToReadRequest(model)))
+            .request((client, model) -> client.createBranch(Translator.translateToCreateRequest(model)))
+            .build();
 
     public Configuration() {
         super("aws-amplify-branch.json");
     }
+
+    private static void primeTranslator(final ResourceModel model) {
+        Translator.translateToCreateRequest(model);
+        Translator.translateToUpdateRequest(model);
+        Translator.translateToDeleteRequest(model);
+        Translator.translateToListRequest(model, null);
+
+        final Branch branch = Branch.builder()
+                .appId(PRIMING_APP_ID)
+                .branchName(PRIMING_BRANCH_NAME)
+                .branchArn(PRIMING_BRANCH_ARN)
+                .stage("DEVELOPMENT")
+                .environmentVariables(Collections.singletonMap("name", "value"))
+                .tags(Collections.singletonMap("key", "value"))
+                .build();
+        Translator.translateFromReadResponse(GetBranchResponse.builder().branch(branch).build());
+        Translator.translateFromListRequest(ListBranchesResponse.builder().branches(branch).build());
+    }
+
+    private static ResourceModel primingModel() {
+        return ResourceModel.builder()
+                .appId(PRIMING_APP_ID)
+                .branchName(PRIMING_BRANCH_NAME)
+                .arn(PRIMING_BRANCH_ARN)
+                .description("priming")
+                .stage("DEVELOPMENT")
+                .enableAutoBuild(true)
+                .environmentVariables(Collections.singletonList(
+                        EnvironmentVariable.builder().name("name").value("value").build()))
+                .basicAuthConfig(BasicAuthConfig.builder()
+                        .enableBasicAuth(true)
+                        .username("priming")
+                        .password("priming")
+                        .build())
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+    }
 }
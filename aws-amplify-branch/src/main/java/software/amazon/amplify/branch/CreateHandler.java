@@ -2,9 +2,17 @@ package software.amazon.amplify.branch;
 
 import org.apache.commons.lang3.ObjectUtils;
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.Branch;
+import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
 import software.amazon.awssdk.services.amplify.model.CreateBranchResponse;
+import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -12,8 +20,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class CreateHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-Branch::Create";
+    private final OperationJournal journal;
     private Logger logger;
 
+    public CreateHandler() {
+        this(OperationJournal.fromEnvironment());
+    }
+
+    CreateHandler(final OperationJournal journal) {
+        this.journal = journal;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -28,25 +46,96 @@ public class CreateHandler extends BaseHandlerStd {
         if (model.getArn() != null) {
             throw new CfnInvalidRequestException(String.format("Attempted to provide value to a read-only property: %s", model.getArn()));
         }
+        final String journalKey = OperationJournal.key(ResourceModel.TYPE_NAME, request.getLogicalResourceIdentifier(),
+                request.getClientRequestToken());
+        journal.restore(journalKey, callbackContext);
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-Amplify-Branch::Create", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .makeServiceCall((createBranchRequest, proxyInvocation) -> {
-                        CreateBranchResponse createBranchResponse = (CreateBranchResponse) ClientWrapper.execute(
-                                proxy,
-                                createBranchRequest,
-                                proxyInvocation.client()::createBranch,
-                                ResourceModel.TYPE_NAME,
-                                model.getArn(),
-                                logger
-                        );
+                proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+                    .translateToServiceRequest(Tracing.translate(CALL_GRAPH, resourceModel ->
+                            stamp(Translator.translateToCreateRequest(resourceModel), journalKey)))
+                    .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (createBranchRequest, proxyInvocation) -> {
+                        if (callbackContext.getCreatedArn() != null) {
+                            final CreateBranchResponse createdResponse = getCreated(model, callbackContext.getCreatedArn());
+                            setResourceModelId(model, createdResponse.branch());
+                            return createdResponse;
+                        }
+                        CreateBranchResponse createBranchResponse;
+                        try {
+                            createBranchResponse = (CreateBranchResponse) ClientWrapper.execute(
+                                    proxy,
+                                    createBranchRequest,
+                                    proxyInvocation.client()::createBranch,
+                                    ResourceModel.TYPE_NAME,
+                                    model.getArn(),
+                                    logger
+                            );
+                        } catch (final BaseHandlerException e) {
+                            if (!ClientWrapper.isPossibleCreateConflict(e)) {
+                                throw e;
+                            }
+                            // A retry whose earlier create went through collides with its own branch
+                            createBranchResponse = getStampedBranch(proxy, proxyClient, model, journalKey, logger);
+                            if (createBranchResponse == null) {
+                                throw e;
+                            }
+                        }
+                        journal.recordCreated(journalKey, callbackContext, createBranchResponse.branch().branchArn());
                         setResourceModelId(model, createBranchResponse.branch());
                         return createBranchResponse;
-                    })
+                    }))
                     .progress()
                )
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler()
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger));
+    }
+
+    private static CreateBranchRequest stamp(final CreateBranchRequest createBranchRequest, final String journalKey) {
+        if (journalKey == null) {
+            return createBranchRequest;
+        }
+        return createBranchRequest.toBuilder()
+                .tags(OperationJournal.stamp(createBranchRequest.tags(), journalKey))
+                .build();
+    }
+
+    // An earlier invocation journaled the ARN of the branch it created, the read that follows fills in the rest
+    private CreateBranchResponse getCreated(final ResourceModel model, final String arn) {
+        logger.log(String.format("INFO: resuming %s %s journaled by a previous invocation", ResourceModel.TYPE_NAME, arn));
+        return CreateBranchResponse.builder()
+                .branch(Branch.builder()
+                        .branchArn(arn)
+                        .branchName(model.getBranchName())
+                        .build())
+                .build();
+    }
+
+    // The create failed with a 409 or a BadRequest. A branch stamped by this operation is the one an earlier
+    // invocation created, any other branch was there before and makes it a conflict. Null when there is no branch.
+    private CreateBranchResponse getStampedBranch(final AmazonWebServicesClientProxy proxy,
+                                                  final ProxyClient<AmplifyClient> proxyClient,
+                                                  final ResourceModel model,
+                                                  final String journalKey,
+                                                  final Logger logger) {
+        final GetBranchResponse getBranchResponse;
+        try {
+            getBranchResponse = (GetBranchResponse) ClientWrapper.execute(
+                    proxy,
+                    Translator.translateToReadRequest(model),
+                    proxyClient.client()::getBranch,
+                    ResourceModel.TYPE_NAME,
+                    model.getBranchName(),
+                    logger);
+        } catch (final CfnNotFoundException e) {
+            return null;
+        }
+        if (!OperationJournal.isStamped(getBranchResponse.branch().tags(), journalKey)) {
+            throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getBranchName());
+        }
+        logger.log(String.format("INFO: resuming %s created by a previous invocation", ResourceModel.TYPE_NAME));
+        return CreateBranchResponse.builder()
+                .branch(getBranchResponse.branch())
+                .build();
     }
 }
@@ -2,6 +2,7 @@ package software.amazon.amplify.branch;
 
 
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -11,6 +12,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-Branch::Read";
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -24,20 +26,20 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         logger.log("INFO: requesting with model: " + model);
 
-        return proxy.initiate("AWS-Amplify-Branch::Read", proxyClient, model, callbackContext)
-                .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall((getBranchRequest, proxyInvocation) -> (GetBranchResponse) ClientWrapper.execute(
+        return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+                .translateToServiceRequest(Tracing.translate(CALL_GRAPH, Translator::translateToReadRequest))
+                .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (getBranchRequest, proxyInvocation) -> (GetBranchResponse) ClientWrapper.execute(
                         proxy,
                         getBranchRequest,
                         proxyInvocation.client()::getBranch,
                         ResourceModel.TYPE_NAME,
                         model.getArn(),
                         logger
-                ))
-                .done(getBranchResponse -> {
+                )))
+                .done(Tracing.done(CALL_GRAPH, getBranchResponse -> {
                     ResourceModel modelRet = Translator.translateFromReadResponse(getBranchResponse);
                     logger.log("INFO: returning model: " + modelRet);
                     return ProgressEvent.defaultSuccessHandler(modelRet);
-                });
+                }));
     }
 }
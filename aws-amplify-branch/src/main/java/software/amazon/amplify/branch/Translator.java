@@ -1,8 +1,13 @@
 package software.amazon.amplify.branch;
 
+import lombok.NonNull;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.utils.ChangedProperties;
+import software.amazon.amplify.common.utils.ModelFingerprint;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.amplify.common.utils.ResponseProjection;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
 import software.amazon.awssdk.services.amplify.model.DeleteBranchRequest;
@@ -16,14 +21,15 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 
 /**
  * This class is a centralized placeholder for
@@ -34,6 +40,17 @@ import java.util.stream.Stream;
 
 public class Translator {
   private static final String ARN_SPLIT_KEY = "/branches/";
+  // Read-only properties from the resource schema, they never take part in what an update applies
+  private static final List<String> READ_ONLY_PROPERTIES = Arrays.asList("Arn");
+  static final String BUILD_SPEC = "BuildSpec";
+  static final String DESCRIPTION = "Description";
+  static final String ENABLE_AUTO_BUILD = "EnableAutoBuild";
+  static final String ENABLE_PERFORMANCE_MODE = "EnablePerformanceMode";
+  static final String ENABLE_PULL_REQUEST_PREVIEW = "EnablePullRequestPreview";
+  static final String PULL_REQUEST_ENVIRONMENT_NAME = "PullRequestEnvironmentName";
+  static final String STAGE = "Stage";
+  static final String ENVIRONMENT_VARIABLES = "EnvironmentVariables";
+  static final String BASIC_AUTH_CONFIG = "BasicAuthConfig";
 
   /**
    * Request to create a resource
@@ -89,30 +106,7 @@ public class Translator {
    * @return model resource model
    */
   static ResourceModel translateFromReadResponse(final GetBranchResponse getBranchResponse) {
-    final Branch branch = getBranchResponse.branch();
-
-    ResourceModel.ResourceModelBuilder branchModelBuilder = ResourceModel.builder()
-            .appId(ArnUtils.getAppId(branch.branchArn(), ARN_SPLIT_KEY))
-            .arn(branch.branchArn())
-            .branchName(branch.branchName())
-            .buildSpec(branch.buildSpec())
-            .description(branch.description())
-            .enableAutoBuild(branch.enableAutoBuild())
-            .enablePerformanceMode(branch.enablePerformanceMode())
-            .enablePullRequestPreview(branch.enablePullRequestPreview())
-            .pullRequestEnvironmentName(branch.pullRequestEnvironmentName())
-            .stage(branch.stageAsString());
-
-    Map<String, String> branchEnvVars = branch.environmentVariables();
-    if (MapUtils.isNotEmpty(branchEnvVars)) {
-      branchModelBuilder.environmentVariables(getEnvironmentVariablesCFN(branchEnvVars));
-    }
-
-    Map<String, String> branchTags = branch.tags();
-    if (MapUtils.isNotEmpty(branchTags)) {
-      branchModelBuilder.tags(getTagsCFN(branchTags));
-    }
-    return branchModelBuilder.build();
+    return translateFromBranch(getBranchResponse.branch(), ResponseProjection.FULL);
   }
 
   /**
@@ -158,6 +152,112 @@ public class Translator {
     return updateBranchRequest.build();
   }
 
+  /**
+   * Request to update only the properties that changed since the previous resource state
+   * @param previousModel resource model of the previous template, full request is built when absent
+   * @param model desired or read resource model
+   * @return updateBranchRequest the aws service request to modify a resource
+   */
+  static UpdateBranchRequest translateToUpdateRequest(final ResourceModel previousModel, final ResourceModel model) {
+    if (previousModel == null) {
+      return translateToUpdateRequest(model);
+    }
+    initializeModel(model);
+    final ChangedProperties changedProperties = getChangedProperties(previousModel, model);
+    final UpdateBranchRequest.Builder updateBranchRequest = UpdateBranchRequest.builder()
+            .appId(model.getAppId())
+            .branchName(model.getBranchName());
+
+    if (changedProperties.contains(BUILD_SPEC)) {
+      updateBranchRequest.buildSpec(model.getBuildSpec());
+    }
+    if (changedProperties.contains(DESCRIPTION)) {
+      updateBranchRequest.description(model.getDescription());
+    }
+    if (changedProperties.contains(ENABLE_AUTO_BUILD)) {
+      updateBranchRequest.enableAutoBuild(model.getEnableAutoBuild());
+    }
+    if (changedProperties.contains(ENABLE_PERFORMANCE_MODE)) {
+      updateBranchRequest.enablePerformanceMode(model.getEnablePerformanceMode());
+    }
+    if (changedProperties.contains(ENABLE_PULL_REQUEST_PREVIEW)) {
+      updateBranchRequest.enablePullRequestPreview(model.getEnablePullRequestPreview());
+    }
+    if (changedProperties.contains(PULL_REQUEST_ENVIRONMENT_NAME)) {
+      updateBranchRequest.pullRequestEnvironmentName(model.getPullRequestEnvironmentName());
+    }
+    if (changedProperties.contains(STAGE)) {
+      updateBranchRequest.stage(model.getStage());
+    }
+    // Amplify replaces the whole variable map, so removals are expressed by sending the remaining set
+    if (changedProperties.contains(ENVIRONMENT_VARIABLES)) {
+      updateBranchRequest.environmentVariables(getEnvironmentVariablesOrEmpty(model.getEnvironmentVariables()));
+    }
+    if (changedProperties.contains(BASIC_AUTH_CONFIG)) {
+      BasicAuthConfig basicAuthConfig = model.getBasicAuthConfig();
+      if (basicAuthConfig != null && Boolean.TRUE.equals(basicAuthConfig.getEnableBasicAuth())) {
+        updateBranchRequest.enableBasicAuth(true);
+        updateBranchRequest.basicAuthCredentials(getBasicAuthCredentialsSDK(basicAuthConfig));
+      } else {
+        updateBranchRequest.enableBasicAuth(false);
+      }
+    }
+    return updateBranchRequest.build();
+  }
+
+  /**
+   * Compares the previous and desired resource models property by property
+   * @param previousModel resource model of the previous template
+   * @param model desired or read resource model
+   * @return names of the properties an update request has to carry
+   */
+  static ChangedProperties getChangedProperties(@NonNull final ResourceModel previousModel, @NonNull final ResourceModel model) {
+    final ChangedProperties changedProperties = new ChangedProperties()
+            .addIfChanged(BUILD_SPEC, previousModel.getBuildSpec(), model.getBuildSpec())
+            .addIfChanged(DESCRIPTION, previousModel.getDescription(), model.getDescription())
+            .addIfChanged(ENABLE_AUTO_BUILD, previousModel.getEnableAutoBuild(), model.getEnableAutoBuild())
+            .addIfChanged(ENABLE_PERFORMANCE_MODE, previousModel.getEnablePerformanceMode(),
+                    model.getEnablePerformanceMode())
+            .addIfChanged(ENABLE_PULL_REQUEST_PREVIEW, previousModel.getEnablePullRequestPreview(),
+                    model.getEnablePullRequestPreview())
+            .addIfChanged(PULL_REQUEST_ENVIRONMENT_NAME, previousModel.getPullRequestEnvironmentName(),
+                    model.getPullRequestEnvironmentName())
+            .addIfChanged(STAGE, previousModel.getStage(), model.getStage());
+    // Variables are compared as maps so reordering them in the template is not an update
+    if (!getEnvironmentVariablesOrEmpty(previousModel.getEnvironmentVariables())
+            .equals(getEnvironmentVariablesOrEmpty(model.getEnvironmentVariables()))) {
+      changedProperties.add(ENVIRONMENT_VARIABLES);
+    }
+    if (isBasicAuthEnabled(previousModel.getBasicAuthConfig()) != isBasicAuthEnabled(model.getBasicAuthConfig()) ||
+            (isBasicAuthEnabled(model.getBasicAuthConfig()) &&
+                    !Objects.equals(previousModel.getBasicAuthConfig(), model.getBasicAuthConfig()))) {
+      changedProperties.add(BASIC_AUTH_CONFIG);
+    }
+    return changedProperties;
+  }
+
+  /**
+   * Summarizes which environment variables an update adds, removes or modifies, values are never included
+   * @param previousModel resource model of the previous template
+   * @param model desired or read resource model
+   * @return summary of environment variable names by kind of change
+   */
+  static String getEnvironmentVariablesChangeSummary(@NonNull final ResourceModel previousModel, @NonNull final ResourceModel model) {
+    final Map<String, String> previousEnvVars = getEnvironmentVariablesOrEmpty(previousModel.getEnvironmentVariables());
+    final Map<String, String> envVars = getEnvironmentVariablesOrEmpty(model.getEnvironmentVariables());
+    final Set<String> added = new TreeSet<>(envVars.keySet());
+    added.removeAll(previousEnvVars.keySet());
+    final Set<String> removed = new TreeSet<>(previousEnvVars.keySet());
+    removed.removeAll(envVars.keySet());
+    final Set<String> modified = new TreeSet<>();
+    envVars.forEach((name, value) -> {
+      if (previousEnvVars.containsKey(name) && !Objects.equals(previousEnvVars.get(name), value)) {
+        modified.add(name);
+      }
+    });
+    return String.format("added=%s, removed=%s, modified=%s", added, removed, modified);
+  }
+
   /**
    * Request to list resources
    * @param nextToken token passed to the aws service list resources request
@@ -176,11 +276,32 @@ public class Translator {
    * @return list of resource models
    */
   static List<ResourceModel> translateFromListRequest(final ListBranchesResponse listBranchesResponse) {
-    return streamOfOrEmpty(listBranchesResponse.branches())
-        .map(resource -> ResourceModel.builder()
-            .arn(resource.branchArn())
-            .build())
-        .collect(Collectors.toList());
+    final List<ResourceModel> models = new ArrayList<>(listBranchesResponse.branches().size());
+    translateFromListRequest(listBranchesResponse, models::add);
+    return models;
+  }
+
+  /**
+   * Translates resource objects from sdk into resource models one at a time, without intermediate collections
+   * @param listBranchesResponse the aws service describe resource response
+   * @param sink receives each resource model in listing order
+   */
+  static void translateFromListRequest(final ListBranchesResponse listBranchesResponse, final Consumer<ResourceModel> sink) {
+    translateFromListRequest(listBranchesResponse, ResponseProjection.IDENTIFIERS, sink);
+  }
+
+  /**
+   * Translates resource objects from sdk into resource models with only the properties of the projection
+   * @param listBranchesResponse the aws service describe resource response
+   * @param projection how much of each branch the models carry
+   * @param sink receives each resource model in listing order
+   */
+  static void translateFromListRequest(final ListBranchesResponse listBranchesResponse,
+                                       final ResponseProjection projection,
+                                       final Consumer<ResourceModel> sink) {
+    for (final Branch branch : listBranchesResponse.branches()) {
+      sink.accept(translateFromBranch(branch, projection));
+    }
   }
 
   /**
@@ -194,9 +315,83 @@ public class Translator {
             .build();
   }
 
+  /**
+   * Content hash of what an update with this model applies, see ModelFingerprint
+   * @param model desired or read resource model
+   * @return fingerprint of the model without its read-only properties
+   */
+  static String fingerprint(final ResourceModel model) {
+    return ModelFingerprint.of(model, READ_ONLY_PROPERTIES);
+  }
+
+  /**
+   * Copy of the model, for callers that fill in a model they were given without changing the caller's one
+   * @param model resource model
+   * @return new model with the same properties, lists are shared with the given model
+   */
+  static ResourceModel copyOf(final ResourceModel model) {
+    return ResourceModel.builder()
+            .appId(model.getAppId())
+            .arn(model.getArn())
+            .basicAuthConfig(model.getBasicAuthConfig())
+            .branchName(model.getBranchName())
+            .buildSpec(model.getBuildSpec())
+            .description(model.getDescription())
+            .enableAutoBuild(model.getEnableAutoBuild())
+            .enablePerformanceMode(model.getEnablePerformanceMode())
+            .enablePullRequestPreview(model.getEnablePullRequestPreview())
+            .environmentVariables(model.getEnvironmentVariables())
+            .pullRequestEnvironmentName(model.getPullRequestEnvironmentName())
+            .stage(model.getStage())
+            .tags(model.getTags())
+            .build();
+  }
+
   /*
    * Helpers
    */
+  private static ResourceModel translateFromBranch(final Branch branch, final ResponseProjection projection) {
+    ResourceModel.ResourceModelBuilder branchModelBuilder = ResourceModel.builder()
+            .arn(branch.branchArn());
+    if (!projection.includes(ResponseProjection.SUMMARY)) {
+      return branchModelBuilder.build();
+    }
+
+    branchModelBuilder
+            .appId(ArnUtils.getAppId(branch.branchArn(), ARN_SPLIT_KEY))
+            .branchName(branch.branchName())
+            .description(branch.description())
+            .enableAutoBuild(branch.enableAutoBuild())
+            .enablePerformanceMode(branch.enablePerformanceMode())
+            .enablePullRequestPreview(branch.enablePullRequestPreview())
+            .pullRequestEnvironmentName(branch.pullRequestEnvironmentName())
+            .stage(branch.stageAsString());
+
+    Map<String, String> branchTags = OperationJournal.withoutStamp(branch.tags());
+    if (MapUtils.isNotEmpty(branchTags)) {
+      branchModelBuilder.tags(getTagsCFN(branchTags));
+    }
+    if (!projection.includes(ResponseProjection.FULL)) {
+      return branchModelBuilder.build();
+    }
+
+    branchModelBuilder.buildSpec(branch.buildSpec());
+
+    Map<String, String> branchEnvVars = branch.environmentVariables();
+    if (MapUtils.isNotEmpty(branchEnvVars)) {
+      branchModelBuilder.environmentVariables(getEnvironmentVariablesCFN(branchEnvVars));
+    }
+    return branchModelBuilder.build();
+  }
+
+  private static boolean isBasicAuthEnabled(final BasicAuthConfig basicAuthConfig) {
+    return basicAuthConfig != null && Boolean.TRUE.equals(basicAuthConfig.getEnableBasicAuth());
+  }
+
+  private static Map<String, String> getEnvironmentVariablesOrEmpty(final List<EnvironmentVariable> envVarsCFN) {
+    return envVarsCFN == null ? new HashMap<>() : getEnvironmentVariablesSDK(envVarsCFN);
+  }
+
   private static void initializeModel(ResourceModel model) {
     if (model.getAppId() == null || model.getBranchName() == null) {
       String arn = model.getArn();
@@ -246,10 +441,4 @@ public class Translator {
     final String userInfo = String.format("%s:%s", basicAuthConfig.getUsername(), basicAuthConfig.getPassword());
     return Base64.getEncoder().encodeToString(userInfo.getBytes(StandardCharsets.UTF_8));
   }
-
-  static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-    return Optional.ofNullable(collection)
-        .map(Collection::stream)
-        .orElseGet(Stream::empty);
-  }
 }
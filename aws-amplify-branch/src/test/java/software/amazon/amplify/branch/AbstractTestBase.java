@@ -33,6 +33,8 @@ public class AbstractTestBase {
           .password("dummyPass")
           .build();
   protected static List<Tag> TAGS_CFN = ImmutableList.of(Tag.builder().key("foo").value("bar").build());
+  protected static String CLIENT_REQUEST_TOKEN = "dummyToken";
+  protected static String LOGICAL_RESOURCE_IDENTIFIER = "dummyLogicalId";
 
 
   static {
@@ -0,0 +1,217 @@
+package software.amazon.amplify.branch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.Branch;
+import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
+import software.amazon.awssdk.services.amplify.model.CreateBranchResponse;
+import software.amazon.awssdk.services.amplify.model.DeleteBranchRequest;
+import software.amazon.awssdk.services.amplify.model.DeleteBranchResponse;
+import software.amazon.awssdk.services.amplify.model.GetBranchRequest;
+import software.amazon.awssdk.services.amplify.model.LimitExceededException;
+import software.amazon.awssdk.services.amplify.model.ListBranchesRequest;
+import software.amazon.awssdk.services.amplify.model.ListBranchesResponse;
+import software.amazon.awssdk.services.amplify.model.NotFoundException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkBranchProvisionerTest extends AbstractTestBase {
+    private static final int BRANCH_COUNT = 50;
+    private static final String THROTTLED_BRANCH_NAME = "branch-7";
+
+    private AmplifyClient sdkClient;
+    private BulkBranchProvisioner provisioner;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
+                () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(AmplifyClient.class);
+        provisioner = BulkBranchProvisioner.builder()
+                .proxy(proxy)
+                .client(sdkClient)
+                .logger(logger)
+                .parallelism(4)
+                .maxAttempts(3)
+                .retryDelay(Duration.ofMillis(1L))
+                .sweepInterval(Duration.ofMillis(1L))
+                .maxSweeps(3)
+                .build();
+    }
+
+    @Test
+    public void createBranches_SimpleSuccess() {
+        when(sdkClient.createBranch(any(CreateBranchRequest.class)))
+                .thenAnswer(invocation -> createBranchResponse(invocation.getArgument(0)));
+
+        final List<ResourceModel> models = branchModels();
+        final List<BranchProvisioningResult> results = provisioner.createBranches(models);
+
+        assertThat(results).hasSize(BRANCH_COUNT);
+        assertThat(results).allMatch(BranchProvisioningResult::isSuccess);
+        assertThat(results.get(0).getModel().getArn()).isEqualTo(branchArn("branch-0"));
+        assertThat(results.get(0).getModel()).isNotSameAs(models.get(0));
+        assertThat(models).allMatch(model -> model.getArn() == null);
+        assertThat(results.get(BRANCH_COUNT - 1).getModel().getBranchName()).isEqualTo("branch-" + (BRANCH_COUNT - 1));
+        verify(sdkClient, times(BRANCH_COUNT)).createBranch(any(CreateBranchRequest.class));
+    }
+
+    @Test
+    public void createBranches_ThrottledBranchRetried() {
+        final AtomicInteger throttledCalls = new AtomicInteger();
+        when(sdkClient.createBranch(any(CreateBranchRequest.class))).thenAnswer(invocation -> {
+            final CreateBranchRequest createBranchRequest = invocation.getArgument(0);
+            if (THROTTLED_BRANCH_NAME.equals(createBranchRequest.branchName()) && throttledCalls.getAndIncrement() == 0) {
+                throw LimitExceededException.builder().message("Rate exceeded").build();
+            }
+            return createBranchResponse(createBranchRequest);
+        });
+
+        final List<BranchProvisioningResult> results = provisioner.createBranches(branchModels());
+
+        assertThat(results).allMatch(BranchProvisioningResult::isSuccess);
+        assertThat(results.get(7).getAttempts()).isEqualTo(2);
+        assertThat(results.get(0).getAttempts()).isEqualTo(1);
+        verify(sdkClient, times(BRANCH_COUNT + 1)).createBranch(any(CreateBranchRequest.class));
+    }
+
+    @Test
+    public void createBranches_RetriesExhausted() {
+        when(sdkClient.createBranch(any(CreateBranchRequest.class))).thenAnswer(invocation -> {
+            final CreateBranchRequest createBranchRequest = invocation.getArgument(0);
+            if (THROTTLED_BRANCH_NAME.equals(createBranchRequest.branchName())) {
+                throw LimitExceededException.builder().message("Rate exceeded").build();
+            }
+            return createBranchResponse(createBranchRequest);
+        });
+
+        final List<BranchProvisioningResult> results = provisioner.createBranches(branchModels());
+
+        final BranchProvisioningResult throttled = results.get(7);
+        assertThat(throttled.isSuccess()).isFalse();
+        assertThat(throttled.getAttempts()).isEqualTo(3);
+        assertThat(throttled.getError()).isInstanceOf(CfnServiceLimitExceededException.class);
+        assertThat(results.stream().filter(BranchProvisioningResult::isSuccess).count()).isEqualTo(BRANCH_COUNT - 1);
+    }
+
+    @Test
+    public void createBranches_DifferentAppsRejected() {
+        final List<ResourceModel> models = branchModels();
+        models.get(1).setAppId("otherAppId");
+
+        assertThatThrownBy(() -> provisioner.createBranches(models)).isInstanceOf(CfnInvalidRequestException.class);
+    }
+
+    @Test
+    public void deleteBranches_SweepsUntilGone() {
+        when(sdkClient.deleteBranch(any(DeleteBranchRequest.class)))
+                .thenReturn(DeleteBranchResponse.builder().build());
+        when(sdkClient.listBranches(any(ListBranchesRequest.class)))
+                .thenReturn(ListBranchesResponse.builder()
+                        .branches(Branch.builder().branchName("branch-3").build(),
+                                Branch.builder().branchName("unrelated").build())
+                        .build())
+                .thenReturn(ListBranchesResponse.builder()
+                        .branches(Branch.builder().branchName("unrelated").build())
+                        .build());
+
+        final List<BranchProvisioningResult> results = provisioner.deleteBranches(branchModels());
+
+        assertThat(results).hasSize(BRANCH_COUNT);
+        assertThat(results).allMatch(BranchProvisioningResult::isSuccess);
+        verify(sdkClient, times(BRANCH_COUNT)).deleteBranch(any(DeleteBranchRequest.class));
+        verify(sdkClient, times(2)).listBranches(any(ListBranchesRequest.class));
+        verify(sdkClient, never()).getBranch(any(GetBranchRequest.class));
+    }
+
+    @Test
+    public void deleteBranches_ArnOnlyModelsNotModified() {
+        when(sdkClient.deleteBranch(any(DeleteBranchRequest.class)))
+                .thenReturn(DeleteBranchResponse.builder().build());
+        when(sdkClient.listBranches(any(ListBranchesRequest.class)))
+                .thenReturn(ListBranchesResponse.builder().build());
+        final List<ResourceModel> models = IntStream.range(0, BRANCH_COUNT)
+                .mapToObj(i -> ResourceModel.builder().arn(branchArn("branch-" + i)).build())
+                .collect(Collectors.toList());
+
+        final List<BranchProvisioningResult> results = provisioner.deleteBranches(models);
+
+        assertThat(results).allMatch(BranchProvisioningResult::isSuccess);
+        assertThat(results.get(0).getModel().getAppId()).isEqualTo(APP_ID);
+        assertThat(results.get(0).getModel().getBranchName()).isEqualTo("branch-0");
+        assertThat(models).allMatch(model -> model.getAppId() == null && model.getBranchName() == null);
+    }
+
+    @Test
+    public void deleteBranches_AlreadyDeletedSucceeds() {
+        when(sdkClient.deleteBranch(any(DeleteBranchRequest.class)))
+                .thenThrow(NotFoundException.builder().message("Branch not found").build());
+        when(sdkClient.listBranches(any(ListBranchesRequest.class)))
+                .thenReturn(ListBranchesResponse.builder().build());
+
+        final List<BranchProvisioningResult> results = provisioner.deleteBranches(branchModels());
+
+        assertThat(results).allMatch(BranchProvisioningResult::isSuccess);
+        verify(sdkClient, times(1)).listBranches(any(ListBranchesRequest.class));
+    }
+
+    @Test
+    public void deleteBranches_NotStabilized() {
+        when(sdkClient.deleteBranch(any(DeleteBranchRequest.class)))
+                .thenReturn(DeleteBranchResponse.builder().build());
+        when(sdkClient.listBranches(any(ListBranchesRequest.class)))
+                .thenReturn(ListBranchesResponse.builder()
+                        .branches(Branch.builder().branchName(THROTTLED_BRANCH_NAME).build())
+                        .build());
+
+        final List<BranchProvisioningResult> results = provisioner.deleteBranches(branchModels());
+
+        assertThat(results.get(7).isSuccess()).isFalse();
+        assertThat(results.get(7).getError()).isInstanceOf(CfnNotStabilizedException.class);
+        assertThat(results.stream().filter(BranchProvisioningResult::isSuccess).count()).isEqualTo(BRANCH_COUNT - 1);
+        verify(sdkClient, times(3)).listBranches(any(ListBranchesRequest.class));
+    }
+
+    private static List<ResourceModel> branchModels() {
+        return IntStream.range(0, BRANCH_COUNT)
+                .mapToObj(i -> ResourceModel.builder()
+                        .appId(APP_ID)
+                        .branchName("branch-" + i)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static CreateBranchResponse createBranchResponse(final CreateBranchRequest createBranchRequest) {
+        return CreateBranchResponse.builder()
+                .branch(Branch.builder()
+                        .branchArn(branchArn(createBranchRequest.branchName()))
+                        .branchName(createBranchRequest.branchName())
+                        .build())
+                .build();
+    }
+
+    private static String branchArn(final String branchName) {
+        return String.format("arn:aws:amplify:region:accountId:apps/%s/branches/%s", APP_ID, branchName);
+    }
+}
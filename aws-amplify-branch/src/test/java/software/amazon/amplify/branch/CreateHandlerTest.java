@@ -1,11 +1,16 @@
 package software.amazon.amplify.branch;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.amplify.common.utils.OperationJournal;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
+import software.amazon.awssdk.services.amplify.model.BadRequestException;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
 import software.amazon.awssdk.services.amplify.model.CreateBranchResponse;
@@ -13,6 +18,7 @@ import software.amazon.awssdk.services.amplify.model.GetAppRequest;
 import software.amazon.awssdk.services.amplify.model.GetAppResponse;
 import software.amazon.awssdk.services.amplify.model.GetBranchRequest;
 import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -24,12 +30,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -134,6 +142,88 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ConflictWithStampedBranchIsResumed() {
+        // An earlier invocation's create went through but its response was lost, the branch carries its stamp
+        final String journalKey = OperationJournal.key(ResourceModel.TYPE_NAME, LOGICAL_RESOURCE_IDENTIFIER,
+                CLIENT_REQUEST_TOKEN);
+        Branch branchMock = Branch.builder()
+                .branchArn(BRANCH_ARN)
+                .branchName(BRANCH_NAME)
+                .tags(Collections.singletonMap(OperationJournal.CREATE_STAMP_TAG, journalKey))
+                .build();
+        when(proxyClient.client().createBranch(any(CreateBranchRequest.class)))
+                .thenThrow(newConflict());
+        when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(branchMock).build());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                newJournaledRequest(), new CallbackContext(), proxyClient, logger);
+
+        // The stamp is not part of the model
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(BRANCH_ARN);
+        assertThat(response.getResourceModel().getTags()).isNull();
+        verify(sdkClient, times(1)).createBranch(any(CreateBranchRequest.class));
+        verify(sdkClient, times(2)).getBranch(any(GetBranchRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ConflictWithUnstampedBranchFailsWithAlreadyExists() {
+        Branch branchMock = Branch.builder().branchArn(BRANCH_ARN).branchName(BRANCH_NAME).build();
+        when(proxyClient.client().createBranch(any(CreateBranchRequest.class)))
+                .thenThrow(newConflict());
+        when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(branchMock).build());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, newJournaledRequest(), new CallbackContext(),
+                proxyClient, logger))
+                .isInstanceOf(CfnAlreadyExistsException.class);
+        verify(sdkClient, times(1)).createBranch(any(CreateBranchRequest.class));
+        verify(sdkClient, times(1)).getBranch(any(GetBranchRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CreateRequestIsStamped() {
+        stubProxyClient();
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+
+        handler.handleRequest(proxy, newJournaledRequest(), new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<CreateBranchRequest> createBranchRequest = ArgumentCaptor.forClass(CreateBranchRequest.class);
+        verify(sdkClient).createBranch(createBranchRequest.capture());
+        assertThat(createBranchRequest.getValue().tags()).containsEntry(OperationJournal.CREATE_STAMP_TAG,
+                OperationJournal.key(ResourceModel.TYPE_NAME, LOGICAL_RESOURCE_IDENTIFIER, CLIENT_REQUEST_TOKEN));
+        verify(sdkClient, times(1)).getBranch(any(GetBranchRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CreateJournaledBeforeCrashIsResumed(@TempDir final Path journalDirectory) {
+        Branch branchMock = Branch.builder().branchArn(BRANCH_ARN).branchName(BRANCH_NAME).build();
+        when(proxyClient.client().createBranch(any(CreateBranchRequest.class)))
+                .thenReturn(CreateBranchResponse.builder().branch(branchMock).build());
+        // The first invocation dies after the create returned, before it can hand its CallbackContext back
+        when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
+                .thenThrow(new IllegalStateException("injected crash"))
+                .thenReturn(GetBranchResponse.builder().branch(branchMock).build());
+        final CreateHandler handler = new CreateHandler(new OperationJournal(journalDirectory, Duration.ofHours(1L)));
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, newJournaledRequest(), new CallbackContext(),
+                proxyClient, logger))
+                .hasMessage("injected crash");
+        // CloudFormation retries with the context it last received, an empty one
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                newJournaledRequest(), new CallbackContext(), proxyClient, logger);
+
+        // The journaled ARN stands in for the second create
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(BRANCH_ARN);
+        verify(sdkClient, times(1)).createBranch(any(CreateBranchRequest.class));
+        verify(sdkClient, times(2)).getBranch(any(GetBranchRequest.class));
+    }
+
     @Test
     public void handleRequest_initializeModel() {
         stubProxyClientGet();
@@ -175,6 +265,20 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .hasMessageContaining("Attempted to provide value to a read-only property");
     }
 
+    private static BadRequestException newConflict() {
+        return BadRequestException.builder()
+                .message(String.format("Branch %s already exists", BRANCH_NAME))
+                .build();
+    }
+
+    private ResourceHandlerRequest<ResourceModel> newJournaledRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER)
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).branchName(BRANCH_NAME).build())
+                .build();
+    }
+
     private void stubProxyClientGet() {
         Branch branchMock = Branch.builder().branchArn(BRANCH_ARN).branchName(BRANCH_NAME).build();
         GetBranchResponse getBranchResponseMock = GetBranchResponse.builder().branch(branchMock).build();
@@ -0,0 +1,184 @@
+package software.amazon.amplify.branch;
+
+import java.time.Duration;
+
+import software.amazon.amplify.common.faults.Fault;
+import software.amazon.amplify.common.faults.FaultInjectingAmplifyClient;
+import software.amazon.amplify.common.faults.FaultScenario;
+import software.amazon.amplify.common.faults.SimulatedClock;
+import software.amazon.amplify.common.utils.AppliedStateCache;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.Branch;
+import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
+import software.amazon.awssdk.services.amplify.model.CreateBranchResponse;
+import software.amazon.awssdk.services.amplify.model.DeleteBranchRequest;
+import software.amazon.awssdk.services.amplify.model.DeleteBranchResponse;
+import software.amazon.awssdk.services.amplify.model.GetBranchRequest;
+import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
+import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.amplify.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.amplify.model.UpdateBranchRequest;
+import software.amazon.awssdk.services.amplify.model.UpdateBranchResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Create, Update and Delete run to completion through throttling, 5xx bursts and latency spikes, within a budget of
+// calls, CloudFormation retries and simulated time, and a create that collides with an existing branch never adopts it
+public class FaultInjectionScenarioTest extends AbstractTestBase {
+    private static final Branch BRANCH = Branch.builder().branchArn(BRANCH_ARN).branchName(BRANCH_NAME).build();
+
+    private SimulatedClock clock;
+    private AmplifyClient sdkClient;
+    private FaultInjectingAmplifyClient faults;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<AmplifyClient> proxyClient;
+    private FaultScenario scenario;
+
+    @BeforeEach
+    public void setup() {
+        clock = new SimulatedClock();
+        sdkClient = mock(AmplifyClient.class);
+        faults = new FaultInjectingAmplifyClient(sdkClient, clock);
+        // No time left to wait in process, every stabilization wait comes back as IN_PROGRESS on the simulated clock
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> 0L);
+        proxyClient = MOCK_PROXY(proxy, faults.client());
+        scenario = FaultScenario.builder().clock(clock).build();
+    }
+
+    @Test
+    public void create_RetriesThrottledCreateWithoutProbing() {
+        when(sdkClient.createBranch(any(CreateBranchRequest.class)))
+                .thenReturn(CreateBranchResponse.builder().branch(BRANCH).build());
+        when(sdkClient.getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(BRANCH).build());
+        faults.on("createBranch", Fault.throttle(), Fault.latency(Duration.ofSeconds(25L)));
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, newCreateRequest(), context, proxyClient, logger));
+
+        // The throttled create left nothing behind, the retry creates again and only the final read gets the branch
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getResourceModel().getArn()).isEqualTo(BRANCH_ARN);
+        assertThat(outcome.getRetries()).isEqualTo(1);
+        assertThat(faults.getCalls("createBranch")).isEqualTo(2);
+        assertThat(faults.getCalls("getBranch")).isEqualTo(1);
+        assertThat(faults.getTotalCalls()).isEqualTo(3);
+        assertThat(outcome.getElapsed()).isGreaterThanOrEqualTo(Duration.ofSeconds(25L))
+                .isLessThanOrEqualTo(Duration.ofMinutes(1L));
+    }
+
+    @Test
+    public void create_ThrottledCreateOfExistingBranchFailsWithAlreadyExists() {
+        // The branch was there before the stack, it carries no stamp of this operation
+        when(sdkClient.getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(BRANCH).build());
+        faults.on("createBranch", Fault.throttle(), Fault.conflict());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, newCreateRequest(), context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(outcome.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(outcome.getRetries()).isEqualTo(1);
+        assertThat(faults.getCalls("createBranch")).isEqualTo(2);
+        assertThat(faults.getCalls("getBranch")).isEqualTo(1);
+        assertThat(faults.getTotalCalls()).isEqualTo(3);
+    }
+
+    @Test
+    public void update_GivesUpOnInternalFailuresOutlastingRetries() {
+        when(sdkClient.updateBranch(any(UpdateBranchRequest.class)))
+                .thenReturn(UpdateBranchResponse.builder().branch(BRANCH).build());
+        when(sdkClient.getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(BRANCH).build());
+        when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        faults.on("updateBranch", Fault.internalFailure(), Fault.internalFailure(), Fault.internalFailure(),
+                Fault.internalFailure(), Fault.internalFailure(), Fault.internalFailure());
+        final UpdateHandler handler = new UpdateHandler(AppliedStateCache.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).branchName(BRANCH_NAME).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        // Every attempt costs one call, nothing else is sent while the update keeps failing
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(outcome.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        assertThat(outcome.getRetries()).isEqualTo(5);
+        assertThat(faults.getCalls("updateBranch")).isEqualTo(6);
+        assertThat(faults.getTotalCalls()).isEqualTo(6);
+        assertThat(outcome.getElapsed()).isLessThanOrEqualTo(Duration.ofMinutes(3L));
+    }
+
+    @Test
+    public void update_CompletesThroughShortInternalFailureBurst() {
+        when(sdkClient.updateBranch(any(UpdateBranchRequest.class)))
+                .thenReturn(UpdateBranchResponse.builder().branch(BRANCH).build());
+        when(sdkClient.getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(BRANCH).build());
+        when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        faults.on("updateBranch", Fault.internalFailure(), Fault.internalFailure())
+                .on("getBranch", Fault.latency(Duration.ofSeconds(15L)));
+        final UpdateHandler handler = new UpdateHandler(AppliedStateCache.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).branchName(BRANCH_NAME).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getRetries()).isEqualTo(2);
+        assertThat(faults.getCalls("updateBranch")).isEqualTo(3);
+        assertThat(faults.getTotalCalls()).isLessThanOrEqualTo(5);
+        assertThat(outcome.getElapsed()).isLessThanOrEqualTo(Duration.ofMinutes(1L));
+    }
+
+    @Test
+    public void delete_CompletesThroughThrottledDelete() {
+        when(sdkClient.deleteBranch(any(DeleteBranchRequest.class)))
+                .thenReturn(DeleteBranchResponse.builder().branch(BRANCH).build());
+        when(sdkClient.getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(BRANCH).build());
+        faults.on("deleteBranch", Fault.throttle(), Fault.throttle(), Fault.latency(Duration.ofSeconds(20L)))
+                .on("getBranch", Fault.notFound());
+        final DeleteHandler handler = new DeleteHandler(AppliedStateCache.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).branchName(BRANCH_NAME).arn(BRANCH_ARN).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getRetries()).isEqualTo(2);
+        assertThat(faults.getCalls("deleteBranch")).isEqualTo(3);
+        assertThat(faults.getCalls("getBranch")).isEqualTo(1);
+        assertThat(outcome.getElapsed()).isGreaterThanOrEqualTo(Duration.ofSeconds(35L))
+                .isLessThanOrEqualTo(Duration.ofMinutes(1L));
+    }
+
+    private ResourceHandlerRequest<ResourceModel> newCreateRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER)
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).branchName(BRANCH_NAME).build())
+                .build();
+    }
+}
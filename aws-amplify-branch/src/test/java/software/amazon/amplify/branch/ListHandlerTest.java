@@ -1,6 +1,8 @@
 package software.amazon.amplify.branch;
 
 import com.google.common.collect.ImmutableList;
+import software.amazon.amplify.common.utils.ListBudget;
+import software.amazon.amplify.common.utils.ResponseProjection;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.awssdk.services.amplify.model.ListBranchesRequest;
@@ -77,4 +79,29 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_IdentifiersProjection() {
+        final ListHandler handler = new ListHandler(ListBudget.SINGLE_PAGE, ResponseProjection.IDENTIFIERS);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).build())
+                .build();
+
+        when(proxyClient.client().listBranches(any(ListBranchesRequest.class)))
+                .thenReturn(ListBranchesResponse.builder()
+                        .branches(ImmutableList.of(Branch.builder()
+                                .branchArn(BRANCH_ARN)
+                                .branchName(BRANCH_NAME)
+                                .buildSpec("version: 1")
+                                .environmentVariables(Translator.getEnvironmentVariablesSDK(ENV_VARS_CFN))
+                                .build()))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder().arn(BRANCH_ARN).build());
+    }
 }
@@ -1,6 +1,8 @@
 package software.amazon.amplify.branch;
 
 import java.time.Duration;
+
+import com.google.common.collect.ImmutableList;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.awssdk.services.amplify.model.GetBranchRequest;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -147,6 +150,162 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_EnvironmentVariableRemoved() {
+        stubProxyClientNoTags();
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .buildSpec("version: 1")
+                .basicAuthConfig(BASIC_AUTH_CONFIG)
+                .environmentVariables(ImmutableList.of(
+                        EnvironmentVariable.builder().name("foo").value("bar").build(),
+                        EnvironmentVariable.builder().name("baz").value("qux").build()))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .buildSpec("version: 1")
+                .basicAuthConfig(BASIC_AUTH_CONFIG)
+                .environmentVariables(ENV_VARS_CFN)
+                .build();
+
+        final UpdateBranchRequest updateBranchRequest = handleUpdate(handler, previousModel, model);
+
+        assertThat(Translator.getChangedProperties(previousModel, model).getNames()).containsExactly(Translator.ENVIRONMENT_VARIABLES);
+        assertThat(updateBranchRequest.environmentVariables()).isEqualTo(ImmutableMap.of("foo", "bar"));
+        assertThat(updateBranchRequest.buildSpec()).isNull();
+        assertThat(updateBranchRequest.enableBasicAuth()).isNull();
+        assertThat(updateBranchRequest.basicAuthCredentials()).isNull();
+    }
+
+    @Test
+    public void handleRequest_AllEnvironmentVariablesRemoved() {
+        stubProxyClientNoTags();
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .environmentVariables(ENV_VARS_CFN)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .build();
+
+        final UpdateBranchRequest updateBranchRequest = handleUpdate(handler, previousModel, model);
+
+        assertThat(updateBranchRequest.hasEnvironmentVariables()).isTrue();
+        assertThat(updateBranchRequest.environmentVariables()).isEmpty();
+    }
+
+    @Test
+    public void handleRequest_ReorderedEnvironmentVariablesNotSent() {
+        stubProxyClientNoTags();
+        final UpdateHandler handler = new UpdateHandler();
+        final EnvironmentVariable foo = EnvironmentVariable.builder().name("foo").value("bar").build();
+        final EnvironmentVariable baz = EnvironmentVariable.builder().name("baz").value("qux").build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .environmentVariables(ImmutableList.of(foo, baz))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .description("updated")
+                .environmentVariables(ImmutableList.of(baz, foo))
+                .build();
+
+        final UpdateBranchRequest updateBranchRequest = handleUpdate(handler, previousModel, model);
+
+        assertThat(updateBranchRequest.description()).isEqualTo("updated");
+        assertThat(updateBranchRequest.hasEnvironmentVariables()).isFalse();
+    }
+
+    @Test
+    public void handleRequest_BasicAuthDisabled() {
+        stubProxyClientNoTags();
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .basicAuthConfig(BASIC_AUTH_CONFIG)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .basicAuthConfig(BasicAuthConfig.builder().enableBasicAuth(false).build())
+                .build();
+
+        final UpdateBranchRequest updateBranchRequest = handleUpdate(handler, previousModel, model);
+
+        assertThat(Translator.getChangedProperties(previousModel, model).getNames()).containsExactly(Translator.BASIC_AUTH_CONFIG);
+        assertThat(updateBranchRequest.enableBasicAuth()).isFalse();
+        assertThat(updateBranchRequest.basicAuthCredentials()).isNull();
+        assertThat(updateBranchRequest.hasEnvironmentVariables()).isFalse();
+    }
+
+    @Test
+    public void handleRequest_BasicAuthEnabled() {
+        stubProxyClientNoTags();
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .environmentVariables(ENV_VARS_CFN)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .environmentVariables(ENV_VARS_CFN)
+                .basicAuthConfig(BASIC_AUTH_CONFIG)
+                .build();
+
+        final UpdateBranchRequest updateBranchRequest = handleUpdate(handler, previousModel, model);
+
+        assertThat(updateBranchRequest.enableBasicAuth()).isTrue();
+        assertThat(updateBranchRequest.basicAuthCredentials()).isEqualTo(Translator.getBasicAuthCredentialsSDK(BASIC_AUTH_CONFIG));
+        assertThat(updateBranchRequest.hasEnvironmentVariables()).isFalse();
+    }
+
+    private UpdateBranchRequest handleUpdate(final UpdateHandler handler,
+                                             final ResourceModel previousModel,
+                                             final ResourceModel model) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ArgumentCaptor<UpdateBranchRequest> captor = ArgumentCaptor.forClass(UpdateBranchRequest.class);
+        verify(sdkClient).updateBranch(captor.capture());
+        return captor.getValue();
+    }
+
+    private void stubProxyClientNoTags() {
+        Branch branchMock = Branch.builder()
+                .branchArn(BRANCH_ARN)
+                .branchName(BRANCH_NAME)
+                .build();
+        when(proxyClient.client().updateBranch(any(UpdateBranchRequest.class)))
+                .thenReturn(UpdateBranchResponse.builder().branch(branchMock).build());
+        when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(branchMock).build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+    }
+
     private void stubProxyClient() {
         Branch branchMock = Branch.builder()
                 .branchArn(BRANCH_ARN)
@@ -1,8 +1,96 @@
 package software.amazon.amplify.domain;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.amplify.common.utils.BackoffPolicies;
+import software.amazon.amplify.common.utils.BackoffPolicy;
+import software.amazon.amplify.common.utils.Primer;
+import software.amazon.awssdk.services.amplify.model.DomainAssociation;
+import software.amazon.awssdk.services.amplify.model.DomainStatus;
+import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
+import software.amazon.awssdk.services.amplify.model.ListDomainAssociationsResponse;
+import software.amazon.awssdk.services.amplify.model.SubDomain;
+
+import java.util.Collections;
+
 class Configuration extends BaseConfiguration {
+    // Stabilization backoff per handler, AMPLIFY_BACKOFF_POLICIES overrides it. Custom domain creation involves
+    // CloudFront distribution creation which takes additional stabilization time, association and certificate request
+    // finish well before the distribution is deployed so those statuses are polled more often. Update and Delete keep
+    // the 5 second polls for up to 20 minutes the framework uses when a handler sets no delay.
+    static final BackoffPolicies BACKOFF_POLICIES = BackoffPolicies.fromEnvironment(BackoffPolicies.builder()
+            .policy(BackoffPolicies.CREATE, BackoffPolicy.builder()
+                    .strategy(BackoffPolicy.Strategy.STATUS_ADAPTIVE)
+                    .minDelaySeconds(60L)
+                    .maxDelaySeconds(180L)
+                    .timeoutSeconds(600L)
+                    .statusDelay(DomainStatus.CREATING.toString(), 60L)
+                    .statusDelay(DomainStatus.REQUESTING_CERTIFICATE.toString(), 60L)
+                    .build())
+            .policy(BackoffPolicies.UPDATE, BackoffPolicy.builder()
+                    .strategy(BackoffPolicy.Strategy.CONSTANT)
+                    .minDelaySeconds(5L)
+                    .timeoutSeconds(1200L)
+                    .build())
+            .policy(BackoffPolicies.DELETE, BackoffPolicy.builder()
+                    .strategy(BackoffPolicy.Strategy.CONSTANT)
+                    .minDelaySeconds(5L)
+                    .timeoutSeconds(1200L)
+                    .build())
+            .build());
+
+    private static final String PRIMING_APP_ID = "primingAppId";
+    private static final String PRIMING_DOMAIN_NAME = "priming.example.com";
+    private static final String PRIMING_DOMAIN_ARN =
+            "arn:aws:amplify:us-east-1:123456789012:apps/" + PRIMING_APP_ID + "/domains/" + PRIMING_DOMAIN_NAME;
+
+    // Primed once when HandlerWrapper constructs the handlers, see BaseHandlerStd
+    static final Primer<ResourceModel, CallbackContext> PRIMER = Primer.<ResourceModel, CallbackContext>builder()
+            .sampleModel(Configuration::primingModel)
+            .modelType(new TypeReference<ResourceModel>() {})
+            .callbackContext(CallbackContext::new)
+            .callbackContextType(new TypeReference<CallbackContext>() {})
+            .translate(Configuration::primeTranslator)
+            .clientBuilder(ClientBuilder::builder)
+            .request((client, model) -> client.getDomainAssociation(Translator.translateToReadRequest(model)))
+            .request((client, model) -> client.createDomainAssociation(Translator.translateToCreateRequest(model)))
+            .build();
 
     public Configuration() {
         super("aws-amplify-domain.json");
     }
+
+    private static void primeTranslator(final ResourceModel model) {
+        Translator.translateToCreateRequest(model);
+        Translator.translateToUpdateRequest(model);
+        Translator.translateToDeleteRequest(model);
+        Translator.translateToListRequest(model, null);
+
+        final DomainAssociation domainAssociation = DomainAssociation.builder()
+                .domainAssociationArn(PRIMING_DOMAIN_ARN)
+                .domainName(PRIMING_DOMAIN_NAME)
+                .domainStatus(DomainStatus.AVAILABLE)
+                .enableAutoSubDomain(false)
+                .subDomains(SubDomain.builder()
+                        .subDomainSetting(Translator.getSubDomainSettingsSDK(model.getSubDomainSettings()).get(0))
+                        .verified(true)
+                        .dnsRecord("www CNAME priming.cloudfront.net")
+                        .build())
+                .build();
+        Translator.translateFromCreateOrUpdateResponse(primingModel(), domainAssociation);
+        Translator.translateFromReadResponse(
+                GetDomainAssociationResponse.builder().domainAssociation(domainAssociation).build());
+        Translator.translateFromListRequest(
+                ListDomainAssociationsResponse.builder().domainAssociations(domainAssociation).build());
+    }
+
+    private static ResourceModel primingModel() {
+        return ResourceModel.builder()
+                .appId(PRIMING_APP_ID)
+                .domainName(PRIMING_DOMAIN_NAME)
+                .arn(PRIMING_DOMAIN_ARN)
+                .enableAutoSubDomain(false)
+                .subDomainSettings(Collections.singletonList(
+                        SubDomainSetting.builder().prefix("www").branchName("main").build()))
+                .build();
+    }
 }
@@ -1,31 +1,41 @@
 package software.amazon.amplify.domain;
 
 import org.apache.commons.lang3.ObjectUtils;
+import software.amazon.amplify.common.utils.BackoffPolicies;
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.amplify.common.utils.StabilizationState;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationResponse;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
 import software.amazon.awssdk.services.amplify.model.DomainStatus;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
-
-import java.time.Duration;
 
 public class CreateHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-Domain::Create";
+    private final OperationJournal journal;
     private Logger logger;
-    // Custom domain creation involves CloudFront distribution creation which takes additional stabilization time
-    private static final Duration HANDLER_CALLBACK_DELAY_SECONDS = Duration.ofMinutes(3L);
-    private static final Duration HANDLER_TIMEOUT_MINUTES = Duration.ofMinutes(10L);
-    private static final Constant BACKOFF_STRATEGY = Constant.of().timeout(HANDLER_TIMEOUT_MINUTES).delay(HANDLER_CALLBACK_DELAY_SECONDS).build();
+
+    public CreateHandler() {
+        this(OperationJournal.fromEnvironment());
+    }
+
+    CreateHandler(final OperationJournal journal) {
+        this.journal = journal;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -43,39 +53,92 @@ public class CreateHandler extends BaseHandlerStd {
         if (disallowedVal != null) {
             throw new CfnInvalidRequestException(String.format("Attempted to provide value to a read-only property: %s", disallowedVal));
         }
+        final String journalKey = OperationJournal.key(ResourceModel.TYPE_NAME, request.getLogicalResourceIdentifier(),
+                request.getClientRequestToken());
+        journal.restore(journalKey, callbackContext);
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                    proxy.initiate("AWS-Amplify-Domain::Create", proxyClient,progress.getResourceModel(),
+                    proxy.initiate(CALL_GRAPH, proxyClient,progress.getResourceModel(),
                             progress.getCallbackContext())
-                        .translateToServiceRequest(Translator::translateToCreateRequest)
-                        .backoffDelay(BACKOFF_STRATEGY)
-                        .makeServiceCall((createDomainAssociationRequest, proxyInvocation) -> {
-                            checkIfResourceExists(model, proxyClient, logger);
-                            CreateDomainAssociationResponse createDomainAssociationResponse = (CreateDomainAssociationResponse) ClientWrapper.execute(
-                                    proxy,
-                                    createDomainAssociationRequest,
-                                    proxyInvocation.client()::createDomainAssociation,
-                                    ResourceModel.TYPE_NAME,
-                                    model.getArn(),
-                                    logger
-                            );
+                        .translateToServiceRequest(Tracing.translate(CALL_GRAPH, Translator::translateToCreateRequest))
+                        .backoffDelay(Configuration.BACKOFF_POLICIES.get(BackoffPolicies.CREATE).toDelay(callbackContext))
+                        .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (createDomainAssociationRequest, proxyInvocation) -> {
+                            if (callbackContext.getCreatedArn() != null) {
+                                final CreateDomainAssociationResponse createdResponse = getCreated(model,
+                                        callbackContext.getCreatedArn());
+                                setResourceModelId(model, createdResponse.domainAssociation());
+                                return createdResponse;
+                            }
+                            // No existence probe up front, the association is only read when the create fails like
+                            // a conflict. Associations carry no tags to stamp, so a conflicting one is never adopted:
+                            // without a journaled ARN it cannot be told apart from one that was there before
+                            final CreateDomainAssociationResponse createDomainAssociationResponse;
+                            try {
+                                createDomainAssociationResponse = (CreateDomainAssociationResponse) ClientWrapper.execute(
+                                        proxy,
+                                        createDomainAssociationRequest,
+                                        proxyInvocation.client()::createDomainAssociation,
+                                        ResourceModel.TYPE_NAME,
+                                        model.getDomainName(),
+                                        logger
+                                );
+                            } catch (final BaseHandlerException e) {
+                                if (ClientWrapper.isPossibleCreateConflict(e)) {
+                                    checkIfResourceExists(proxy, proxyClient, model, logger);
+                                }
+                                throw e;
+                            }
+                            journal.recordCreated(journalKey, callbackContext,
+                                    createDomainAssociationResponse.domainAssociation().domainAssociationArn());
                             setResourceModelId(model, createDomainAssociationResponse.domainAssociation());
                             return createDomainAssociationResponse;
-                        })
-                        .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
-                                model, logger))
+                        }))
+                        .stabilize(Tracing.stabilize(CALL_GRAPH, (awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
+                                model, callbackContext, logger)))
                         .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler()
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private String checkReadOnlyProperties(final ResourceModel model) {
         return ObjectUtils.firstNonNull(model.getDomainStatus(), model.getStatusReason(), model.getCertificateRecord());
     }
 
+    // An earlier invocation journaled the ARN of the association it created, stabilization picks up its status
+    private CreateDomainAssociationResponse getCreated(final ResourceModel model, final String arn) {
+        logger.log(String.format("INFO: resuming %s %s journaled by a previous invocation", ResourceModel.TYPE_NAME, arn));
+        return CreateDomainAssociationResponse.builder()
+                .domainAssociation(DomainAssociation.builder()
+                        .domainAssociationArn(arn)
+                        .domainName(model.getDomainName())
+                        .build())
+                .build();
+    }
+
+    // The create failed with a 409 or a BadRequest, only an association that is there makes it a conflict
+    private void checkIfResourceExists(final AmazonWebServicesClientProxy proxy,
+                                       final ProxyClient<AmplifyClient> proxyClient,
+                                       final ResourceModel model,
+                                       final Logger logger) {
+        try {
+            ClientWrapper.execute(
+                    proxy,
+                    Translator.translateToReadRequest(model),
+                    proxyClient.client()::getDomainAssociation,
+                    ResourceModel.TYPE_NAME,
+                    model.getDomainName(),
+                    logger);
+        } catch (final CfnNotFoundException e) {
+            return;
+        }
+        throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getDomainName());
+    }
+
     private boolean isStabilized(final AmazonWebServicesClientProxy proxy,
                                 final ProxyClient<AmplifyClient> proxyClient,
                                 final ResourceModel model,
+                                final CallbackContext callbackContext,
                                 final Logger logger) {
         final GetDomainAssociationRequest getDomainAssociationRequest = GetDomainAssociationRequest.builder()
                 .appId(model.getAppId())
@@ -92,12 +155,14 @@ public class CreateHandler extends BaseHandlerStd {
         final String domainInfo = String.format("%s - %s", model.getAppId(), model.getDomainName());
         final DomainAssociation domainAssociation = getDomainAssociationResponse.domainAssociation();
         final DomainStatus domainStatus = domainAssociation.domainStatus();
+        final int pollCount = StabilizationState.recordPoll(callbackContext, domainAssociation.domainStatusAsString(),
+                ResourceModel.TYPE_NAME, model.getArn());
 
         switch (domainStatus) {
             case CREATING:
             case REQUESTING_CERTIFICATE:
             case IN_PROGRESS:
-                logger.log(String.format("%s CREATE stabilization domainStatus: %s", domainInfo, domainStatus));
+                logger.log(String.format("%s CREATE stabilization domainStatus: %s, poll: %d", domainInfo, domainStatus, pollCount));
                 return false;
             case PENDING_VERIFICATION:
             case PENDING_DEPLOYMENT:
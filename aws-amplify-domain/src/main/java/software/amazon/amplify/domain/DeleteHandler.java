@@ -1,6 +1,10 @@
 package software.amazon.amplify.domain;
 
+import software.amazon.amplify.common.utils.AppliedStateCache;
+import software.amazon.amplify.common.utils.BackoffPolicies;
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.StabilizationState;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.DeleteDomainAssociationResponse;
@@ -14,8 +18,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-Domain::Delete";
+    private final AppliedStateCache appliedStates;
     private Logger logger;
 
+    public DeleteHandler() {
+        this(AppliedStateCache.fromEnvironment());
+    }
+
+    DeleteHandler(final AppliedStateCache appliedStates) {
+        this.appliedStates = appliedStates;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -27,21 +41,23 @@ public class DeleteHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
         logger.log("INFO: requesting with model: " + model);
+        appliedStates.invalidate(model.getArn());
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-Amplify-Domain::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .makeServiceCall((deleteDomainAssociationRequest, proxyInvocation) -> (DeleteDomainAssociationResponse) ClientWrapper.execute(
+                proxy.initiate(CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(Tracing.translate(CALL_GRAPH, Translator::translateToDeleteRequest))
+                    .backoffDelay(Configuration.BACKOFF_POLICIES.get(BackoffPolicies.DELETE).toDelay(callbackContext))
+                    .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (deleteDomainAssociationRequest, proxyInvocation) -> (DeleteDomainAssociationResponse) ClientWrapper.execute(
                             proxy,
                             deleteDomainAssociationRequest,
                             proxyInvocation.client()::deleteDomainAssociation,
                             ResourceModel.TYPE_NAME,
                             model.getArn(),
                             logger
-                    ))
-                    .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
-                            model, logger))
+                    )))
+                    .stabilize(Tracing.stabilize(CALL_GRAPH, (awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
+                            model, context, logger)))
                     .progress()
             )
             .then(progress -> ProgressEvent.defaultSuccessHandler(null));
@@ -50,6 +66,7 @@ public class DeleteHandler extends BaseHandlerStd {
     private boolean isStabilized(final AmazonWebServicesClientProxy proxy,
                                  final ProxyClient<AmplifyClient> proxyClient,
                                  final ResourceModel model,
+                                 final CallbackContext callbackContext,
                                  final Logger logger) {
         final String domainInfo = String.format("%s - %s", model.getAppId(), model.getDomainName());
 
@@ -65,9 +82,13 @@ public class DeleteHandler extends BaseHandlerStd {
                     ResourceModel.TYPE_NAME,
                     model.getArn(),
                     logger);
-            logger.log(String.format("%s DELETE stabilization still in progress", domainInfo));
+            final int pollCount = StabilizationState.recordPoll(callbackContext, StabilizationState.DELETING_STATUS,
+                    ResourceModel.TYPE_NAME, model.getArn());
+            logger.log(String.format("%s DELETE stabilization still in progress, poll: %d", domainInfo, pollCount));
             return false;
         } catch (final CfnNotFoundException e) {
+            StabilizationState.recordPoll(callbackContext, StabilizationState.DELETED_STATUS,
+                    ResourceModel.TYPE_NAME, model.getArn());
             logger.log(String.format("%s DELETE stabilization complete", domainInfo));
             return true;
         } catch (final AwsServiceException e) {
@@ -1,6 +1,7 @@
 package software.amazon.amplify.domain;
 
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -10,6 +11,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-Domain::Read";
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -23,20 +25,20 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         logger.log("INFO: requesting with model: " + model);
 
-        return proxy.initiate("AWS-Amplify-Domain::Read", proxyClient, model, callbackContext)
-            .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall((getDomainAssociationRequest, proxyInvocation) -> (GetDomainAssociationResponse) ClientWrapper.execute(
+        return proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+            .translateToServiceRequest(Tracing.translate(CALL_GRAPH, Translator::translateToReadRequest))
+            .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (getDomainAssociationRequest, proxyInvocation) -> (GetDomainAssociationResponse) ClientWrapper.execute(
                     proxy,
                     getDomainAssociationRequest,
                     proxyInvocation.client()::getDomainAssociation,
                     ResourceModel.TYPE_NAME,
                     model.getArn(),
                     logger
-            ))
-            .done(getDomainAssociationResponse -> {
+            )))
+            .done(Tracing.done(CALL_GRAPH, getDomainAssociationResponse -> {
                 ResourceModel modelRet = Translator.translateFromReadResponse(getDomainAssociationResponse);
                 logger.log("INFO: returning model: " + modelRet);
                 return ProgressEvent.defaultSuccessHandler(modelRet);
-            });
+            }));
     }
 }
@@ -2,8 +2,11 @@ package software.amazon.amplify.domain;
 
 import lombok.NonNull;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.utils.ModelFingerprint;
+import software.amazon.amplify.common.utils.ResponseProjection;
 import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.DeleteDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
@@ -17,11 +20,15 @@ import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * This class is a centralized placeholder for
@@ -32,6 +39,8 @@ import java.util.stream.Stream;
 
 public class Translator {
   private static final String ARN_SPLIT_KEY = "/domains/";
+  // Read-only properties from the resource schema, they never take part in what an update applies
+  private static final List<String> READ_ONLY_PROPERTIES = Arrays.asList("Arn", "DomainStatus", "StatusReason", "CertificateRecord");
   private static final String NO_REASON_FOUND = "No reason found";
 
   /**
@@ -79,32 +88,7 @@ public class Translator {
    * @return model resource model
    */
   static ResourceModel translateFromReadResponse(final GetDomainAssociationResponse getDomainAssociationResponse) {
-    final DomainAssociation domainAssociation = getDomainAssociationResponse.domainAssociation();
-
-    ResourceModel.ResourceModelBuilder domainAssociationModelBuilder = ResourceModel.builder()
-            .appId(ArnUtils.getAppId(domainAssociation.domainAssociationArn(), ARN_SPLIT_KEY))
-            .arn(domainAssociation.domainAssociationArn())
-            .certificateRecord(domainAssociation.certificateVerificationDNSRecord())
-            .domainName(domainAssociation.domainName())
-            .enableAutoSubDomain(domainAssociation.enableAutoSubDomain())
-            .autoSubDomainIAMRole(domainAssociation.autoSubDomainIAMRole())
-            .domainStatus(domainAssociation.domainStatusAsString());
-
-    // StatusReason gets populated when domainAssociation creation fails; provide default value
-    final String statusReason = StringUtils.isEmpty(domainAssociation.statusReason()) ?
-            NO_REASON_FOUND : domainAssociation.statusReason();
-    domainAssociationModelBuilder.statusReason(statusReason);
-
-    List<String> autoSubDomainCreationPatterns = domainAssociation.autoSubDomainCreationPatterns();
-    if (CollectionUtils.isNotEmpty(autoSubDomainCreationPatterns)) {
-      domainAssociationModelBuilder.autoSubDomainCreationPatterns(autoSubDomainCreationPatterns);
-    }
-
-    List<SubDomain> subDomainsSDK = domainAssociation.subDomains();
-    if (CollectionUtils.isNotEmpty(subDomainsSDK)) {
-        domainAssociationModelBuilder.subDomainSettings(getSubDomainSettingsCFN(subDomainsSDK));
-    }
-    return domainAssociationModelBuilder.build();
+    return translateFromDomainAssociation(getDomainAssociationResponse.domainAssociation(), ResponseProjection.FULL);
   }
 
   /**
@@ -136,11 +120,53 @@ public class Translator {
 
     List<SubDomainSetting> subDomainSettingsCFN = model.getSubDomainSettings();
     if (subDomainSettingsCFN != null) {
-      updateDomainAssociationRequest.subDomainSettings(getSubDomainSettingsSDK(subDomainSettingsCFN));
+      updateDomainAssociationRequest.subDomainSettings(getSubDomainSettingsSDK(getEffectiveSubDomainSettings(subDomainSettingsCFN)));
     }
     return updateDomainAssociationRequest.build();
   }
 
+  /**
+   * Checks whether an update would change the domain association at all.
+   * Subdomains are compared by prefix and branchName, so reordering or repeating them is not a change.
+   * @param previousModel resource model of the previous template
+   * @param model desired or read resource model
+   * @return true when UpdateDomainAssociation has to be called
+   */
+  static boolean hasEffectiveChanges(final ResourceModel previousModel, final ResourceModel model) {
+    if (previousModel == null) {
+      return true;
+    }
+    return !getSubDomainKeys(previousModel.getSubDomainSettings()).equals(getSubDomainKeys(model.getSubDomainSettings()))
+            || !Objects.equals(BooleanUtils.isTrue(previousModel.getEnableAutoSubDomain()), BooleanUtils.isTrue(model.getEnableAutoSubDomain()))
+            || !asSet(previousModel.getAutoSubDomainCreationPatterns()).equals(asSet(model.getAutoSubDomainCreationPatterns()))
+            || !StringUtils.equals(StringUtils.defaultString(previousModel.getAutoSubDomainIAMRole()),
+                    StringUtils.defaultString(model.getAutoSubDomainIAMRole()));
+  }
+
+  /**
+   * Checks whether the subdomain settings only differ in order or repetition
+   * @param previousModel resource model of the previous template
+   * @param model desired or read resource model
+   * @return true when the settings lists differ but describe the same subdomains
+   */
+  static boolean isSubDomainOrderOnlyChange(@NonNull final ResourceModel previousModel, @NonNull final ResourceModel model) {
+    return !Objects.equals(previousModel.getSubDomainSettings(), model.getSubDomainSettings())
+            && getSubDomainKeys(previousModel.getSubDomainSettings()).equals(getSubDomainKeys(model.getSubDomainSettings()));
+  }
+
+  /**
+   * Drops settings repeating a prefix and branchName pair, keeping the first occurrence
+   * @param subDomainSettingsCFN subdomain settings of a resource model
+   * @return effective subdomain settings in template order
+   */
+  static List<SubDomainSetting> getEffectiveSubDomainSettings(@NonNull final List<SubDomainSetting> subDomainSettingsCFN) {
+    final Map<List<String>, SubDomainSetting> subDomainSettingsByKey = new LinkedHashMap<>();
+    for (final SubDomainSetting subDomainSettingCFN : subDomainSettingsCFN) {
+      subDomainSettingsByKey.putIfAbsent(getSubDomainKey(subDomainSettingCFN), subDomainSettingCFN);
+    }
+    return new ArrayList<>(subDomainSettingsByKey.values());
+  }
+
   /**
    * Request to list resources
    * @param nextToken token passed to the aws service list resources request
@@ -159,18 +185,82 @@ public class Translator {
    * @return list of resource models
    */
   static List<ResourceModel> translateFromListRequest(final ListDomainAssociationsResponse listDomainAssociationsResponse) {
-    // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L75-L82
-    return streamOfOrEmpty(listDomainAssociationsResponse.domainAssociations())
-        .map(resource -> ResourceModel.builder()
-            .arn(resource.domainAssociationArn())
-            .domainName(resource.domainName())
-            .build())
-        .collect(Collectors.toList());
+    final List<ResourceModel> models = new ArrayList<>(listDomainAssociationsResponse.domainAssociations().size());
+    translateFromListRequest(listDomainAssociationsResponse, models::add);
+    return models;
+  }
+
+  /**
+   * Translates resource objects from sdk into resource models one at a time, without intermediate collections
+   * @param listDomainAssociationsResponse the aws service describe resource response
+   * @param sink receives each resource model in listing order
+   */
+  static void translateFromListRequest(final ListDomainAssociationsResponse listDomainAssociationsResponse, final Consumer<ResourceModel> sink) {
+    translateFromListRequest(listDomainAssociationsResponse, ResponseProjection.IDENTIFIERS, sink);
+  }
+
+  /**
+   * Translates resource objects from sdk into resource models with only the properties of the projection
+   * @param listDomainAssociationsResponse the aws service describe resource response
+   * @param projection how much of each domain association the models carry
+   * @param sink receives each resource model in listing order
+   */
+  static void translateFromListRequest(final ListDomainAssociationsResponse listDomainAssociationsResponse,
+                                       final ResponseProjection projection,
+                                       final Consumer<ResourceModel> sink) {
+    for (final DomainAssociation domainAssociation : listDomainAssociationsResponse.domainAssociations()) {
+      sink.accept(translateFromDomainAssociation(domainAssociation, projection));
+    }
+  }
+
+  /**
+   * Content hash of what an update with this model applies, see ModelFingerprint
+   * @param model desired or read resource model
+   * @return fingerprint of the model without its read-only properties
+   */
+  static String fingerprint(final ResourceModel model) {
+    return ModelFingerprint.of(model, READ_ONLY_PROPERTIES);
   }
 
   /*
    * Helpers
    */
+  private static ResourceModel translateFromDomainAssociation(final DomainAssociation domainAssociation,
+                                                              final ResponseProjection projection) {
+    ResourceModel.ResourceModelBuilder domainAssociationModelBuilder = ResourceModel.builder()
+            .arn(domainAssociation.domainAssociationArn())
+            .domainName(domainAssociation.domainName());
+    if (!projection.includes(ResponseProjection.SUMMARY)) {
+      return domainAssociationModelBuilder.build();
+    }
+
+    domainAssociationModelBuilder
+            .appId(ArnUtils.getAppId(domainAssociation.domainAssociationArn(), ARN_SPLIT_KEY))
+            .certificateRecord(domainAssociation.certificateVerificationDNSRecord())
+            .enableAutoSubDomain(domainAssociation.enableAutoSubDomain())
+            .autoSubDomainIAMRole(domainAssociation.autoSubDomainIAMRole())
+            .domainStatus(domainAssociation.domainStatusAsString());
+
+    // StatusReason gets populated when domainAssociation creation fails; provide default value
+    final String statusReason = StringUtils.isEmpty(domainAssociation.statusReason()) ?
+            NO_REASON_FOUND : domainAssociation.statusReason();
+    domainAssociationModelBuilder.statusReason(statusReason);
+    if (!projection.includes(ResponseProjection.FULL)) {
+      return domainAssociationModelBuilder.build();
+    }
+
+    List<String> autoSubDomainCreationPatterns = domainAssociation.autoSubDomainCreationPatterns();
+    if (CollectionUtils.isNotEmpty(autoSubDomainCreationPatterns)) {
+      domainAssociationModelBuilder.autoSubDomainCreationPatterns(autoSubDomainCreationPatterns);
+    }
+
+    List<SubDomain> subDomainsSDK = domainAssociation.subDomains();
+    if (CollectionUtils.isNotEmpty(subDomainsSDK)) {
+        domainAssociationModelBuilder.subDomainSettings(getSubDomainSettingsCFN(subDomainsSDK));
+    }
+    return domainAssociationModelBuilder.build();
+  }
+
   private static void initializeModel(ResourceModel model) {
     if (model.getAppId() == null || model.getDomainName() == null) {
       String arn = model.getArn();
@@ -182,6 +272,24 @@ public class Translator {
     }
   }
 
+  private static List<String> getSubDomainKey(final SubDomainSetting subDomainSettingCFN) {
+    return Arrays.asList(subDomainSettingCFN.getPrefix(), subDomainSettingCFN.getBranchName());
+  }
+
+  private static Set<List<String>> getSubDomainKeys(final List<SubDomainSetting> subDomainSettingsCFN) {
+    final Set<List<String>> subDomainKeys = new HashSet<>();
+    if (subDomainSettingsCFN != null) {
+      for (final SubDomainSetting subDomainSettingCFN : subDomainSettingsCFN) {
+        subDomainKeys.add(getSubDomainKey(subDomainSettingCFN));
+      }
+    }
+    return subDomainKeys;
+  }
+
+  private static <T> Set<T> asSet(final Collection<T> collection) {
+    return collection == null ? new HashSet<>() : new HashSet<>(collection);
+  }
+
   static List<software.amazon.awssdk.services.amplify.model.SubDomainSetting> getSubDomainSettingsSDK(List<SubDomainSetting> subDomainSettingsCFN) {
     List<software.amazon.awssdk.services.amplify.model.SubDomainSetting> subDomainSettingsSDK = new ArrayList<>();
     for (final SubDomainSetting subDomainSettingCFN : subDomainSettingsCFN) {
@@ -206,9 +314,4 @@ public class Translator {
     }
     return subDomainSettingsCFN;
   }
-  private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-    return Optional.ofNullable(collection)
-        .map(Collection::stream)
-        .orElseGet(Stream::empty);
-  }
 }
@@ -1,6 +1,11 @@
 package software.amazon.amplify.domain;
 
+import software.amazon.amplify.common.utils.AppliedStateCache;
+import software.amazon.amplify.common.utils.BackoffPolicies;
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.MetricsUtils;
+import software.amazon.amplify.common.utils.StabilizationState;
+import software.amazon.amplify.common.utils.Tracing;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
 import software.amazon.awssdk.services.amplify.model.DomainStatus;
@@ -17,8 +22,18 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String CALL_GRAPH = "AWS-Amplify-Domain::Update";
+    private final AppliedStateCache appliedStates;
     private Logger logger;
 
+    public UpdateHandler() {
+        this(AppliedStateCache.fromEnvironment());
+    }
+
+    UpdateHandler(final AppliedStateCache appliedStates) {
+        this.appliedStates = appliedStates;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -30,11 +45,39 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         logger.log("INFO: requesting with model: " + model);
 
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (!Translator.hasEffectiveChanges(previousModel, model)) {
+            if (Translator.isSubDomainOrderOnlyChange(previousModel, model)) {
+                logger.log("INFO: SubDomainSettings only changed order, skipping update");
+            } else {
+                logger.log("INFO: no effective changes, skipping update");
+            }
+            MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "UpdateSkipped", 1, MetricsUtils.UNIT_COUNT);
+            return new ReadHandler()
+                    .handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
+        final String fingerprint = appliedStates.isEnabled() ? Translator.fingerprint(model) : null;
+        final String appliedReadFingerprint = appliedStates.getAppliedReadFingerprint(model.getArn(), fingerprint);
+        if (appliedReadFingerprint != null) {
+            // Own context, the read after an update must not replay this one's memoized response
+            final ProgressEvent<ResourceModel, CallbackContext> current = new ReadHandler()
+                    .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            if (current.isSuccess() && appliedReadFingerprint.equals(Translator.fingerprint(current.getResourceModel()))) {
+                logger.log("INFO: desired model matches the last applied one, skipping update");
+                MetricsUtils.publish(logger, ResourceModel.TYPE_NAME, "UpdateSkipped", 1, MetricsUtils.UNIT_COUNT);
+                return current;
+            }
+            logger.log("INFO: resource changed since the last applied update, updating");
+        }
+        appliedStates.invalidate(model.getArn());
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-Amplify-Domain::Update", proxyClient, model, progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToUpdateRequest)
-                    .makeServiceCall((updateDomainAssociationRequest, proxyInvocation) -> {
+                proxy.initiate(CALL_GRAPH, proxyClient, model, progress.getCallbackContext())
+                    .translateToServiceRequest(Tracing.translate(CALL_GRAPH, Translator::translateToUpdateRequest))
+                    .backoffDelay(Configuration.BACKOFF_POLICIES.get(BackoffPolicies.UPDATE).toDelay(callbackContext))
+                    .makeServiceCall(Tracing.makeServiceCall(CALL_GRAPH, (updateDomainAssociationRequest, proxyInvocation) -> {
                         UpdateDomainAssociationResponse updateDomainAssociationResponse = (UpdateDomainAssociationResponse) ClientWrapper.execute(
                                 proxy,
                                 updateDomainAssociationRequest,
@@ -45,16 +88,28 @@ public class UpdateHandler extends BaseHandlerStd {
                         );
                         setResourceModelId(model, updateDomainAssociationResponse.domainAssociation());
                         return updateDomainAssociationResponse;
-                    })
-                    .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
-                            resourceModel, logger))
+                    }))
+                    .stabilize(Tracing.stabilize(CALL_GRAPH, (awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
+                            resourceModel, context, logger)))
                     .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> recordApplied(fingerprint, new ReadHandler()
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> recordApplied(
+            final String fingerprint,
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        if (fingerprint != null && progress.isSuccess()) {
+            appliedStates.record(progress.getResourceModel().getArn(), fingerprint,
+                    Translator.fingerprint(progress.getResourceModel()));
+        }
+        return progress;
     }
 
     private boolean isStabilized(final AmazonWebServicesClientProxy proxy,
                                  final ProxyClient<AmplifyClient> proxyClient,
                                  final ResourceModel model,
+                                 final CallbackContext callbackContext,
                                  final Logger logger) {
         final GetDomainAssociationRequest getDomainAssociationRequest = GetDomainAssociationRequest.builder()
                 .appId(model.getAppId())
@@ -71,11 +126,13 @@ public class UpdateHandler extends BaseHandlerStd {
         final String domainInfo = String.format("%s - %s", model.getAppId(), model.getDomainName());
         final DomainAssociation domainAssociation = getDomainAssociationResponse.domainAssociation();
         final DomainStatus domainStatus = domainAssociation.domainStatus();
+        final int pollCount = StabilizationState.recordPoll(callbackContext, domainAssociation.domainStatusAsString(),
+                ResourceModel.TYPE_NAME, model.getDomainName());
 
         switch (domainStatus) {
             // domainDO status can only be UPDATING post update call, or AVAILABLE once cloudfront update is successful
             case UPDATING:
-                logger.log(String.format("%s UPDATE stabilization domainStatus: %s", domainInfo, domainStatus));
+                logger.log(String.format("%s UPDATE stabilization domainStatus: %s, poll: %d", domainInfo, domainStatus, pollCount));
                 return false;
             case AVAILABLE:
                 logger.log(String.format("%s UPDATE has been stabilized.", domainInfo));
@@ -0,0 +1,15 @@
+package software.amazon.amplify.domain;
+
+import software.amazon.amplify.common.runtime.LambdaRuntimeBootstrap;
+
+import java.io.IOException;
+
+// Main class of the native image built by the native profile, serves HandlerWrapper on the provided runtime
+public final class Bootstrap {
+    private Bootstrap() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        LambdaRuntimeBootstrap.run(HandlerWrapper::new);
+    }
+}
@@ -32,6 +32,8 @@ public class AbstractTestBase {
           .build());
   protected static List<String> AUTO_SUBDOMAIN_CREATION_PATTERNS = ImmutableList.of("/feature*", "/dev*");
   protected static final String DEFAULT_DOMAIN_STATUS = "No reason found";
+  protected static String CLIENT_REQUEST_TOKEN = "dummyToken";
+  protected static String LOGICAL_RESOURCE_IDENTIFIER = "dummyLogicalId";
 
   static {
     MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
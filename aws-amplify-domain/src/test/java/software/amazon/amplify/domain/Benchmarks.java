@@ -0,0 +1,108 @@
+package software.amazon.amplify.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.amplify.common.benchmark.BenchmarkModule;
+import software.amazon.amplify.common.benchmark.HandlerBenchmark;
+import software.amazon.amplify.common.benchmark.ProjectionBenchmark;
+import software.amazon.amplify.common.utils.BackoffPolicies;
+import software.amazon.amplify.common.utils.ResponseProjection;
+import software.amazon.awssdk.services.amplify.model.DomainAssociation;
+import software.amazon.awssdk.services.amplify.model.DomainStatus;
+import software.amazon.awssdk.services.amplify.model.ListDomainAssociationsResponse;
+import software.amazon.awssdk.services.amplify.model.SubDomain;
+import software.amazon.awssdk.services.amplify.model.SubDomainSetting;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// Not a test, the module's side of BenchmarkLauncher. The benchmark, startup and native profiles pass this class to
+// the launcher, e.g. mvn -Pbenchmark test-compile exec:java -Dbenchmark=serialization from the module directory.
+public final class Benchmarks implements BenchmarkModule<ResourceModel, CallbackContext> {
+    private static final String DOMAIN_NAME = "benchmark.example.com";
+
+    @Override
+    public String resourceTypeName() {
+        return ResourceModel.TYPE_NAME;
+    }
+
+    @Override
+    public HandlerBenchmark.Entrypoint newEntrypoint() {
+        return new HandlerWrapper()::testEntrypoint;
+    }
+
+    @Override
+    public void overrideEndpoint(final URI endpoint) {
+        ClientBuilder.overrideEndpoint(endpoint);
+    }
+
+    @Override
+    public TypeReference<ResourceModel> modelType() {
+        return new TypeReference<ResourceModel>() {};
+    }
+
+    @Override
+    public TypeReference<CallbackContext> callbackContextType() {
+        return new TypeReference<CallbackContext>() {};
+    }
+
+    @Override
+    public CallbackContext newCallbackContext() {
+        return new CallbackContext();
+    }
+
+    @Override
+    public Function<ResourceModel, String> fingerprint() {
+        return Translator::fingerprint;
+    }
+
+    @Override
+    public ProjectionBenchmark<ListDomainAssociationsResponse, ResourceModel> projectionBenchmark() {
+        return ProjectionBenchmark.<ListDomainAssociationsResponse, ResourceModel>builder()
+                .resourceTypeName(ResourceModel.TYPE_NAME)
+                .responseFactory(Benchmarks::largeDomainAssociation)
+                .projection(Benchmarks::translateFirst)
+                .build();
+    }
+
+    @Override
+    public BackoffPolicies backoffPolicies() {
+        return Configuration.BACKOFF_POLICIES;
+    }
+
+    // The List handler's translation of the single item in the response
+    private static ResourceModel translateFirst(final ListDomainAssociationsResponse response,
+                                                final ResponseProjection projection) {
+        final List<ResourceModel> models = new ArrayList<>(1);
+        Translator.translateFromListRequest(response, projection, models::add);
+        return models.get(0);
+    }
+
+    private static ListDomainAssociationsResponse largeDomainAssociation(final int entries) {
+        final List<SubDomain> subDomains = new ArrayList<>();
+        final List<String> autoSubDomainCreationPatterns = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            subDomains.add(SubDomain.builder()
+                    .subDomainSetting(SubDomainSetting.builder()
+                            .prefix("prefix-" + i)
+                            .branchName("branch-" + i)
+                            .build())
+                    .verified(true)
+                    .dnsRecord("prefix-" + i + " CNAME benchmark.cloudfront.net")
+                    .build());
+            autoSubDomainCreationPatterns.add("feature-" + i + "/*");
+        }
+        return ListDomainAssociationsResponse.builder()
+                .domainAssociations(DomainAssociation.builder()
+                        .domainAssociationArn("arn:aws:amplify:us-east-1:123456789012:apps/benchmarkAppId/domains/"
+                                + DOMAIN_NAME)
+                        .domainName(DOMAIN_NAME)
+                        .domainStatus(DomainStatus.AVAILABLE)
+                        .enableAutoSubDomain(true)
+                        .autoSubDomainCreationPatterns(autoSubDomainCreationPatterns)
+                        .subDomains(subDomains)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package software.amazon.amplify.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import software.amazon.amplify.common.utils.StabilizationState;
+import software.amazon.awssdk.services.amplify.model.DomainStatus;
+import software.amazon.cloudformation.resource.Serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackContextTest {
+    // The context is echoed back on every re-invocation, stabilization state should not grow it noticeably
+    private static final int MAX_SERIALIZED_SIZE = 256;
+
+    private final Serializer serializer = new Serializer();
+
+    @Test
+    public void stabilizationState_RoundTrip() throws Exception {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setCreateIssued(true);
+        StabilizationState.recordPoll(callbackContext, DomainStatus.CREATING.toString());
+        StabilizationState.recordPoll(callbackContext, DomainStatus.IN_PROGRESS.toString());
+
+        final String serialized = serializer.serialize(callbackContext);
+        final CallbackContext deserialized = serializer.deserialize(serialized, new TypeReference<CallbackContext>() {});
+
+        assertThat(deserialized.getPollCount()).isEqualTo(2);
+        assertThat(deserialized.getLastObservedStatus()).isEqualTo(DomainStatus.IN_PROGRESS.toString());
+        assertThat(deserialized.getFirstPollTimestamp()).isEqualTo(callbackContext.getFirstPollTimestamp());
+        assertThat(deserialized.isCreateIssued()).isTrue();
+        assertThat(serialized.length()).isLessThan(MAX_SERIALIZED_SIZE);
+    }
+}
@@ -0,0 +1,71 @@
+package software.amazon.amplify.domain;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.amplify.common.utils.BackoffPolicies;
+import software.amazon.amplify.common.utils.BackoffPolicy;
+import software.amazon.amplify.common.utils.StabilizationState;
+import software.amazon.awssdk.services.amplify.model.DomainStatus;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConfigurationTest {
+
+    @Test
+    public void backoffPolicies_DefaultsAreValid() {
+        assertThat(Configuration.BACKOFF_POLICIES.validate()).isEmpty();
+    }
+
+    @Test
+    public void createBackoff_UsesLastObservedStatus() {
+        final CallbackContext callbackContext = new CallbackContext();
+        final Delay delay = Configuration.BACKOFF_POLICIES.get(BackoffPolicies.CREATE).toDelay(callbackContext);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofMinutes(3L));
+        StabilizationState.recordPoll(callbackContext, DomainStatus.CREATING.toString());
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofMinutes(1L));
+        StabilizationState.recordPoll(callbackContext, DomainStatus.IN_PROGRESS.toString());
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofMinutes(3L));
+    }
+
+    @Test
+    public void createBackoff_TimesOutFromFirstPoll() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setFirstPollTimestamp(System.currentTimeMillis() - Duration.ofMinutes(11L).toMillis());
+        final Delay delay = Configuration.BACKOFF_POLICIES.get(BackoffPolicies.CREATE).toDelay(callbackContext);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void backoffOverride_ExponentialIsCappedAtMaxDelay() {
+        final BackoffPolicies policies = Configuration.BACKOFF_POLICIES.withOverrides("{\"Delete\": {"
+                + "\"strategy\": \"EXPONENTIAL\", \"minDelaySeconds\": 5, \"maxDelaySeconds\": 30, "
+                + "\"timeoutSeconds\": 1200, \"multiplier\": 2}}");
+        final BackoffPolicy delete = policies.get(BackoffPolicies.DELETE);
+
+        assertThat(delete.nextDelay(1, null)).isEqualTo(Duration.ofSeconds(5L));
+        assertThat(delete.nextDelay(2, null)).isEqualTo(Duration.ofSeconds(10L));
+        assertThat(delete.nextDelay(3, null)).isEqualTo(Duration.ofSeconds(20L));
+        assertThat(delete.nextDelay(4, null)).isEqualTo(Duration.ofSeconds(30L));
+        assertThat(delete.nextDelay(40, null)).isEqualTo(Duration.ofSeconds(30L));
+        // Operations the document does not name keep their defaults
+        assertThat(policies.get(BackoffPolicies.CREATE)).isSameAs(Configuration.BACKOFF_POLICIES.get(BackoffPolicies.CREATE));
+    }
+
+    @Test
+    public void backoffOverride_InvalidDocumentListsEveryProblem() {
+        assertThatThrownBy(() -> Configuration.BACKOFF_POLICIES.withOverrides("{"
+                + "\"Delete\": {\"strategy\": \"CONSTANT\", \"minDelaySeconds\": 0, \"timeoutSeconds\": 60},"
+                + "\"Create\": {\"strategy\": \"STATUS_ADAPTIVE\", \"minDelaySeconds\": 60, \"maxDelaySeconds\": 30,"
+                + " \"timeoutSeconds\": 600},"
+                + "\"Read\": {\"strategy\": \"CONSTANT\"}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Delete: minDelaySeconds must be positive")
+                .hasMessageContaining("Create: maxDelaySeconds must not be below minDelaySeconds")
+                .hasMessageContaining("Read has no stabilization to configure");
+    }
+}
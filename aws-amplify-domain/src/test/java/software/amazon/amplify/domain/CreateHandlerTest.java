@@ -1,10 +1,15 @@
 package software.amazon.amplify.domain;
 
+import java.nio.file.Path;
 import java.time.Duration;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.amplify.common.utils.OperationJournal;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.AmplifyException;
+import software.amazon.awssdk.services.amplify.model.BadRequestException;
 import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationResponse;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
@@ -14,6 +19,7 @@ import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRespons
 import software.amazon.awssdk.services.amplify.model.NotFoundException;
 import software.amazon.awssdk.services.amplify.model.SubDomain;
 import software.amazon.awssdk.services.amplify.model.SubDomainSetting;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -34,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -90,7 +97,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .domainAssociation(domainAssociationInProgress)
                         .build());
         when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
-                .thenThrow(NotFoundException.builder().build())
                 .thenReturn(GetDomainAssociationResponse.builder()
                         .domainAssociation(domainAssociationInProgress)
                         .build())
@@ -129,6 +135,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        // Two stabilization polls and the final read, no existence probe before the create
+        verify(sdkClient, times(1)).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+        verify(sdkClient, times(3)).getDomainAssociation(any(GetDomainAssociationRequest.class));
     }
 
     @Test
@@ -172,6 +181,108 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        // One stabilization poll and the final read
+        verify(sdkClient, times(1)).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+        verify(sdkClient, times(2)).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_BadRequestConflictFailsWithAlreadyExists() {
+        when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
+                .thenThrow(BadRequestException.builder()
+                        .message(String.format("Domain %s already exists", DOMAIN_NAME))
+                        .build());
+        stubExistingDomainAssociation();
+
+        // Verify
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, newRequest(), new CallbackContext(),
+                proxyClient, logger))
+                .isInstanceOf(CfnAlreadyExistsException.class);
+        verify(sdkClient, times(1)).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+        verify(sdkClient, times(1)).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_HttpConflictFailsWithAlreadyExists() {
+        when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
+                .thenThrow(AmplifyException.builder()
+                        .statusCode(409)
+                        .message("Conflict")
+                        .build());
+        stubExistingDomainAssociation();
+
+        // Verify
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, newRequest(), new CallbackContext(),
+                proxyClient, logger))
+                .isInstanceOf(CfnAlreadyExistsException.class);
+        verify(sdkClient, times(1)).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+        verify(sdkClient, times(1)).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_BadRequestWithoutAssociationStaysInvalidRequest() {
+        // The message alone decides nothing, without an association the BadRequest is invalid input
+        when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
+                .thenThrow(BadRequestException.builder()
+                        .message(String.format("Domain %s already exists", DOMAIN_NAME))
+                        .build());
+        when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenThrow(NotFoundException.builder().build());
+
+        // Verify
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, newRequest(), new CallbackContext(),
+                proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class);
+        verify(sdkClient, times(1)).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+        verify(sdkClient, times(1)).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_IssuedCreateDoesNotAdoptExistingAssociation() {
+        // An earlier invocation issued the create and returned no ARN, the association found now may predate it
+        when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
+                .thenThrow(BadRequestException.builder()
+                        .message(String.format("Domain %s already exists", DOMAIN_NAME))
+                        .build());
+        stubExistingDomainAssociation();
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setCreateIssued(true);
+
+        // Verify
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, newRequest(), callbackContext, proxyClient,
+                logger))
+                .isInstanceOf(CfnAlreadyExistsException.class);
+        verify(sdkClient, times(1)).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+        verify(sdkClient, times(1)).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CreateJournaledBeforeCrashIsResumed(@TempDir final Path journalDirectory) {
+        DomainAssociation domainAssociation = DomainAssociation.builder()
+                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                .domainName(DOMAIN_NAME)
+                .domainStatus(DomainStatus.PENDING_VERIFICATION)
+                .build();
+        when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
+                .thenReturn(CreateDomainAssociationResponse.builder().domainAssociation(domainAssociation).build());
+        // The first invocation dies on its first stabilization poll, before it can hand its CallbackContext back
+        when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenThrow(new IllegalStateException("injected crash"))
+                .thenReturn(GetDomainAssociationResponse.builder().domainAssociation(domainAssociation).build());
+        final CreateHandler handler = new CreateHandler(new OperationJournal(journalDirectory, Duration.ofHours(1L)));
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, newJournaledRequest(), new CallbackContext(),
+                proxyClient, logger))
+                .hasMessage("injected crash");
+        // CloudFormation retries with the context it last received, an empty one
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                newJournaledRequest(), new CallbackContext(), proxyClient, logger);
+
+        // Without the journal the retry would fail with CfnAlreadyExistsException, the resume goes straight to polling
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(DOMAIN_ASSOCIATION_ARN);
+        verify(sdkClient, times(1)).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+        verify(sdkClient, times(3)).getDomainAssociation(any(GetDomainAssociationRequest.class));
     }
 
     @Test
@@ -286,12 +397,36 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .isInstanceOf(CfnNotStabilizedException.class);
     }
 
+    private ResourceHandlerRequest<ResourceModel> newRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).domainName(DOMAIN_NAME).build())
+                .build();
+    }
+
+    private void stubExistingDomainAssociation() {
+        when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(DomainAssociation.builder()
+                                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                                .domainName(DOMAIN_NAME)
+                                .domainStatus(DomainStatus.AVAILABLE)
+                                .build())
+                        .build());
+    }
+
+    private ResourceHandlerRequest<ResourceModel> newJournaledRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER)
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).domainName(DOMAIN_NAME).build())
+                .build();
+    }
+
     private void stubProxyClient(CreateDomainAssociationResponse createDomainAssociationResponseMock,
                                                   GetDomainAssociationResponse getDomainAssociationResponseMock) {
         when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
                 .thenReturn(createDomainAssociationResponseMock);
         when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
-                .thenThrow(NotFoundException.builder().build())
                 .thenReturn(getDomainAssociationResponseMock);
     }
 }
@@ -0,0 +1,190 @@
+package software.amazon.amplify.domain;
+
+import java.time.Duration;
+
+import software.amazon.amplify.common.faults.Fault;
+import software.amazon.amplify.common.faults.FaultInjectingAmplifyClient;
+import software.amazon.amplify.common.faults.FaultScenario;
+import software.amazon.amplify.common.faults.SimulatedClock;
+import software.amazon.amplify.common.utils.AppliedStateCache;
+import software.amazon.amplify.common.utils.OperationJournal;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationRequest;
+import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationResponse;
+import software.amazon.awssdk.services.amplify.model.DeleteDomainAssociationRequest;
+import software.amazon.awssdk.services.amplify.model.DeleteDomainAssociationResponse;
+import software.amazon.awssdk.services.amplify.model.DomainAssociation;
+import software.amazon.awssdk.services.amplify.model.DomainStatus;
+import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest;
+import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
+import software.amazon.awssdk.services.amplify.model.UpdateDomainAssociationRequest;
+import software.amazon.awssdk.services.amplify.model.UpdateDomainAssociationResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Create, Update and Delete run to completion through throttling, 5xx bursts and latency spikes scripted on the
+// Amplify client, within a budget of calls, CloudFormation retries and simulated time. Create stabilization waits as
+// long as the status adaptive backoff of Configuration says for each status.
+public class FaultInjectionScenarioTest extends AbstractTestBase {
+    private SimulatedClock clock;
+    private AmplifyClient sdkClient;
+    private FaultInjectingAmplifyClient faults;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<AmplifyClient> proxyClient;
+    private FaultScenario scenario;
+
+    @BeforeEach
+    public void setup() {
+        clock = new SimulatedClock();
+        sdkClient = mock(AmplifyClient.class);
+        faults = new FaultInjectingAmplifyClient(sdkClient, clock);
+        // No time left to wait in process, every stabilization wait comes back as IN_PROGRESS on the simulated clock
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> 0L);
+        proxyClient = MOCK_PROXY(proxy, faults.client());
+        scenario = FaultScenario.builder().clock(clock).build();
+    }
+
+    @Test
+    public void create_StabilizesThroughLatencyAndThrottledPoll() {
+        when(sdkClient.createDomainAssociation(any(CreateDomainAssociationRequest.class)))
+                .thenReturn(CreateDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.CREATING))
+                        .build());
+        when(sdkClient.getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.CREATING))
+                        .build())
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.REQUESTING_CERTIFICATE))
+                        .build())
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.PENDING_VERIFICATION))
+                        .build());
+        faults.on("createDomainAssociation", Fault.latency(Duration.ofSeconds(20L)))
+                .on("getDomainAssociation", Fault.pass(), Fault.throttle());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .appId(APP_ID)
+                        .domainName(DOMAIN_NAME)
+                        .subDomainSettings(SUBDOMAIN_SETTINGS_CFN)
+                        .build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getResourceModel().getDomainStatus()).isEqualTo(DomainStatus.PENDING_VERIFICATION.toString());
+        assertThat(outcome.getRetries()).isEqualTo(1);
+        // The journaled ARN stands in for the create on every re-invocation
+        assertThat(faults.getCalls("createDomainAssociation")).isEqualTo(1);
+        assertThat(faults.getCalls("getDomainAssociation")).isLessThanOrEqualTo(6);
+        // A minute for each of CREATING and REQUESTING_CERTIFICATE, the latency spike and one retry delay
+        assertThat(outcome.getElapsed()).isGreaterThanOrEqualTo(Duration.ofSeconds(140L))
+                .isLessThanOrEqualTo(Duration.ofMinutes(5L));
+    }
+
+    @Test
+    public void create_ThrottledCreateOfExistingAssociationFailsWithAlreadyExists() {
+        // The association was there before the stack, a retried create must not take it over
+        when(sdkClient.getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.AVAILABLE))
+                        .build());
+        faults.on("createDomainAssociation", Fault.throttle(), Fault.conflict());
+        final CreateHandler handler = new CreateHandler(OperationJournal.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).domainName(DOMAIN_NAME).build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(outcome.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(outcome.getRetries()).isEqualTo(1);
+        assertThat(faults.getCalls("createDomainAssociation")).isEqualTo(2);
+        assertThat(faults.getCalls("getDomainAssociation")).isEqualTo(1);
+    }
+
+    @Test
+    public void update_StabilizesThroughInternalFailureAndLatency() {
+        when(sdkClient.updateDomainAssociation(any(UpdateDomainAssociationRequest.class)))
+                .thenReturn(UpdateDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.UPDATING))
+                        .build());
+        when(sdkClient.getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.UPDATING))
+                        .build())
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.AVAILABLE))
+                        .build());
+        faults.on("updateDomainAssociation", Fault.internalFailure())
+                .on("getDomainAssociation", Fault.latency(Duration.ofSeconds(30L)));
+        final UpdateHandler handler = new UpdateHandler(AppliedStateCache.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .appId(APP_ID)
+                        .domainName(DOMAIN_NAME)
+                        .subDomainSettings(SUBDOMAIN_SETTINGS_CFN)
+                        .build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getRetries()).isEqualTo(1);
+        assertThat(faults.getCalls("updateDomainAssociation")).isEqualTo(2);
+        assertThat(faults.getTotalCalls()).isLessThanOrEqualTo(6);
+        assertThat(outcome.getElapsed()).isGreaterThanOrEqualTo(Duration.ofSeconds(35L))
+                .isLessThanOrEqualTo(Duration.ofMinutes(3L));
+    }
+
+    @Test
+    public void delete_CompletesThroughThrottleAndInternalFailure() {
+        when(sdkClient.deleteDomainAssociation(any(DeleteDomainAssociationRequest.class)))
+                .thenReturn(DeleteDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation(DomainStatus.AVAILABLE))
+                        .build());
+        faults.on("deleteDomainAssociation", Fault.throttle(), Fault.internalFailure())
+                .on("getDomainAssociation", Fault.notFound());
+        final DeleteHandler handler = new DeleteHandler(AppliedStateCache.DISABLED);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .appId(APP_ID)
+                        .arn(DOMAIN_ASSOCIATION_ARN)
+                        .domainName(DOMAIN_NAME)
+                        .build())
+                .build();
+
+        final FaultScenario.Outcome<ResourceModel> outcome = scenario.run(new CallbackContext(),
+                context -> handler.handleRequest(proxy, request, context, proxyClient, logger));
+
+        assertThat(outcome.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(outcome.getRetries()).isEqualTo(2);
+        assertThat(faults.getCalls("deleteDomainAssociation")).isEqualTo(3);
+        assertThat(faults.getCalls("getDomainAssociation")).isEqualTo(1);
+        assertThat(outcome.getElapsed()).isLessThanOrEqualTo(Duration.ofSeconds(30L));
+    }
+
+    private static DomainAssociation domainAssociation(final DomainStatus domainStatus) {
+        return DomainAssociation.builder()
+                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                .domainName(DOMAIN_NAME)
+                .domainStatus(domainStatus)
+                .build();
+    }
+}
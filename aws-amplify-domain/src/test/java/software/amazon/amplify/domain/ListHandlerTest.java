@@ -1,6 +1,8 @@
 package software.amazon.amplify.domain;
 
 import com.google.common.collect.ImmutableList;
+import software.amazon.amplify.common.utils.ListBudget;
+import software.amazon.amplify.common.utils.ResponseProjection;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
 import software.amazon.awssdk.services.amplify.model.ListDomainAssociationsRequest;
@@ -77,4 +79,35 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_SummaryProjection() {
+        final ListHandler handler = new ListHandler(ListBudget.SINGLE_PAGE, ResponseProjection.SUMMARY);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).build())
+                .build();
+
+        when(proxyClient.client().listDomainAssociations(any(ListDomainAssociationsRequest.class)))
+                .thenReturn(ListDomainAssociationsResponse.builder()
+                        .domainAssociations(ImmutableList.of(DomainAssociation.builder()
+                                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                                .domainName(DOMAIN_NAME)
+                                .autoSubDomainCreationPatterns(AUTO_SUBDOMAIN_CREATION_PATTERNS)
+                                .build()))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ResourceModel expected = ResourceModel.builder()
+                .appId(APP_ID)
+                .arn(DOMAIN_ASSOCIATION_ARN)
+                .domainName(DOMAIN_NAME)
+                .statusReason(DEFAULT_DOMAIN_STATUS)
+                .build();
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(expected);
+    }
 }
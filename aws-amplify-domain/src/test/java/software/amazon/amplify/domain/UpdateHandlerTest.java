@@ -1,7 +1,10 @@
 package software.amazon.amplify.domain;
 
 import java.time.Duration;
+
+import com.google.common.collect.ImmutableList;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.BadRequestException;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
 import software.amazon.awssdk.services.amplify.model.DomainStatus;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest;
@@ -10,6 +13,7 @@ import software.amazon.awssdk.services.amplify.model.SubDomain;
 import software.amazon.awssdk.services.amplify.model.SubDomainSetting;
 import software.amazon.awssdk.services.amplify.model.UpdateDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.UpdateDomainAssociationResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,6 +33,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -185,6 +192,117 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .isInstanceOf(CfnNotStabilizedException.class);
     }
 
+    @Test
+    public void handleRequest_NoEffectiveChangeSkipsUpdate() {
+        final SubDomainSetting otherSubDomainSetting = SubDomainSetting.builder().prefix("api").branchName(BRANCH_NAME).build();
+        final software.amazon.amplify.domain.SubDomainSetting otherSubDomainSettingCFN = software.amazon.amplify.domain.SubDomainSetting.builder()
+                .prefix("api")
+                .branchName(BRANCH_NAME)
+                .build();
+        final DomainAssociation domainAssociation = DomainAssociation.builder()
+                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                .domainName(DOMAIN_NAME)
+                .domainStatus(DomainStatus.AVAILABLE)
+                .subDomains(SubDomain.builder()
+                        .subDomainSetting(SubDomainSetting.builder().prefix(PREFIX).branchName(BRANCH_NAME).build())
+                        .build(),
+                        SubDomain.builder().subDomainSetting(otherSubDomainSetting).build())
+                .build();
+        when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(domainAssociation)
+                        .build());
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .subDomainSettings(ImmutableList.of(SUBDOMAIN_SETTINGS_CFN.get(0), otherSubDomainSettingCFN))
+                .build();
+        // Same subdomains in a different order
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .subDomainSettings(ImmutableList.of(otherSubDomainSettingCFN, SUBDOMAIN_SETTINGS_CFN.get(0)))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(Translator.isSubDomainOrderOnlyChange(previousModel, model)).isTrue();
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDomainStatus()).isEqualTo(DomainStatus.AVAILABLE.toString());
+        verify(sdkClient, times(1)).getDomainAssociation(any(GetDomainAssociationRequest.class));
+        verify(sdkClient, never()).updateDomainAssociation(any(UpdateDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_EffectiveSubDomainSettingsSent() {
+        final DomainAssociation domainAssociation = DomainAssociation.builder()
+                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                .domainName(DOMAIN_NAME)
+                .domainStatus(DomainStatus.AVAILABLE)
+                .build();
+        stubProxyClient(UpdateDomainAssociationResponse.builder().domainAssociation(domainAssociation).build(),
+                GetDomainAssociationResponse.builder().domainAssociation(domainAssociation).build());
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .subDomainSettings(SUBDOMAIN_SETTINGS_CFN)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .subDomainSettings(ImmutableList.of(SUBDOMAIN_SETTINGS_CFN.get(0), SUBDOMAIN_SETTINGS_CFN.get(0)))
+                .enableAutoSubDomain(true)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<UpdateDomainAssociationRequest> captor = ArgumentCaptor.forClass(UpdateDomainAssociationRequest.class);
+        verify(sdkClient).updateDomainAssociation(captor.capture());
+        assertThat(captor.getValue().subDomainSettings()).containsExactly(
+                SubDomainSetting.builder().prefix(PREFIX).branchName(BRANCH_NAME).build());
+        assertThat(captor.getValue().enableAutoSubDomain()).isTrue();
+    }
+
+    @Test
+    public void handleRequest_AlreadyExistsMessageStaysInvalidRequest() {
+        // Only a create maps a conflict to AlreadyExists, an update that mentions one is still an invalid request
+        when(proxyClient.client().updateDomainAssociation(any(UpdateDomainAssociationRequest.class)))
+                .thenThrow(BadRequestException.builder()
+                        .message(String.format("Domain %s already exists", DOMAIN_NAME))
+                        .build());
+
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        // Verify
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class);
+        verify(sdkClient).updateDomainAssociation(any(UpdateDomainAssociationRequest.class));
+    }
+
     private void stubProxyClient(UpdateDomainAssociationResponse updateDomainAssociationResponse,
                                  GetDomainAssociationResponse getDomainAssociationResponse) {
         when(proxyClient.client().updateDomainAssociation(any(UpdateDomainAssociationRequest.class)))
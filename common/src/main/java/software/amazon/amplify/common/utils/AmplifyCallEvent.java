@@ -0,0 +1,89 @@
+package software.amazon.amplify.common.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.commons.lang3.math.NumberUtils;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+// One Amplify API call made through ClientWrapper, see FlightRecorderEvents
+@Name(AmplifyCallEvent.NAME)
+@Label("Amplify Call")
+@Category({"Amplify", "Handler"})
+@Description("Amplify API call made by a resource handler, including any client side rate limiting wait")
+@StackTrace(false)
+final class AmplifyCallEvent extends jdk.jfr.Event {
+    static final String NAME = "software.amazon.amplify.AmplifyCall";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Resource Type")
+    String resourceType;
+
+    @Label("Resource Id")
+    String resourceId;
+
+    @Label("Outcome")
+    @Description("SUCCESS or the simple name of the exception the call failed with")
+    String outcome;
+
+    @Label("HTTP Status")
+    int statusCode;
+
+    @Label("Request Size")
+    @Description("Estimated JSON size of the request")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @Description("Content-Length of the response, or its estimated JSON size when there is none")
+    @DataAmount
+    long responseBytes;
+
+    // Only called through FlightRecorderEvents, which checks that jdk.jfr is there first
+    static FlightRecorderEvents.Call start() {
+        final AmplifyCallEvent event = new AmplifyCallEvent();
+        event.begin();
+        return (request, response, resourceType, resourceId, error) -> {
+            event.end();
+            // Sizes are only worked out when a recording actually wants the event
+            if (!event.shouldCommit()) {
+                return;
+            }
+            final String requestName = request.getClass().getSimpleName();
+            event.operation = requestName.substring(0, requestName.length() - "Request".length());
+            event.resourceType = resourceType;
+            event.resourceId = resourceId;
+            event.requestBytes = PayloadUtils.estimateSize(request);
+            if (error == null) {
+                event.outcome = "SUCCESS";
+                setResponse(event, response);
+            } else {
+                event.outcome = error.getClass().getSimpleName();
+                if (error instanceof AwsServiceException) {
+                    event.statusCode = ((AwsServiceException) error).statusCode();
+                }
+            }
+            event.commit();
+        };
+    }
+
+    private static void setResponse(final AmplifyCallEvent event, final AwsResponse response) {
+        if (response == null) {
+            return;
+        }
+        final SdkHttpResponse httpResponse = response.sdkHttpResponse();
+        final long contentLength = httpResponse == null ? -1L
+                : NumberUtils.toLong(httpResponse.firstMatchingHeader("Content-Length").orElse(null), -1L);
+        if (httpResponse != null) {
+            event.statusCode = httpResponse.statusCode();
+        }
+        event.responseBytes = contentLength >= 0L ? contentLength : PayloadUtils.estimateSize(response);
+    }
+}
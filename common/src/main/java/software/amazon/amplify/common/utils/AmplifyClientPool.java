@@ -0,0 +1,252 @@
+package software.amazon.amplify.common.utils;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.AmplifyClientBuilder;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// Bounded pool of Amplify clients keyed by region and credential identity, for runners that drive the handlers for
+// many accounts and regions from one JVM. All clients send through the one shared SdkHttpClient, so its connection
+// pool is shared too and closing a client never closes it. Past maxClients the least recently leased client is
+// evicted and closed once the last lease on it is released, a client is never closed under a caller still using it.
+// Capacity is AMPLIFY_CLIENT_POOL_SIZE for pools built with fromEnvironment, 32 by default.
+public final class AmplifyClientPool {
+    private static final String SIZE_ENVIRONMENT_VARIABLE = "AMPLIFY_CLIENT_POOL_SIZE";
+    private static final int DEFAULT_MAX_CLIENTS = 32;
+    private static final String DEFAULT_REGION = "default";
+
+    private final SdkHttpClient httpClient;
+    private final Supplier<AmplifyClientBuilder> clientBuilder;
+    private final int maxClients;
+    private final LinkedHashMap<Key, PooledClient> clients;
+    // Evicted clients that still have leases out
+    private final List<PooledClient> retired = new ArrayList<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    @Value
+    private static class Key {
+        private final String region;
+        private final String identity;
+    }
+
+    private static final class PooledClient {
+        private final AmplifyClient client;
+        private int leases;
+        private boolean evicted;
+
+        private PooledClient(final AmplifyClient client) {
+            this.client = client;
+        }
+    }
+
+    @Value
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int liveClients;
+
+        // Share of leases served by an existing client, 0 before the first lease
+        public double getHitRate() {
+            final long leases = hits + misses;
+            return leases == 0L ? 0.0 : (double) hits / leases;
+        }
+    }
+
+    // A client out of the pool, close the lease when done with the client rather than the client itself
+    public final class Lease implements AutoCloseable {
+        private final PooledClient pooled;
+        private final boolean created;
+        private boolean released;
+
+        private Lease(final PooledClient pooled, final boolean created) {
+            this.pooled = pooled;
+            this.created = created;
+        }
+
+        public AmplifyClient getClient() {
+            return pooled.client;
+        }
+
+        // Whether this lease had to build its client
+        public boolean isCreated() {
+            return created;
+        }
+
+        @Override
+        public void close() {
+            release(this);
+        }
+    }
+
+    /**
+     * @param httpClient shared by every client of the pool, owned by the caller
+     * @param clientBuilder fresh client builder, region, credentials and http client are set by the pool
+     * @param maxClients clients kept before the least recently leased one is evicted
+     */
+    @Builder
+    private AmplifyClientPool(@NonNull final SdkHttpClient httpClient,
+                              @NonNull final Supplier<AmplifyClientBuilder> clientBuilder,
+                              final int maxClients) {
+        this.httpClient = httpClient;
+        this.clientBuilder = clientBuilder;
+        this.maxClients = maxClients > 0 ? maxClients : DEFAULT_MAX_CLIENTS;
+        this.clients = new LinkedHashMap<Key, PooledClient>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, PooledClient> eldest) {
+                if (size() <= AmplifyClientPool.this.maxClients) {
+                    return false;
+                }
+                evict(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public static AmplifyClientPool fromEnvironment(final SdkHttpClient httpClient,
+                                                    final Supplier<AmplifyClientBuilder> clientBuilder) {
+        final String setting = System.getenv(SIZE_ENVIRONMENT_VARIABLE);
+        int maxClients = DEFAULT_MAX_CLIENTS;
+        if (setting != null) {
+            try {
+                maxClients = Integer.parseInt(setting.trim());
+            } catch (final NumberFormatException e) {
+                InitWarnings.add("ignoring " + SIZE_ENVIRONMENT_VARIABLE + ", not a number: " + setting);
+            }
+        }
+        return builder().httpClient(httpClient).clientBuilder(clientBuilder).maxClients(maxClients).build();
+    }
+
+    /**
+     * Lease the client for a region and credential identity, building it on first use
+     * @param region region name, null for the SDK default region lookup
+     * @param identity who the credentials belong to, e.g. an account id or role ARN, clients are never shared across
+     *                 identities
+     * @param credentialsProvider used when the client is built, null for the SDK default chain, as when the
+     *                            CloudFormation proxy injects credentials into every request
+     */
+    public Lease lease(final String region, final String identity, final AwsCredentialsProvider credentialsProvider) {
+        final Key key = new Key(region != null ? region : DEFAULT_REGION, Objects.toString(identity, ""));
+        final List<PooledClient> closable;
+        final Lease lease;
+        synchronized (this) {
+            PooledClient pooled = clients.get(key);
+            final boolean created = pooled == null;
+            if (created) {
+                misses++;
+                // Built under the lock so two leases for a new key never build two clients, building takes no I/O
+                pooled = new PooledClient(build(region, credentialsProvider));
+                clients.put(key, pooled);
+            } else {
+                hits++;
+            }
+            pooled.leases++;
+            lease = new Lease(pooled, created);
+            closable = takeClosable();
+        }
+        closeAll(closable);
+        return lease;
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(hits, misses, evictions, clients.size() + retired.size());
+    }
+
+    public void publishMetrics(final Logger logger, final String resourceTypeName) {
+        final Stats stats = getStats();
+        MetricsUtils.publish(logger, resourceTypeName, "ClientPoolHitRate", stats.getHitRate() * 100.0,
+                MetricsUtils.UNIT_PERCENT);
+        MetricsUtils.publish(logger, resourceTypeName, "ClientPoolLiveClients", stats.getLiveClients(),
+                MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, resourceTypeName, "ClientPoolEvictions", stats.getEvictions(),
+                MetricsUtils.UNIT_COUNT);
+    }
+
+    // Evicts every client, each is closed as soon as its last lease is released
+    public void close() {
+        final List<PooledClient> closable;
+        synchronized (this) {
+            for (final PooledClient pooled : clients.values()) {
+                evict(pooled);
+            }
+            clients.clear();
+            closable = takeClosable();
+        }
+        closeAll(closable);
+    }
+
+    private AmplifyClient build(final String region, final AwsCredentialsProvider credentialsProvider) {
+        final AmplifyClientBuilder builder = clientBuilder.get().httpClient(httpClient);
+        if (region != null) {
+            builder.region(Region.of(region));
+        }
+        if (credentialsProvider != null) {
+            builder.credentialsProvider(credentialsProvider);
+        }
+        return builder.build();
+    }
+
+    // Called with the pool locked
+    private void evict(final PooledClient pooled) {
+        evictions++;
+        pooled.evicted = true;
+        retired.add(pooled);
+    }
+
+    private void release(final Lease lease) {
+        final List<PooledClient> closable;
+        synchronized (this) {
+            if (lease.released) {
+                return;
+            }
+            lease.released = true;
+            lease.pooled.leases--;
+            closable = takeClosable();
+        }
+        closeAll(closable);
+    }
+
+    // Called with the pool locked, hands out the evicted clients nobody leases any more
+    private List<PooledClient> takeClosable() {
+        List<PooledClient> closable = null;
+        final Iterator<PooledClient> iterator = retired.iterator();
+        while (iterator.hasNext()) {
+            final PooledClient pooled = iterator.next();
+            if (pooled.evicted && pooled.leases == 0) {
+                if (closable == null) {
+                    closable = new ArrayList<>();
+                }
+                closable.add(pooled);
+                iterator.remove();
+            }
+        }
+        return closable;
+    }
+
+    // Outside the lock, closing a client shuts down its own executors
+    private static void closeAll(final List<PooledClient> closable) {
+        if (closable == null) {
+            return;
+        }
+        for (final PooledClient pooled : closable) {
+            pooled.client.close();
+        }
+    }
+}
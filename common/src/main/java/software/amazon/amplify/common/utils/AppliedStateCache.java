@@ -0,0 +1,103 @@
+package software.amazon.amplify.common.utils;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+// ModelFingerprint of the model the last successful update applied, per resource ARN, together with the fingerprint of
+// the model read back right after it. Kept as one small file per resource in /tmp so it outlives the handler instances
+// of an execution environment. An update re-sending that model, as retries and repeated rollbacks do, can then skip
+// the service calls once a fresh read still matches what the update left, changes made outside CloudFormation are
+// applied over as usual. Entries expire after AMPLIFY_APPLIED_STATE_TTL_SECONDS, 15 minutes by default. On by default
+// inside Lambda, AMPLIFY_APPLIED_STATE_CACHE set to true or false overrides that.
+public final class AppliedStateCache {
+    public static final AppliedStateCache DISABLED = new AppliedStateCache(null, Duration.ZERO);
+    private static final String ENABLED_ENVIRONMENT_VARIABLE = "AMPLIFY_APPLIED_STATE_CACHE";
+    private static final String TTL_ENVIRONMENT_VARIABLE = "AMPLIFY_APPLIED_STATE_TTL_SECONDS";
+    private static final String LAMBDA_FUNCTION_VARIABLE = "AWS_LAMBDA_FUNCTION_NAME";
+    private static final String SEPARATOR = "\n";
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(15L);
+    private static final Path DEFAULT_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"),
+            "amplify-cfn-applied-state");
+
+    private final Path directory;
+    private final Duration ttl;
+
+    public AppliedStateCache(final Path directory, final Duration ttl) {
+        this.directory = directory;
+        this.ttl = ttl;
+    }
+
+    public static AppliedStateCache fromEnvironment() {
+        final String setting = System.getenv(ENABLED_ENVIRONMENT_VARIABLE);
+        final boolean enabled = setting != null ? Boolean.parseBoolean(setting)
+                : System.getenv(LAMBDA_FUNCTION_VARIABLE) != null;
+        final long ttlSeconds = NumberUtils.toLong(System.getenv(TTL_ENVIRONMENT_VARIABLE), DEFAULT_TTL.getSeconds());
+        return enabled && ttlSeconds > 0L ? new AppliedStateCache(DEFAULT_DIRECTORY, Duration.ofSeconds(ttlSeconds))
+                : DISABLED;
+    }
+
+    // Callers skip computing fingerprints when the cache is off
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    // Fingerprint of the model read back after the update that applied this fingerprint, null when the resource has no
+    // unexpired entry or the last applied model was a different one
+    public String getAppliedReadFingerprint(final String arn, final String fingerprint) {
+        if (!isEnabled() || arn == null) {
+            return null;
+        }
+        final Path entry = entry(arn);
+        try {
+            final long ageMillis = System.currentTimeMillis() - Files.getLastModifiedTime(entry).toMillis();
+            if (ageMillis < 0L || ageMillis >= ttl.toMillis()) {
+                return null;
+            }
+            final String[] fingerprints = new String(Files.readAllBytes(entry), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, -1);
+            return fingerprints.length == 2 && fingerprint.equals(fingerprints[0]) ? fingerprints[1] : null;
+        } catch (final IOException e) {
+            // No entry or an unreadable one, the update goes through as usual
+            return null;
+        }
+    }
+
+    public void record(final String arn, final String fingerprint, final String readFingerprint) {
+        if (!isEnabled() || arn == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            // Written aside and moved in, so a concurrent reader never sees half an entry
+            final Path temporary = Files.createTempFile(directory, "entry", ".tmp");
+            Files.write(temporary, (fingerprint + SEPARATOR + readFingerprint).getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, entry(arn), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            // Not recorded, the next identical update is simply applied again
+        }
+    }
+
+    // Forgets the resource before an update or delete touches it, a failed or interrupted call leaves it somewhere
+    // between the previous and the desired model
+    public void invalidate(final String arn) {
+        if (!isEnabled() || arn == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(entry(arn));
+        } catch (final IOException e) {
+            // Only an unwritable /tmp gets here, and then record() could not have written the entry either
+        }
+    }
+
+    private Path entry(final String arn) {
+        return directory.resolve(ModelFingerprint.sha256(arn));
+    }
+}
@@ -0,0 +1,101 @@
+package software.amazon.amplify.common.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Stabilization backoff of each handler of a resource, keyed by operation (Create, Update, Delete). Modules declare
+// their defaults in Configuration, AMPLIFY_BACKOFF_POLICIES replaces the policy of any operation it names with a JSON
+// document such as {"Delete": {"strategy": "EXPONENTIAL", "minDelaySeconds": 5, "maxDelaySeconds": 60,
+// "timeoutSeconds": 1200}}. A document that does not validate is ignored as a whole, the defaults stay in place.
+@Builder
+@Getter
+public final class BackoffPolicies {
+    public static final String CREATE = "Create";
+    public static final String UPDATE = "Update";
+    public static final String DELETE = "Delete";
+    private static final String ENVIRONMENT_VARIABLE = "AMPLIFY_BACKOFF_POLICIES";
+
+    @Singular
+    private final Map<String, BackoffPolicy> policies;
+
+    public static BackoffPolicies fromEnvironment(final BackoffPolicies defaults) {
+        final String setting = System.getenv(ENVIRONMENT_VARIABLE);
+        if (setting == null || setting.isEmpty()) {
+            return defaults;
+        }
+        try {
+            return defaults.withOverrides(setting);
+        } catch (final IllegalArgumentException e) {
+            InitWarnings.add("ignoring " + ENVIRONMENT_VARIABLE + ", " + e.getMessage());
+            return defaults;
+        }
+    }
+
+    // Replaces the policies the document names, throws IllegalArgumentException listing every problem found
+    public BackoffPolicies withOverrides(final String json) {
+        final JsonNode document;
+        try {
+            document = new ObjectMapper().readTree(json);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("backoff policies are not valid JSON: " + e.getMessage(), e);
+        }
+        if (document == null || !document.isObject()) {
+            throw new IllegalArgumentException("backoff policies must be a JSON object keyed by operation");
+        }
+        final List<String> problems = new ArrayList<>();
+        final Map<String, BackoffPolicy> merged = new LinkedHashMap<>(policies);
+        final Iterator<Map.Entry<String, JsonNode>> operations = document.fields();
+        while (operations.hasNext()) {
+            final Map.Entry<String, JsonNode> operation = operations.next();
+            if (!policies.containsKey(operation.getKey())) {
+                problems.add(String.format("%s has no stabilization to configure, expected one of %s",
+                        operation.getKey(), policies.keySet()));
+                continue;
+            }
+            final List<String> policyProblems = new ArrayList<>();
+            final BackoffPolicy policy = BackoffPolicy.fromJson(operation.getValue(), operation.getKey(),
+                    policyProblems);
+            if (policyProblems.isEmpty()) {
+                for (final String problem : policy.validate()) {
+                    policyProblems.add(operation.getKey() + ": " + problem);
+                }
+            }
+            problems.addAll(policyProblems);
+            merged.put(operation.getKey(), policy);
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", problems));
+        }
+        return new BackoffPolicies(Collections.unmodifiableMap(merged));
+    }
+
+    // Problems of every policy, prefixed with its operation
+    public List<String> validate() {
+        final List<String> problems = new ArrayList<>();
+        for (final Map.Entry<String, BackoffPolicy> policy : policies.entrySet()) {
+            for (final String problem : policy.getValue().validate()) {
+                problems.add(policy.getKey() + ": " + problem);
+            }
+        }
+        return problems;
+    }
+
+    public BackoffPolicy get(final String operation) {
+        final BackoffPolicy policy = policies.get(operation);
+        if (policy == null) {
+            throw new IllegalArgumentException("No backoff policy for " + operation);
+        }
+        return policy;
+    }
+}
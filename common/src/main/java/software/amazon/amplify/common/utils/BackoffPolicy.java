@@ -0,0 +1,164 @@
+package software.amazon.amplify.common.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// How a handler waits between stabilization polls. CONSTANT polls every minDelaySeconds, EXPONENTIAL starts at
+// minDelaySeconds and multiplies the delay after every poll up to maxDelaySeconds, STATUS_ADAPTIVE waits the delay
+// listed for the last observed status and maxDelaySeconds for any other. The timeout is measured from the first poll
+// across handler re-invocations, not from the attempt count of the current one.
+@Builder
+@Getter
+public final class BackoffPolicy {
+    public enum Strategy {
+        CONSTANT,
+        EXPONENTIAL,
+        STATUS_ADAPTIVE
+    }
+
+    private final Strategy strategy;
+    private final long minDelaySeconds;
+    // 0 means the same as minDelaySeconds
+    private final long maxDelaySeconds;
+    private final long timeoutSeconds;
+    @Builder.Default
+    private final double multiplier = 2.0;
+    @Singular("statusDelay")
+    private final Map<String, Long> statusDelaySeconds;
+
+    // Everything wrong with the policy, empty when it can be used
+    public List<String> validate() {
+        final List<String> problems = new ArrayList<>();
+        if (strategy == null) {
+            problems.add("strategy is required, one of CONSTANT, EXPONENTIAL or STATUS_ADAPTIVE");
+        }
+        // A zero delay tells the framework the wait timed out
+        if (minDelaySeconds <= 0L) {
+            problems.add("minDelaySeconds must be positive");
+        }
+        if (maxDelaySeconds != 0L && maxDelaySeconds < minDelaySeconds) {
+            problems.add("maxDelaySeconds must not be below minDelaySeconds");
+        }
+        if (timeoutSeconds < minDelaySeconds) {
+            problems.add("timeoutSeconds must allow for at least one delay");
+        }
+        if (strategy == Strategy.EXPONENTIAL && !(multiplier > 1.0)) {
+            problems.add("multiplier must be above 1 for EXPONENTIAL");
+        }
+        if (strategy != Strategy.STATUS_ADAPTIVE && !statusDelaySeconds.isEmpty()) {
+            problems.add("statusDelaySeconds is only used by STATUS_ADAPTIVE");
+        }
+        for (final Map.Entry<String, Long> statusDelay : statusDelaySeconds.entrySet()) {
+            if (statusDelay.getValue() < minDelaySeconds || statusDelay.getValue() > getEffectiveMaxDelaySeconds()) {
+                problems.add(String.format("statusDelaySeconds.%s must be between minDelaySeconds and maxDelaySeconds",
+                        statusDelay.getKey()));
+            }
+        }
+        return problems;
+    }
+
+    // Delay before the next poll once pollCount polls were made and the last one saw lastObservedStatus
+    public Duration nextDelay(final int pollCount, final String lastObservedStatus) {
+        final long maxDelay = getEffectiveMaxDelaySeconds();
+        switch (strategy) {
+            case EXPONENTIAL:
+                final double delay = minDelaySeconds * Math.pow(multiplier, Math.max(pollCount - 1, 0));
+                return Duration.ofSeconds(delay >= maxDelay ? maxDelay : (long) delay);
+            case STATUS_ADAPTIVE:
+                final Long statusDelay = lastObservedStatus != null ? statusDelaySeconds.get(lastObservedStatus) : null;
+                return Duration.ofSeconds(statusDelay != null ? statusDelay : maxDelay);
+            default:
+                return Duration.ofSeconds(minDelaySeconds);
+        }
+    }
+
+    // Backoff for proxy.initiate(...).backoffDelay, polls are counted in the CallbackContext so they survive re-invocations
+    public Delay toDelay(final StabilizationState state) {
+        return attempt -> {
+            final Long firstPollTimestamp = state.getFirstPollTimestamp();
+            if (firstPollTimestamp != null &&
+                    System.currentTimeMillis() - firstPollTimestamp > Duration.ofSeconds(timeoutSeconds).toMillis()) {
+                return Duration.ZERO;
+            }
+            return nextDelay(state.getPollCount(), state.getLastObservedStatus());
+        };
+    }
+
+    public long getEffectiveMaxDelaySeconds() {
+        return maxDelaySeconds != 0L ? maxDelaySeconds : minDelaySeconds;
+    }
+
+    // Reads one policy object, see BackoffPolicies for the document it is part of. Problems are added to the list
+    // with the prefix, the returned policy is only usable when none were added.
+    static BackoffPolicy fromJson(final JsonNode node, final String prefix, final List<String> problems) {
+        final BackoffPolicyBuilder builder = BackoffPolicy.builder();
+        if (!node.isObject()) {
+            problems.add(prefix + " must be an object");
+            return builder.build();
+        }
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            final JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "strategy":
+                    try {
+                        builder.strategy(Strategy.valueOf(value.asText()));
+                    } catch (final IllegalArgumentException e) {
+                        problems.add(String.format("%s.strategy %s is not one of CONSTANT, EXPONENTIAL or STATUS_ADAPTIVE",
+                                prefix, value));
+                    }
+                    break;
+                case "minDelaySeconds":
+                    builder.minDelaySeconds(readSeconds(value, prefix + ".minDelaySeconds", problems));
+                    break;
+                case "maxDelaySeconds":
+                    builder.maxDelaySeconds(readSeconds(value, prefix + ".maxDelaySeconds", problems));
+                    break;
+                case "timeoutSeconds":
+                    builder.timeoutSeconds(readSeconds(value, prefix + ".timeoutSeconds", problems));
+                    break;
+                case "multiplier":
+                    if (value.isNumber()) {
+                        builder.multiplier(value.asDouble());
+                    } else {
+                        problems.add(prefix + ".multiplier must be a number");
+                    }
+                    break;
+                case "statusDelaySeconds":
+                    if (!value.isObject()) {
+                        problems.add(prefix + ".statusDelaySeconds must map statuses to seconds");
+                        break;
+                    }
+                    final Iterator<Map.Entry<String, JsonNode>> statuses = value.fields();
+                    while (statuses.hasNext()) {
+                        final Map.Entry<String, JsonNode> status = statuses.next();
+                        builder.statusDelay(status.getKey(), readSeconds(status.getValue(),
+                                prefix + ".statusDelaySeconds." + status.getKey(), problems));
+                    }
+                    break;
+                default:
+                    problems.add(String.format("%s.%s is not a backoff policy setting", prefix, field.getKey()));
+                    break;
+            }
+        }
+        return builder.build();
+    }
+
+    private static long readSeconds(final JsonNode value, final String name, final List<String> problems) {
+        if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+            problems.add(name + " must be a whole number of seconds");
+            return 0L;
+        }
+        return value.asLong();
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+// Names of the properties an update request carries, collected by comparing the previous and desired model property
+// by property. Each module's Translator decides what counts as a change, UpdateHandler logs and publishes the result.
+public final class ChangedProperties {
+    private final Set<String> names = new LinkedHashSet<>();
+
+    // Records the property when the template sets it to something other than before, an unset property is left alone
+    public ChangedProperties addIfChanged(final String name, final Object previousValue, final Object desiredValue) {
+        if (desiredValue != null && !Objects.equals(previousValue, desiredValue)) {
+            names.add(name);
+        }
+        return this;
+    }
+
+    // Records a property whose change the caller determined itself, e.g. a collection compared as a map or a clear
+    public ChangedProperties add(final String name) {
+        names.add(name);
+        return this;
+    }
+
+    public boolean contains(final String name) {
+        return names.contains(name);
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(names);
+    }
+
+    public void publish(final Logger logger, final String resourceTypeName) {
+        logger.log(String.format("INFO: changed properties: %s", names));
+        MetricsUtils.publish(logger, resourceTypeName, "UpdateChangedProperties", names.size(),
+                MetricsUtils.UNIT_COUNT);
+    }
+}
@@ -8,18 +8,30 @@ import software.amazon.awssdk.services.amplify.model.InternalFailureException;
 import software.amazon.awssdk.services.amplify.model.LimitExceededException;
 import software.amazon.awssdk.services.amplify.model.NotFoundException;
 import software.amazon.awssdk.services.amplify.model.UnauthorizedException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public final class ClientWrapper {
+    private static final int HTTP_CONFLICT = 409;
+    private static final int HTTP_SERVER_ERROR = 500;
+
     public static <RequestT extends AwsRequest, ResultT extends AwsResponse> AwsResponse execute(
             final AmazonWebServicesClientProxy clientProxy,
             final RequestT request,
@@ -36,27 +48,181 @@ public final class ClientWrapper {
             final String resourceTypeName,
             final String resourceTypeId,
             final Logger logger) {
+        try (Span span = startCallSpan(request, resourceTypeId, false)) {
+            final FlightRecorderEvents.Call call = FlightRecorderEvents.beginCall();
+            try {
+                RateLimiters.acquire(request);
+                logger.log("Invoking with request: " + request.toString());
+                final ResultT response = clientProxy.injectCredentialsAndInvokeV2(request, requestFunction);
+                call.commit(request, response, resourceTypeName, resourceTypeId, null);
+                return response;
+            } catch (AwsServiceException e) {
+                call.commit(request, null, resourceTypeName, resourceTypeId, e);
+                span.recordError(e).setAttribute("http.status_code", e.statusCode());
+                throw translateException(e, resourceTypeName, resourceTypeId, logger);
+            } catch (RuntimeException e) {
+                call.commit(request, null, resourceTypeName, resourceTypeId, e);
+                span.recordError(e);
+                throw e;
+            }
+        }
+    }
+
+    // Same exception mapping as execute, failures surface as the Cfn exception when the future is joined
+    public static <RequestT extends AwsRequest, ResultT extends AwsResponse> CompletableFuture<AwsResponse> executeAsync(
+            final AmazonWebServicesClientProxy clientProxy,
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResultT>> requestFunction,
+            final String resourceTypeName,
+            final String resourceTypeId,
+            final Logger logger) {
+        final CompletableFuture<ResultT> responseFuture;
+        // Ended when the future completes, possibly on another thread, so it is not left current on this one
+        final Span span = startCallSpan(request, resourceTypeId, true);
+        final FlightRecorderEvents.Call call = FlightRecorderEvents.beginCall();
         try {
-            logger.log("Invoking with request: " + request.toString());
-            return clientProxy.injectCredentialsAndInvokeV2(request, requestFunction);
-        } catch (NotFoundException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnNotFoundException(resourceTypeName, resourceTypeId);
-        } catch (InternalFailureException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnInternalFailureException(e);
-        } catch (LimitExceededException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnServiceLimitExceededException(resourceTypeName, e.getMessage());
-        } catch (BadRequestException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (UnauthorizedException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnAccessDeniedException(e);
+            RateLimiters.acquire(request);
+            logger.log("Invoking asynchronously with request: " + request.toString());
+            responseFuture = clientProxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
         } catch (AwsServiceException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnGeneralServiceException(e);
+            call.commit(request, null, resourceTypeName, resourceTypeId, e);
+            span.recordError(e).setAttribute("http.status_code", e.statusCode());
+            span.end();
+            throw translateException(e, resourceTypeName, resourceTypeId, logger);
+        }
+        return responseFuture.<AwsResponse>handle((response, throwable) -> {
+            if (throwable == null) {
+                call.commit(request, response, resourceTypeName, resourceTypeId, null);
+                span.end();
+                return response;
+            }
+            final Throwable cause = unwrap(throwable);
+            call.commit(request, null, resourceTypeName, resourceTypeId, cause);
+            span.recordError(cause).end();
+            if (cause instanceof AwsServiceException) {
+                throw translateException((AwsServiceException) cause, resourceTypeName, resourceTypeId, logger);
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+        });
+    }
+
+    // Runs a blocking client call on the shared executor so it can be passed to executeAsync
+    public static <RequestT, ResultT> Function<RequestT, CompletableFuture<ResultT>> async(
+            final Function<RequestT, ResultT> requestFunction) {
+        return request -> CompletableFuture.supplyAsync(() -> requestFunction.apply(request),
+                AsyncExecutorHolder.EXECUTOR);
+    }
+
+    // Wait for the future and rethrow the Cfn exception it failed with instead of a CompletionException
+    public static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            final Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Span startCallSpan(final AwsRequest request, final String resourceTypeId, final boolean detached) {
+        if (!Tracing.isEnabled()) {
+            return Span.NOOP;
+        }
+        final String requestName = request.getClass().getSimpleName();
+        final String operation = requestName.substring(0, requestName.length() - "Request".length());
+        final Span span = detached ? Tracing.startDetachedSpan("Amplify/" + operation, Span.Kind.CLIENT)
+                : Tracing.startSpan("Amplify/" + operation, Span.Kind.CLIENT);
+        return span.setAttribute("rpc.system", "aws-api")
+                .setAttribute("rpc.service", "Amplify")
+                .setAttribute("rpc.method", operation)
+                .setAttribute("aws.resource.id", resourceTypeId);
+    }
+
+    private static RuntimeException translateException(final AwsServiceException e,
+                                                       final String resourceTypeName,
+                                                       final String resourceTypeId,
+                                                       final Logger logger) {
+        logger.log("ERROR: " + e.getMessage());
+        if (e instanceof NotFoundException) {
+            return new CfnNotFoundException(resourceTypeName, resourceTypeId);
+        } else if (e instanceof InternalFailureException) {
+            // A 500 from Amplify once the SDK gave up retrying, ServiceInternalError lets CloudFormation retry the handler
+            return new CfnServiceInternalErrorException(e);
+        } else if (e instanceof LimitExceededException) {
+            return new CfnServiceLimitExceededException(resourceTypeName, e.getMessage());
+        } else if (e instanceof BadRequestException) {
+            return new CfnInvalidRequestException(e.getMessage(), e);
+        } else if (e instanceof UnauthorizedException) {
+            return new CfnAccessDeniedException(e);
+        } else if (e.isThrottlingException()) {
+            return new CfnThrottlingException(e);
+        }
+        return new CfnGeneralServiceException(e);
+    }
+
+    /**
+     * For the create call sites only: whether a create failed the way one that collides with an existing resource does.
+     * Amplify has no dedicated conflict exception, a duplicate comes back as a 409 or as a BadRequest, and a BadRequest
+     * is just as often invalid input, so the caller reads the resource before it fails with AlreadyExists
+     * @param e exception thrown by execute for a create call
+     * @return true when the create may have collided with an existing resource
+     */
+    public static boolean isPossibleCreateConflict(final BaseHandlerException e) {
+        if (e instanceof CfnInvalidRequestException) {
+            return true;
+        }
+        // translateException keeps the service exception as the cause of everything it does not map to a type
+        final Throwable cause = e.getCause();
+        return cause instanceof AwsServiceException && ((AwsServiceException) cause).statusCode() == HTTP_CONFLICT;
+    }
+
+    /**
+     * Whether the service turned a call down, as opposed to failing while it may already have carried it out
+     * @param e exception thrown by execute
+     * @return false for a 5xx, which may come after the resource was created, true otherwise
+     */
+    public static boolean isRejected(final BaseHandlerException e) {
+        final Throwable cause = e.getCause();
+        return !(cause instanceof AwsServiceException) || ((AwsServiceException) cause).statusCode() < HTTP_SERVER_ERROR;
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    // Only the update and list paths run calls concurrently, so the pool is not created until one of them needs it
+    private static final class AsyncExecutorHolder {
+        // A handler has at most a handful of calls in flight, well under the shared HTTP client's connections
+        private static final int MAX_THREADS = 8;
+        private static final int QUEUE_CAPACITY = 64;
+        private static final long KEEP_ALIVE_SECONDS = 60L;
+
+        // Idle threads time out between invocations. Once the queue is full a call runs on the caller's thread, which
+        // slows the caller down instead of failing the call. Daemon threads so a pending call never keeps the handler
+        // from returning
+        private static final ExecutorService EXECUTOR = newExecutor();
+
+        private static ExecutorService newExecutor() {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    MAX_THREADS,
+                    MAX_THREADS,
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, "amplify-client-async");
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
         }
     }
 }
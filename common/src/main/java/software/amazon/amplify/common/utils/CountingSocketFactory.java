@@ -0,0 +1,47 @@
+package software.amazon.amplify.common.utils;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+// Counts the connections a TLS socket factory opens, each of which paid a TCP and TLS handshake, and otherwise leaves
+// everything to it
+final class CountingSocketFactory implements LayeredConnectionSocketFactory {
+    private final LayeredConnectionSocketFactory delegate;
+    private final HttpConnectionStats stats;
+
+    CountingSocketFactory(final LayeredConnectionSocketFactory delegate, final HttpConnectionStats stats) {
+        this.delegate = delegate;
+        this.stats = stats;
+    }
+
+    @Override
+    public Socket createSocket(final HttpContext context) throws IOException {
+        return delegate.createSocket(context);
+    }
+
+    @Override
+    public Socket connectSocket(final int connectTimeout,
+                                final Socket socket,
+                                final HttpHost host,
+                                final InetSocketAddress remoteAddress,
+                                final InetSocketAddress localAddress,
+                                final HttpContext context) throws IOException {
+        final Socket connected = delegate.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress,
+                context);
+        stats.connectionOpened();
+        return connected;
+    }
+
+    @Override
+    public Socket createLayeredSocket(final Socket socket,
+                                      final String target,
+                                      final int port,
+                                      final HttpContext context) throws IOException {
+        return delegate.createLayeredSocket(socket, target, port, context);
+    }
+}
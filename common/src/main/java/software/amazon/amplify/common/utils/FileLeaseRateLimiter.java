@@ -0,0 +1,90 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+// Rate limiter shared by every process on the host through a memory-mapped counter file. Each limiter owns one
+// slot holding the current one second window and the permits taken in it. Java 8 has no atomic operations on
+// mapped memory, so the compare-and-set of a slot is made atomic by a file lock on that slot's region. The channel stays
+// open for the locks until close, a closed limiter no longer limits.
+public final class FileLeaseRateLimiter implements RateLimiter, Closeable {
+    // Window start in epoch seconds followed by the permit count, padded to keep slots apart
+    static final int SLOT_SIZE = 16;
+    private static final int COUNT_OFFSET = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer slots;
+    private final int offset;
+    private final int permitsPerSecond;
+
+    // Only one limiter per slot and file may exist in a process, file locks are held by the whole process
+    public FileLeaseRateLimiter(final Path file, final int slot, final int slotCount, final int permitsPerSecond)
+            throws IOException {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        final FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            this.slots = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) SLOT_SIZE * slotCount);
+        } catch (final IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+        this.channel = fileChannel;
+        this.offset = slot * SLOT_SIZE;
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    // Other processes may take the next window's permits first and leave this one waiting for several windows, it gives
+    // up once the next window starts past maxWaitNanos from the first try
+    @Override
+    public boolean acquire(final long maxWaitNanos) {
+        final long start = System.nanoTime();
+        while (true) {
+            final long waitMillis = tryAcquire(System.currentTimeMillis());
+            if (waitMillis <= 0) {
+                return true;
+            }
+            if (System.nanoTime() - start + TimeUnit.MILLISECONDS.toNanos(waitMillis) > maxWaitNanos) {
+                return false;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(waitMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CfnInternalFailureException(e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    // Take a permit from the current window, returns 0 on success or the millis until the next window starts
+    synchronized long tryAcquire(final long nowMillis) {
+        final long window = TimeUnit.MILLISECONDS.toSeconds(nowMillis);
+        try (FileLock lock = channel.lock(offset, SLOT_SIZE, false)) {
+            final int count = slots.getLong(offset) == window ? slots.getInt(offset + COUNT_OFFSET) : 0;
+            if (count < permitsPerSecond) {
+                slots.putLong(offset, window);
+                slots.putInt(offset + COUNT_OFFSET, count + 1);
+                return 0L;
+            }
+            return TimeUnit.SECONDS.toMillis(window + 1) - nowMillis;
+        } catch (final IOException e) {
+            // Coordination is best effort, a broken or closed counter file must not block the handler
+            return 0L;
+        }
+    }
+}
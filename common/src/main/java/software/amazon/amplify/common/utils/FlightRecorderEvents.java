@@ -0,0 +1,60 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+
+// JDK Flight Recorder events for Amplify calls (AmplifyCallEvent) and stabilization polls (StabilizationPollEvent),
+// so a recording of a handler shows where its time went next to GC and thread activity. The events are always
+// emitted but cost next to nothing unless a recording enables them, fields are only filled in for events a recording
+// keeps. The event classes are only touched once jdk.jfr is known to be there, Java 8 runtimes before 8u262 lack it and
+// skip them. Compiling them needs a JDK with jdk.jfr, common's pom enforces one. amplify.jfr or AMPLIFY_JFR_EVENTS
+// set to false turns them off entirely.
+final class FlightRecorderEvents {
+    private static final String PROPERTY = "amplify.jfr";
+    private static final String ENVIRONMENT_VARIABLE = "AMPLIFY_JFR_EVENTS";
+    private static final boolean ENABLED = isSwitchedOn() && isFlightRecorderPresent();
+    private static final Call NOOP_CALL = (request, response, resourceType, resourceId, error) -> { };
+
+    // One call in flight, committed once with either its response or the error it failed with
+    @FunctionalInterface
+    interface Call {
+        void commit(AwsRequest request, AwsResponse response, String resourceType, String resourceId, Throwable error);
+    }
+
+    private FlightRecorderEvents() {
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    static Call beginCall() {
+        return ENABLED ? AmplifyCallEvent.start() : NOOP_CALL;
+    }
+
+    static void poll(final String resourceType,
+                     final String resourceId,
+                     final String observedStatus,
+                     final int pollNumber) {
+        if (ENABLED) {
+            StabilizationPollEvent.emit(resourceType, resourceId, observedStatus, pollNumber);
+        }
+    }
+
+    private static boolean isSwitchedOn() {
+        String setting = System.getProperty(PROPERTY);
+        if (setting == null) {
+            setting = System.getenv(ENVIRONMENT_VARIABLE);
+        }
+        return setting == null || !"false".equalsIgnoreCase(setting);
+    }
+
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
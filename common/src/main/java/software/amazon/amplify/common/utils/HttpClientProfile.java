@@ -0,0 +1,73 @@
+package software.amazon.amplify.common.utils;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+
+import javax.net.ssl.SSLContext;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+
+// Settings of the Apache HTTP client the Amplify clients share. Handler invocations are short but chain several calls
+// (Create, Read, Tag) and poll while stabilizing, so the defaults keep connections for reuse across calls and warm
+// invocations instead of paying a TCP and TLS handshake whenever one is dropped: TCP keep-alive on, idle connections
+// kept for 50 seconds (under the 60 second idle timeout common on the server side, so a reused connection was not
+// already closed there) and replaced after 5 minutes to pick up DNS changes. Waiting for a pooled connection gives up
+// after 2 seconds, an invocation is better off failing over to a retry than spending its time in the pool.
+@Builder
+@Getter
+public final class HttpClientProfile {
+    @Builder.Default
+    private final int maxConnections = 32;
+    @Builder.Default
+    private final Duration connectionTimeout = Duration.ofSeconds(2L);
+    @Builder.Default
+    private final Duration socketTimeout = Duration.ofSeconds(30L);
+    @Builder.Default
+    private final Duration connectionAcquisitionTimeout = Duration.ofSeconds(2L);
+    @Builder.Default
+    private final Duration connectionMaxIdleTime = Duration.ofSeconds(50L);
+    // Duration.ZERO keeps connections until they go idle or fail
+    @Builder.Default
+    private final Duration connectionTimeToLive = Duration.ofMinutes(5L);
+    @Builder.Default
+    private final boolean tcpKeepAlive = true;
+    // Amplify requests are small JSON bodies, waiting for 100-continue only adds a round trip
+    @Builder.Default
+    private final boolean expectContinueEnabled = false;
+
+    // New client counting its connections and requests in stats, which also has to be added as metric publisher to
+    // the Amplify clients using it for the request side. TLS is set up the way ApacheHttpClient does when it picks the
+    // socket factory itself: a TLS context with the key managers of the javax.net.ssl.keyStore properties, the JVM's
+    // trust managers and default hostname verification, on Apache's public SSLConnectionSocketFactory wrapped to count.
+    public SdkHttpClient createClient(final HttpConnectionStats stats) {
+        try {
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(SystemPropertyTlsKeyManagersProvider.create().keyManagers(), null, null);
+            return createClient(stats, sslContext);
+        } catch (final GeneralSecurityException e) {
+            // TLS is always available
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Same with the TLS context to trust, the benchmark's local HTTPS stub presents a self signed certificate
+    public SdkHttpClient createClient(final HttpConnectionStats stats, final SSLContext sslContext) {
+        return ApacheHttpClient.builder()
+                .maxConnections(maxConnections)
+                .connectionTimeout(connectionTimeout)
+                .socketTimeout(socketTimeout)
+                .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                .connectionMaxIdleTime(connectionMaxIdleTime)
+                .connectionTimeToLive(connectionTimeToLive)
+                .useIdleConnectionReaper(true)
+                .tcpKeepAlive(tcpKeepAlive)
+                .expectContinueEnabled(expectContinueEnabled)
+                .socketFactory(new CountingSocketFactory(new SSLConnectionSocketFactory(sslContext,
+                        SSLConnectionSocketFactory.getDefaultHostnameVerifier()), stats))
+                .build();
+    }
+}
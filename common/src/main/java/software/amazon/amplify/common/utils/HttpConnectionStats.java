@@ -0,0 +1,98 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Connection pool stats of an HttpClientProfile client. Connections opened are counted by the client's socket factory,
+// requests and pool occupancy come from the SDK's HTTP metrics, so the Amplify clients have to publish to this.
+// The getters are running totals, publish reports what happened since its previous call.
+public final class HttpConnectionStats implements MetricPublisher {
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    // Totals as of the previous publish
+    private long publishedConnectionsOpened;
+    private long publishedRequests;
+    // Pool occupancy as of the latest request
+    private volatile int leasedConnections;
+    private volatile int availableConnections;
+    private volatile int pendingAcquires;
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    // Share of requests sent on a connection an earlier request opened, 0 before the first request
+    public double getReuseRate() {
+        return reuseRate(connectionsOpened.get(), requests.get());
+    }
+
+    public int getLeasedConnections() {
+        return leasedConnections;
+    }
+
+    public int getAvailableConnections() {
+        return availableConnections;
+    }
+
+    public int getPendingAcquires() {
+        return pendingAcquires;
+    }
+
+    // Called once per invocation: the connections and requests since the previous call, so each invocation reports
+    // its own calls rather than the totals of the execution environment. An invocation without requests publishes none
+    public synchronized void publish(final Logger logger, final String resourceTypeName) {
+        final long opened = connectionsOpened.get();
+        final long sent = requests.get();
+        final long openedSince = opened - publishedConnectionsOpened;
+        final long sentSince = sent - publishedRequests;
+        publishedConnectionsOpened = opened;
+        publishedRequests = sent;
+        if (sentSince == 0L) {
+            return;
+        }
+        MetricsUtils.publish(logger, resourceTypeName, "HttpConnectionsOpened", openedSince, MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, resourceTypeName, "HttpRequests", sentSince, MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, resourceTypeName, "HttpConnectionReuseRate",
+                reuseRate(openedSince, sentSince) * 100.0, MetricsUtils.UNIT_PERCENT);
+    }
+
+    @Override
+    public void publish(final MetricCollection metrics) {
+        // The HTTP metrics sit in a child collection of each attempt of the call
+        final List<Integer> leased = metrics.metricValues(HttpMetric.LEASED_CONCURRENCY);
+        if (!leased.isEmpty()) {
+            requests.incrementAndGet();
+            leasedConnections = leased.get(0);
+            availableConnections = first(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY));
+            pendingAcquires = first(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES));
+        }
+        for (final MetricCollection child : metrics.children()) {
+            publish(child);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    void connectionOpened() {
+        connectionsOpened.incrementAndGet();
+    }
+
+    private static double reuseRate(final long opened, final long sent) {
+        return sent == 0L ? 0.0 : Math.max(0.0, 1.0 - (double) opened / sent);
+    }
+
+    private static int first(final List<Integer> values) {
+        return values.isEmpty() ? 0 : values.get(0);
+    }
+}
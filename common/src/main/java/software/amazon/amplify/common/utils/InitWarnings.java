@@ -0,0 +1,28 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Warnings raised where no handler Logger is at hand, while the container initializes or after a handler returned.
+// BaseHandlerStd of every module logs what is pending at the start of each handleRequest, so they show up with the
+// logs of the next invocation.
+public final class InitWarnings {
+    private static final Queue<String> PENDING = new ConcurrentLinkedQueue<>();
+
+    private InitWarnings() {
+    }
+
+    public static void add(final String warning) {
+        PENDING.add(warning);
+    }
+
+    // Logs each pending warning once, nothing but an empty queue check once they are out
+    public static void log(final Logger logger) {
+        String warning;
+        while ((warning = PENDING.poll()) != null) {
+            logger.log("WARN: " + warning);
+        }
+    }
+}
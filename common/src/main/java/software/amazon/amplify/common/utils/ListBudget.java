@@ -0,0 +1,38 @@
+package software.amazon.amplify.common.utils;
+
+import lombok.Value;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.time.Duration;
+
+// How much a single List invocation may fetch. Auto-pagination is off unless AMPLIFY_LIST_MAX_ITEMS or
+// AMPLIFY_LIST_TIME_BUDGET_MILLIS is set, in that case pages are fetched until either budget is used up.
+@Value
+public class ListBudget {
+    private static final String MAX_ITEMS_ENVIRONMENT_VARIABLE = "AMPLIFY_LIST_MAX_ITEMS";
+    private static final String TIME_BUDGET_ENVIRONMENT_VARIABLE = "AMPLIFY_LIST_TIME_BUDGET_MILLIS";
+    // Leaves headroom in the handler timeout when only an item budget is configured
+    private static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(20L);
+    public static final ListBudget SINGLE_PAGE = new ListBudget(0, Duration.ZERO);
+
+    // 0 means no item limit
+    int maxItems;
+    Duration timeBudget;
+
+    public boolean isAutoPaginate() {
+        return maxItems > 0 || !timeBudget.isZero();
+    }
+
+    public boolean hasRemaining(final int items, final Duration elapsed) {
+        final Duration effectiveTimeBudget = timeBudget.isZero() ? DEFAULT_TIME_BUDGET : timeBudget;
+        return isAutoPaginate() &&
+                (maxItems <= 0 || items < maxItems) &&
+                elapsed.compareTo(effectiveTimeBudget) < 0;
+    }
+
+    public static ListBudget fromEnvironment() {
+        final int maxItems = NumberUtils.toInt(System.getenv(MAX_ITEMS_ENVIRONMENT_VARIABLE), 0);
+        final long timeBudgetMillis = NumberUtils.toLong(System.getenv(TIME_BUDGET_ENVIRONMENT_VARIABLE), 0L);
+        return new ListBudget(Math.max(maxItems, 0), Duration.ofMillis(Math.max(timeBudgetMillis, 0L)));
+    }
+}
@@ -0,0 +1,91 @@
+package software.amazon.amplify.common.utils;
+
+import lombok.Value;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+// Collects list pages within a ListBudget, the next page is already requested while the current one is translated
+// straight into the result list. Without auto-pagination the single page is fetched on the caller's thread.
+public final class ListPaginator {
+    private ListPaginator() {
+    }
+
+    @Value
+    public static class Result<ModelT> {
+        List<ModelT> models;
+        // Token to continue from, null once the listing is exhausted
+        String nextToken;
+    }
+
+    public static <ResponseT extends AwsResponse, ModelT> Result<ModelT> collect(
+            final String startToken,
+            final ListBudget budget,
+            final Function<String, ResponseT> fetchPage,
+            final Function<String, CompletableFuture<ResponseT>> fetchPageAsync,
+            final Function<ResponseT, String> nextTokenOf,
+            final ToIntFunction<ResponseT> itemCountOf,
+            final BiConsumer<ResponseT, Consumer<ModelT>> translate,
+            final String resourceTypeName,
+            final Logger logger) {
+        final long startTime = System.currentTimeMillis();
+        final List<ModelT> models = new ArrayList<>();
+        if (!budget.isAutoPaginate()) {
+            final ResponseT response = fetchPage.apply(startToken);
+            translate.accept(response, models::add);
+            publishMetrics(1, models.size(), startTime, resourceTypeName, logger);
+            return new Result<>(models, nextTokenOf.apply(response));
+        }
+
+        String pageToken = startToken;
+        CompletableFuture<ResponseT> pageFuture = fetchPageAsync.apply(pageToken);
+        int pages = 0;
+        while (true) {
+            final ResponseT response;
+            try {
+                response = ClientWrapper.join(pageFuture);
+            } catch (final BaseHandlerException e) {
+                if (pages == 0) {
+                    throw e;
+                }
+                // Hand back what was collected, the caller resumes from the page that failed
+                logger.log(String.format("INFO: stopping pagination after %d pages: %s", pages, e.getMessage()));
+                break;
+            }
+            pages++;
+            pageToken = nextTokenOf.apply(response);
+            final boolean fetchNext = pageToken != null && budget.hasRemaining(models.size() + itemCountOf.applyAsInt(response),
+                    Duration.ofMillis(System.currentTimeMillis() - startTime));
+            if (fetchNext) {
+                pageFuture = fetchPageAsync.apply(pageToken);
+            }
+            translate.accept(response, models::add);
+            if (!fetchNext) {
+                break;
+            }
+        }
+
+        publishMetrics(pages, models.size(), startTime, resourceTypeName, logger);
+        return new Result<>(models, pageToken);
+    }
+
+    private static void publishMetrics(final int pages,
+                                       final int items,
+                                       final long startTime,
+                                       final String resourceTypeName,
+                                       final Logger logger) {
+        final long elapsedMillis = System.currentTimeMillis() - startTime;
+        MetricsUtils.publish(logger, resourceTypeName, "ListPages", pages, MetricsUtils.UNIT_COUNT);
+        MetricsUtils.publish(logger, resourceTypeName, "ListItemsPerSecond",
+                elapsedMillis > 0 ? items * 1000.0 / elapsedMillis : items, MetricsUtils.UNIT_COUNT_PER_SECOND);
+    }
+}
@@ -0,0 +1,28 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+// Handler metrics are emitted as single structured log lines so they can be extracted with metric filters
+public final class MetricsUtils {
+    public static final String UNIT_BYTES = "Bytes";
+    public static final String UNIT_COUNT = "Count";
+    public static final String UNIT_COUNT_PER_SECOND = "Count/Second";
+    public static final String UNIT_MILLISECONDS = "Milliseconds";
+    public static final String UNIT_PERCENT = "Percent";
+
+    private MetricsUtils() {
+    }
+
+    public static void publish(final Logger logger,
+                               final String resourceTypeName,
+                               final String metricName,
+                               final double value,
+                               final String unit) {
+        logger.log(String.format("METRIC: {\"ResourceType\": \"%s\", \"Name\": \"%s\", \"Value\": %s, \"Unit\": \"%s\"}",
+                resourceTypeName, metricName, formatValue(value), unit));
+    }
+
+    private static String formatValue(final double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
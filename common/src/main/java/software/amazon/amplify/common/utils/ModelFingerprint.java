@@ -0,0 +1,135 @@
+package software.amazon.amplify.common.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+// Stable content hash of a resource model. Properties are hashed in name order and the elements of the unordered
+// collections (environment variables, tags, sub domain settings) in the order of their own canonical form, so two
+// models Amplify would end up applying the same way hash the same. Read-only properties are left out. Models carry
+// write-only secrets (OauthToken, AccessToken, BasicAuthConfig), so the hash is an HMAC under a key drawn once per
+// process: fingerprints written to /tmp cannot be checked against guessed secrets, and are only comparable within the
+// execution environment that wrote them.
+public final class ModelFingerprint {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final byte[] PROCESS_KEY = processKey();
+    private static final Set<String> UNORDERED_PROPERTIES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("EnvironmentVariables", "Tags", "SubDomainSettings")));
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private ModelFingerprint() {
+    }
+
+    // HMAC-SHA256 over the canonical JSON of the model, as lower case hex
+    public static String of(final Object model, final Collection<String> readOnlyProperties) {
+        final JsonNode tree = MAPPER.valueToTree(model);
+        final StringBuilder canonical = new StringBuilder();
+        appendObject(tree, readOnlyProperties, canonical);
+        final Mac mac;
+        try {
+            mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(PROCESS_KEY, HMAC_ALGORITHM));
+        } catch (final GeneralSecurityException e) {
+            // Every Java platform is required to provide HmacSHA256
+            throw new IllegalStateException(e);
+        }
+        return hex(mac.doFinal(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] processKey() {
+        // nextBytes reads the non-blocking source, generateSeed could stall a cold start waiting for entropy
+        final byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    static String sha256(final String value) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+        return hex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String hex(final byte[] hash) {
+        final char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    private static void append(final JsonNode node, final boolean unordered, final StringBuilder canonical) {
+        if (node.isObject()) {
+            appendObject(node, Collections.emptySet(), canonical);
+        } else if (node.isArray()) {
+            final List<String> elements = new ArrayList<>(node.size());
+            for (final JsonNode element : node) {
+                final StringBuilder elementCanonical = new StringBuilder();
+                append(element, false, elementCanonical);
+                elements.add(elementCanonical.toString());
+            }
+            if (unordered) {
+                Collections.sort(elements);
+            }
+            canonical.append('[');
+            for (int i = 0; i < elements.size(); i++) {
+                if (i > 0) {
+                    canonical.append(',');
+                }
+                canonical.append(elements.get(i));
+            }
+            canonical.append(']');
+        } else {
+            // Scalars print as JSON literals, text quoted and escaped
+            canonical.append(node.toString());
+        }
+    }
+
+    private static void appendObject(final JsonNode node,
+                                     final Collection<String> excludedProperties,
+                                     final StringBuilder canonical) {
+        final List<String> names = new ArrayList<>(node.size());
+        final Iterator<String> fieldNames = node.fieldNames();
+        while (fieldNames.hasNext()) {
+            final String name = fieldNames.next();
+            if (!excludedProperties.contains(name)) {
+                names.add(name);
+            }
+        }
+        Collections.sort(names);
+        canonical.append('{');
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                canonical.append(',');
+            }
+            final String name = names.get(i);
+            canonical.append(TextNode.valueOf(name).toString()).append(':');
+            append(node.get(name), UNORDERED_PROPERTIES.contains(name), canonical);
+        }
+        canonical.append('}');
+    }
+}
@@ -0,0 +1,66 @@
+package software.amazon.amplify.common.utils;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import software.amazon.awssdk.awscore.AwsRequest;
+
+import java.util.function.Function;
+
+// Amplify operations that share a request rate, each family gets its own permits per second. The defaults below are
+// replaced by AMPLIFY_RATE_LIMIT_<FAMILY>_PER_SECOND and AMPLIFY_RATE_LIMIT_<FAMILY>_BURST, e.g.
+// AMPLIFY_RATE_LIMIT_CREATE_PER_SECOND=5, a value that is not a positive number keeps the default.
+public enum OperationFamily {
+    CREATE(10, 20),
+    GET(40, 80),
+    LIST(10, 20),
+    TAG(10, 20),
+    OTHER(20, 40);
+
+    private final int permitsPerSecond;
+    private final int burst;
+
+    OperationFamily(final int permitsPerSecond, final int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    public int getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public int getPermitsPerSecond(final Function<String, String> environment) {
+        return positiveOrDefault(environment.apply(environmentVariable("PER_SECOND")), permitsPerSecond);
+    }
+
+    public int getBurst(final Function<String, String> environment) {
+        return positiveOrDefault(environment.apply(environmentVariable("BURST")), burst);
+    }
+
+    String environmentVariable(final String setting) {
+        return "AMPLIFY_RATE_LIMIT_" + name() + "_" + setting;
+    }
+
+    private static int positiveOrDefault(final String value, final int defaultValue) {
+        final int parsed = NumberUtils.toInt(value, defaultValue);
+        return parsed > 0 ? parsed : defaultValue;
+    }
+
+    // Tag operations are checked first since ListTagsForResource would otherwise count as a List call
+    public static OperationFamily of(final AwsRequest request) {
+        final String operationName = request.getClass().getSimpleName();
+        if (operationName.startsWith("Tag") || operationName.startsWith("Untag") ||
+                operationName.startsWith("ListTagsForResource")) {
+            return TAG;
+        } else if (operationName.startsWith("Create")) {
+            return CREATE;
+        } else if (operationName.startsWith("Get")) {
+            return GET;
+        } else if (operationName.startsWith("List")) {
+            return LIST;
+        }
+        return OTHER;
+    }
+}
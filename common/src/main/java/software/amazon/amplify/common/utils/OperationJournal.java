@@ -0,0 +1,147 @@
+package software.amazon.amplify.common.utils;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// Write-ahead record of create calls: "create issued for key X" before the call is sent, "response ARN Y" once it
+// returned. The record lives in the CallbackContext (StabilizationState) and is mirrored to one small file per key in
+// /tmp, so an invocation that timed out after the call but before handing its context back can be resumed by the
+// retry when it lands on the same execution environment. The key is derived from the client request token, which
+// CloudFormation keeps across the re-invocations of one operation. Entries expire after
+// AMPLIFY_OPERATION_JOURNAL_TTL_SECONDS, a day by default. The file mirror is on by default inside Lambda,
+// AMPLIFY_OPERATION_JOURNAL set to true or false overrides that.
+// A journaled ARN is always ours. Without one, a retry only adopts a resource carrying CREATE_STAMP_TAG with this
+// operation's key, anything else may have been there before the create and is never taken over.
+public final class OperationJournal {
+    public static final String CREATE_STAMP_TAG = "amplify-cfn:create-stamp";
+    public static final OperationJournal DISABLED = new OperationJournal(null, Duration.ZERO);
+    private static final String ENABLED_ENVIRONMENT_VARIABLE = "AMPLIFY_OPERATION_JOURNAL";
+    private static final String TTL_ENVIRONMENT_VARIABLE = "AMPLIFY_OPERATION_JOURNAL_TTL_SECONDS";
+    private static final String LAMBDA_FUNCTION_VARIABLE = "AWS_LAMBDA_FUNCTION_NAME";
+    private static final Duration DEFAULT_TTL = Duration.ofDays(1L);
+    private static final Path DEFAULT_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"),
+            "amplify-cfn-operation-journal");
+
+    private final Path directory;
+    private final Duration ttl;
+
+    public OperationJournal(final Path directory, final Duration ttl) {
+        this.directory = directory;
+        this.ttl = ttl;
+    }
+
+    public static OperationJournal fromEnvironment() {
+        final String setting = System.getenv(ENABLED_ENVIRONMENT_VARIABLE);
+        final boolean enabled = setting != null ? Boolean.parseBoolean(setting)
+                : System.getenv(LAMBDA_FUNCTION_VARIABLE) != null;
+        final long ttlSeconds = NumberUtils.toLong(System.getenv(TTL_ENVIRONMENT_VARIABLE), DEFAULT_TTL.getSeconds());
+        return enabled && ttlSeconds > 0L ? new OperationJournal(DEFAULT_DIRECTORY, Duration.ofSeconds(ttlSeconds))
+                : DISABLED;
+    }
+
+    // Journal key of one create operation, null when the request carries no client request token to tie it to
+    public static String key(final String resourceTypeName,
+                             final String logicalResourceIdentifier,
+                             final String clientRequestToken) {
+        if (clientRequestToken == null) {
+            return null;
+        }
+        return ModelFingerprint.sha256(resourceTypeName + "|" + logicalResourceIdentifier + "|" + clientRequestToken);
+    }
+
+    // Fills in what an earlier invocation journaled but could not hand back in its context
+    public void restore(final String key, final StabilizationState state) {
+        if (state.getCreatedArn() != null || !isMirrored(key)) {
+            return;
+        }
+        final Path entry = directory.resolve(key);
+        try {
+            final long ageMillis = System.currentTimeMillis() - Files.getLastModifiedTime(entry).toMillis();
+            if (ageMillis < 0L || ageMillis >= ttl.toMillis()) {
+                return;
+            }
+            final String arn = new String(Files.readAllBytes(entry), StandardCharsets.UTF_8);
+            state.setCreateIssued(true);
+            if (!arn.isEmpty()) {
+                state.setCreatedArn(arn);
+            }
+        } catch (final IOException e) {
+            // No entry or an unreadable one, the context alone decides
+        }
+    }
+
+    // Must be called before the create call is sent
+    public void recordIssued(final String key, final StabilizationState state) {
+        state.setCreateIssued(true);
+        write(key, "");
+    }
+
+    // The service turned the create down, nothing was created that a retry would have to look for
+    public void clearIssued(final String key, final StabilizationState state) {
+        state.setCreateIssued(false);
+        if (!isMirrored(key)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(directory.resolve(key));
+        } catch (final IOException e) {
+            // An entry left behind expires, the retry then just probes for a stamped resource that is not there
+        }
+    }
+
+    public void recordCreated(final String key, final StabilizationState state, final String arn) {
+        state.setCreateIssued(true);
+        state.setCreatedArn(arn);
+        write(key, arn);
+    }
+
+    // Tags for the create request of the operation with the given key, stamped so a retry can recognize the resource
+    public static Map<String, String> stamp(final Map<String, String> tags, final String key) {
+        final Map<String, String> stampedTags = new HashMap<>(tags);
+        stampedTags.put(CREATE_STAMP_TAG, key);
+        return stampedTags;
+    }
+
+    public static boolean isStamped(final Map<String, String> tags, final String key) {
+        return key != null && tags != null && key.equals(tags.get(CREATE_STAMP_TAG));
+    }
+
+    // The stamp is not part of the model, reads and tag updates leave it out
+    public static Map<String, String> withoutStamp(final Map<String, String> tags) {
+        if (tags == null || !tags.containsKey(CREATE_STAMP_TAG)) {
+            return tags;
+        }
+        final Map<String, String> modelTags = new HashMap<>(tags);
+        modelTags.remove(CREATE_STAMP_TAG);
+        return modelTags;
+    }
+
+    private boolean isMirrored(final String key) {
+        return directory != null && key != null;
+    }
+
+    private void write(final String key, final String value) {
+        if (!isMirrored(key)) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            // Written aside and moved in, so a concurrent reader never sees half an ARN
+            final Path temporary = Files.createTempFile(directory, "entry", ".tmp");
+            Files.write(temporary, value.getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            // Not mirrored, the CallbackContext still carries the record
+        }
+    }
+}
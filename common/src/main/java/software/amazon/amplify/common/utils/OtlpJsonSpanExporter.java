@@ -0,0 +1,119 @@
+package software.amazon.amplify.common.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+// Writes each trace as one line of OTLP JSON (an ExportTraceServiceRequest), the format the OpenTelemetry collector's
+// file receiver and otlpjson tooling read. 64 bit values are written as strings, as the protobuf JSON mapping does.
+public final class OtlpJsonSpanExporter implements Tracing.SpanExporter {
+    private static final String SCOPE_NAME = "software.amazon.amplify.common";
+    private static final String DEFAULT_SERVICE_NAME = "amplify-cfn-resource-provider";
+    private static final String LAMBDA_FUNCTION_VARIABLE = "AWS_LAMBDA_FUNCTION_NAME";
+    // Numeric values of the OTLP SpanKind and StatusCode enums
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_CLIENT = 3;
+    private static final int STATUS_CODE_UNSET = 0;
+    private static final int STATUS_CODE_OK = 1;
+    private static final int STATUS_CODE_ERROR = 2;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final PrintStream out;
+    private final String serviceName;
+
+    public OtlpJsonSpanExporter(final OutputStream out) {
+        this.out = out instanceof PrintStream ? (PrintStream) out : newPrintStream(out);
+        final String functionName = System.getenv(LAMBDA_FUNCTION_VARIABLE);
+        this.serviceName = functionName != null ? functionName : DEFAULT_SERVICE_NAME;
+    }
+
+    // Appends to the file, creating it if needed
+    public static OtlpJsonSpanExporter toFile(final Path path) throws IOException {
+        return new OtlpJsonSpanExporter(Files.newOutputStream(path, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND));
+    }
+
+    @Override
+    public void export(final List<Span> trace) {
+        final ObjectNode request = mapper.createObjectNode();
+        final ObjectNode resourceSpans = request.putArray("resourceSpans").addObject();
+        addAttribute(resourceSpans.putObject("resource").putArray("attributes"), "service.name", serviceName);
+        final ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", SCOPE_NAME);
+        final ArrayNode spans = scopeSpans.putArray("spans");
+        for (final Span span : trace) {
+            final ObjectNode node = spans.addObject()
+                    .put("traceId", span.getTraceId())
+                    .put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                node.put("parentSpanId", span.getParentSpanId());
+            }
+            node.put("name", span.getName())
+                    .put("kind", span.getKind() == Span.Kind.CLIENT ? SPAN_KIND_CLIENT : SPAN_KIND_INTERNAL)
+                    .put("startTimeUnixNano", String.valueOf(span.getStartEpochNanos()))
+                    .put("endTimeUnixNano", String.valueOf(span.getEndEpochNanos()));
+            final ArrayNode attributes = node.putArray("attributes");
+            synchronized (span) {
+                for (final Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+                    addAttribute(attributes, attribute.getKey(), attribute.getValue());
+                }
+            }
+            node.putObject("status").put("code", statusCode(span.getStatus()));
+        }
+        final String line;
+        try {
+            line = mapper.writeValueAsString(request);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        synchronized (out) {
+            out.println(line);
+            out.flush();
+        }
+    }
+
+    private static void addAttribute(final ArrayNode attributes, final String key, final Object value) {
+        final ObjectNode attributeValue = attributes.addObject().put("key", key).putObject("value");
+        if (value instanceof Boolean) {
+            attributeValue.put("boolValue", (Boolean) value);
+        } else if (value instanceof Integer || value instanceof Long) {
+            attributeValue.put("intValue", value.toString());
+        } else if (value instanceof Number) {
+            attributeValue.put("doubleValue", ((Number) value).doubleValue());
+        } else {
+            attributeValue.put("stringValue", value.toString());
+        }
+    }
+
+    private static int statusCode(final Span.Status status) {
+        switch (status) {
+            case OK:
+                return STATUS_CODE_OK;
+            case ERROR:
+                return STATUS_CODE_ERROR;
+            default:
+                return STATUS_CODE_UNSET;
+        }
+    }
+
+    private static PrintStream newPrintStream(final OutputStream out) {
+        try {
+            return new PrintStream(out, false, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException e) {
+            // UTF-8 is always supported
+            throw new IllegalStateException(e);
+        }
+    }
+}
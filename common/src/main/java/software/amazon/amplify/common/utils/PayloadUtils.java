@@ -0,0 +1,68 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+// Approximates the JSON wire size of sdk requests/models without going through the sdk marshallers
+public final class PayloadUtils {
+    // Quotes around the member name, colon and separating comma
+    private static final int MEMBER_OVERHEAD = 4;
+    // Opening and closing brackets/braces or quotes
+    private static final int ENCLOSING_OVERHEAD = 2;
+
+    private PayloadUtils() {
+    }
+
+    // Get estimated serialized size in bytes, members that were never set are not counted
+    public static long estimateSize(final SdkPojo pojo) {
+        if (pojo == null) {
+            return 0L;
+        }
+        long size = ENCLOSING_OVERHEAD;
+        for (final SdkField<?> field : pojo.sdkFields()) {
+            final Object value = field.getValueOrDefault(pojo);
+            if (isUnset(value)) {
+                continue;
+            }
+            size += field.locationName().length() + MEMBER_OVERHEAD + estimateValueSize(value);
+        }
+        return size;
+    }
+
+    private static long estimateValueSize(final Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        if (value instanceof SdkPojo) {
+            return estimateSize((SdkPojo) value);
+        }
+        if (value instanceof Collection) {
+            long size = ENCLOSING_OVERHEAD;
+            for (final Object element : (Collection<?>) value) {
+                size += estimateValueSize(element) + 1;
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            long size = ENCLOSING_OVERHEAD;
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimateValueSize(entry.getKey()) + estimateValueSize(entry.getValue()) + 2;
+            }
+            return size;
+        }
+        if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8).length + ENCLOSING_OVERHEAD;
+        }
+        return String.valueOf(value).length();
+    }
+
+    private static boolean isUnset(final Object value) {
+        return value == null || value instanceof SdkAutoConstructList || value instanceof SdkAutoConstructMap;
+    }
+}
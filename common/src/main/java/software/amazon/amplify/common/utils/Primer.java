@@ -0,0 +1,62 @@
+package software.amazon.amplify.common.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.AmplifyClientBuilder;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Runs the translator, serializer and client code of a typical invocation of a module once, see Priming for when and
+// why. Each module builds one around a sample model in its Configuration, BaseHandlerStd primes it when HandlerWrapper
+// constructs the handlers.
+@Builder
+public final class Primer<ModelT, CallbackT> {
+    @NonNull
+    private final Supplier<ModelT> sampleModel;
+    @NonNull
+    private final TypeReference<ModelT> modelType;
+    @NonNull
+    private final Supplier<CallbackT> callbackContext;
+    @NonNull
+    private final TypeReference<CallbackT> callbackContextType;
+    // The module's Translator calls for every action, given the sample model
+    @NonNull
+    private final Consumer<ModelT> translate;
+    // The module's ClientBuilder.builder, the client is reconfigured with Priming.forPriming before it is built
+    @NonNull
+    private final Supplier<AmplifyClientBuilder> clientBuilder;
+    // Requests a typical invocation sends, each is stopped before it opens a connection
+    @Singular
+    private final List<BiConsumer<AmplifyClient, ModelT>> requests;
+
+    public void prime() {
+        Priming.primeOnce(this::translate, this::serialize, this::sendRequests);
+    }
+
+    private void translate() {
+        translate.accept(sampleModel.get());
+    }
+
+    private void serialize() throws IOException {
+        final Serializer serializer = new Serializer();
+        serializer.deserialize(serializer.serialize(sampleModel.get()), modelType);
+        serializer.deserialize(serializer.serialize(callbackContext.get()), callbackContextType);
+    }
+
+    private void sendRequests() {
+        final ModelT model = sampleModel.get();
+        try (AmplifyClient client = Priming.forPriming(clientBuilder.get()).build()) {
+            for (final BiConsumer<AmplifyClient, ModelT> request : requests) {
+                Priming.send(() -> request.accept(client, model));
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.regions.Region;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Runs a module's priming steps while the container initializes, so marshallers, serializers and translator code are
+// loaded before the first billed invocation. Priming keeps no state around: the primed client is closed and requests
+// are stopped before they open a connection, so a snapshot taken after init restores without stale credentials or
+// sockets. On by default inside Lambda only, anywhere else amplify.priming or AMPLIFY_PRIMING set to true opts in, and
+// set to false they turn it off inside Lambda too.
+public final class Priming {
+    public static final String PROPERTY = "amplify.priming";
+    private static final String ENVIRONMENT_VARIABLE = "AMPLIFY_PRIMING";
+    private static final String LAMBDA_FUNCTION_VARIABLE = "AWS_LAMBDA_FUNCTION_NAME";
+    private static final AtomicBoolean PRIMED = new AtomicBoolean();
+
+    @FunctionalInterface
+    public interface Step {
+        void run() throws Exception;
+    }
+
+    private Priming() {
+    }
+
+    public static boolean isEnabled() {
+        String setting = System.getProperty(PROPERTY);
+        if (setting == null) {
+            setting = System.getenv(ENVIRONMENT_VARIABLE);
+        }
+        return setting != null ? Boolean.parseBoolean(setting) : System.getenv(LAMBDA_FUNCTION_VARIABLE) != null;
+    }
+
+    // Runs the steps once per JVM, a failing step is skipped since priming must never fail the init, the warning is
+    // logged with the first invocation
+    public static void primeOnce(final Step... steps) {
+        if (!isEnabled() || !PRIMED.compareAndSet(false, true)) {
+            return;
+        }
+        for (final Step step : steps) {
+            try {
+                step.run();
+            } catch (final Exception e) {
+                InitWarnings.add("priming step failed, the first invocation initializes it instead: " + e);
+            }
+        }
+    }
+
+    // Client settings that let a request be marshalled and signed without real credentials and then dropped
+    public static <BuilderT extends AwsClientBuilder<BuilderT, ?>> BuilderT forPriming(final BuilderT builder) {
+        return builder
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("priming", "priming")))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.none())
+                        .addExecutionInterceptor(new StopBeforeTransmission())
+                        .build());
+    }
+
+    // Sends a request through a client built with forPriming, it goes through the whole pipeline up to the wire
+    public static void send(final Runnable call) {
+        try {
+            call.run();
+        } catch (final RuntimeException e) {
+            Throwable cause = e;
+            while (cause != null && !(cause instanceof PrimingStop)) {
+                cause = cause.getCause();
+            }
+            if (cause == null) {
+                throw e;
+            }
+        }
+    }
+
+    private static final class StopBeforeTransmission implements ExecutionInterceptor {
+        @Override
+        public void beforeTransmission(final Context.BeforeTransmission context,
+                                       final ExecutionAttributes executionAttributes) {
+            throw new PrimingStop();
+        }
+    }
+
+    private static final class PrimingStop extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private PrimingStop() {
+            super("Priming request stopped before transmission", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package software.amazon.amplify.common.utils;
+
+// Blocks callers until they may send the next request of one operation family. A caller that would have to wait
+// longer than maxWaitNanos gets false right away instead, without taking a permit.
+public interface RateLimiter {
+    boolean acquire(long maxWaitNanos);
+}
@@ -0,0 +1,97 @@
+package software.amazon.amplify.common.utils;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Process wide rate limiters per operation family, with the rates of OperationFamily. Set
+// AMPLIFY_RATE_LIMITER_SCOPE=HOST to share the budget with other processes on the same host through a counter file in
+// /tmp instead of limiting this process only, or NONE to disable limiting. The amplify.rateLimiterScope system property
+// takes precedence over the environment variable, the module test runs set it to NONE. A call that would wait for its
+// permit longer than AMPLIFY_RATE_LIMITER_MAX_WAIT_MILLIS, 5 seconds by default, fails with CfnThrottlingException
+// before it is sent, a long queue then ends the handler with a retriable error instead of the Lambda timeout.
+public final class RateLimiters {
+    public static final String SCOPE_PROPERTY = "amplify.rateLimiterScope";
+    public static final String NONE_SCOPE = "NONE";
+    private static final String SCOPE_ENVIRONMENT_VARIABLE = "AMPLIFY_RATE_LIMITER_SCOPE";
+    private static final String HOST_SCOPE = "HOST";
+    private static final String MAX_WAIT_ENVIRONMENT_VARIABLE = "AMPLIFY_RATE_LIMITER_MAX_WAIT_MILLIS";
+    private static final long DEFAULT_MAX_WAIT_MILLIS = 5_000L;
+    static final RateLimiter UNLIMITED = maxWaitNanos -> true;
+    private static final Path COUNTER_FILE = Paths.get(System.getProperty("java.io.tmpdir"), "amplify-cfn-rate-limits");
+    private static final Map<OperationFamily, RateLimiter> LIMITERS = createLimiters(
+            System.getProperty(SCOPE_PROPERTY, System.getenv(SCOPE_ENVIRONMENT_VARIABLE)), COUNTER_FILE, System::getenv);
+    private static final long MAX_WAIT_NANOS = maxWaitNanos(System::getenv);
+
+    static {
+        // The counter file stays mapped for the life of the process, release it when the process exits
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> close(LIMITERS), "amplify-rate-limiters-close"));
+    }
+
+    private RateLimiters() {
+    }
+
+    public static void acquire(final AwsRequest request) {
+        acquire(LIMITERS.get(OperationFamily.of(request)), request, MAX_WAIT_NANOS);
+    }
+
+    static void acquire(final RateLimiter limiter, final AwsRequest request, final long maxWaitNanos) {
+        if (!limiter.acquire(maxWaitNanos)) {
+            final String requestName = request.getClass().getSimpleName();
+            throw new CfnThrottlingException(requestName.substring(0, requestName.length() - "Request".length()));
+        }
+    }
+
+    // A value that is not a positive number keeps the default
+    static long maxWaitNanos(final Function<String, String> environment) {
+        final long millis = NumberUtils.toLong(environment.apply(MAX_WAIT_ENVIRONMENT_VARIABLE),
+                DEFAULT_MAX_WAIT_MILLIS);
+        return TimeUnit.MILLISECONDS.toNanos(millis > 0L ? millis : DEFAULT_MAX_WAIT_MILLIS);
+    }
+
+    static Map<OperationFamily, RateLimiter> createLimiters(final String scope,
+                                                           final Path counterFile,
+                                                           final Function<String, String> environment) {
+        final Map<OperationFamily, RateLimiter> limiters = new EnumMap<>(OperationFamily.class);
+        final OperationFamily[] families = OperationFamily.values();
+        for (final OperationFamily family : families) {
+            RateLimiter limiter = null;
+            if (NONE_SCOPE.equalsIgnoreCase(scope)) {
+                limiter = UNLIMITED;
+            } else if (HOST_SCOPE.equalsIgnoreCase(scope)) {
+                try {
+                    limiter = new FileLeaseRateLimiter(counterFile, family.ordinal(), families.length,
+                            family.getPermitsPerSecond(environment));
+                } catch (final IOException e) {
+                    // No usable counter file, fall back to limiting this process only
+                    InitWarnings.add("rate limiting " + family + " calls of this process only, cannot use "
+                            + counterFile + ": " + e);
+                }
+            }
+            limiters.put(family, limiter != null ? limiter :
+                    new TokenBucketRateLimiter(family.getPermitsPerSecond(environment), family.getBurst(environment)));
+        }
+        return limiters;
+    }
+
+    static void close(final Map<OperationFamily, RateLimiter> limiters) {
+        for (final RateLimiter limiter : limiters.values()) {
+            if (limiter instanceof Closeable) {
+                try {
+                    ((Closeable) limiter).close();
+                } catch (final IOException e) {
+                    // Nothing left to release
+                }
+            }
+        }
+    }
+}
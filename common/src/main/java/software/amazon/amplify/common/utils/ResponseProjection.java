@@ -0,0 +1,34 @@
+package software.amazon.amplify.common.utils;
+
+import java.util.Locale;
+
+// How much of each resource the List handlers put into their progress events. IDENTIFIERS keeps what identifies the
+// resource, SUMMARY adds the scalar properties and tags, FULL adds the bulky ones: build specs, custom headers,
+// environment variables, custom rules and sub domains. List defaults to IDENTIFIERS, AMPLIFY_LIST_PROJECTION overrides
+// it for inventory style callers. Read always returns FULL, drift detection and the read back after Create and Update
+// compare against it.
+public enum ResponseProjection {
+    IDENTIFIERS,
+    SUMMARY,
+    FULL;
+
+    private static final String LIST_ENVIRONMENT_VARIABLE = "AMPLIFY_LIST_PROJECTION";
+
+    // Whether a model projected this way carries the properties of the given level
+    public boolean includes(final ResponseProjection level) {
+        return compareTo(level) >= 0;
+    }
+
+    // Unknown values fall back to IDENTIFIERS, a typo must not fail every List of the stack
+    public static ResponseProjection forList() {
+        final String value = System.getenv(LIST_ENVIRONMENT_VARIABLE);
+        if (value == null) {
+            return IDENTIFIERS;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            return IDENTIFIERS;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+
+// The one HTTP client, and so the one connection pool, of all Amplify clients in the JVM, see HttpClientProfile
+public final class SharedHttpClient {
+    public static final HttpConnectionStats STATS = new HttpConnectionStats();
+    public static final SdkHttpClient HTTP_CLIENT = HttpClientProfile.builder().build().createClient(STATS);
+
+    private SharedHttpClient() {
+    }
+}
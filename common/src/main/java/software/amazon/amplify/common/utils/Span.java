@@ -0,0 +1,147 @@
+package software.amazon.amplify.common.utils;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// One timed unit of handler work, see Tracing. Spans started while another one is current on the thread become its
+// children, the whole trace is handed to the exporter when the root span ends. The NOOP span stands in for all of them
+// while tracing is off, so callers never need to check.
+@Getter
+public final class Span implements AutoCloseable {
+    public enum Kind {
+        INTERNAL,
+        CLIENT
+    }
+
+    public enum Status {
+        UNSET,
+        OK,
+        ERROR
+    }
+
+    static final Span NOOP = new Span();
+
+    private final String name;
+    private final Kind kind;
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final long startEpochNanos;
+    private final Map<String, Object> attributes;
+    private long endEpochNanos;
+    private Status status = Status.UNSET;
+    @Getter(lombok.AccessLevel.NONE)
+    private final Span parent;
+    @Getter(lombok.AccessLevel.NONE)
+    private final Span root;
+    @Getter(lombok.AccessLevel.NONE)
+    private final long startNanoTime;
+    // Ended spans of the trace, only kept on the root
+    @Getter(lombok.AccessLevel.NONE)
+    private final List<Span> finished;
+
+    private Span() {
+        this.name = "noop";
+        this.kind = Kind.INTERNAL;
+        this.traceId = null;
+        this.spanId = null;
+        this.parentSpanId = null;
+        this.startEpochNanos = 0L;
+        this.attributes = Collections.emptyMap();
+        this.parent = null;
+        this.root = null;
+        this.startNanoTime = 0L;
+        this.finished = null;
+    }
+
+    Span(final String name, final Kind kind, final Span parent) {
+        this.name = name;
+        this.kind = kind;
+        this.parent = parent;
+        this.root = parent != null ? parent.root : this;
+        this.traceId = parent != null ? parent.traceId : randomHex(16);
+        this.spanId = randomHex(8);
+        this.parentSpanId = parent != null ? parent.spanId : null;
+        this.startEpochNanos = System.currentTimeMillis() * 1_000_000L;
+        this.startNanoTime = System.nanoTime();
+        this.attributes = new LinkedHashMap<>();
+        this.finished = parent != null ? null : new ArrayList<>();
+    }
+
+    // Callers building attribute values that are not free check this first
+    public boolean isRecording() {
+        return this != NOOP;
+    }
+
+    public Span setAttribute(final String key, final Object value) {
+        if (this != NOOP && value != null) {
+            synchronized (this) {
+                attributes.put(key, value);
+            }
+        }
+        return this;
+    }
+
+    public Span setStatus(final Status status) {
+        if (this != NOOP) {
+            this.status = status;
+        }
+        return this;
+    }
+
+    public Span recordError(final Throwable error) {
+        if (this != NOOP) {
+            setAttribute("exception.type", error.getClass().getName());
+            setAttribute("exception.message", error.getMessage());
+            this.status = Status.ERROR;
+        }
+        return this;
+    }
+
+    // Ends the span without touching the current span of the thread, for spans ended on another thread
+    public void end() {
+        if (this == NOOP || endEpochNanos != 0L) {
+            return;
+        }
+        endEpochNanos = startEpochNanos + (System.nanoTime() - startNanoTime);
+        if (status == Status.UNSET) {
+            status = Status.OK;
+        }
+        synchronized (root.finished) {
+            root.finished.add(this);
+        }
+        if (root == this) {
+            final List<Span> trace;
+            synchronized (finished) {
+                trace = new ArrayList<>(finished);
+            }
+            Tracing.export(trace);
+        }
+    }
+
+    // Ends the span and makes its parent the current span again
+    @Override
+    public void close() {
+        if (this == NOOP) {
+            return;
+        }
+        end();
+        Tracing.restore(this, parent);
+    }
+
+    private static String randomHex(final int bytes) {
+        final StringBuilder hex = new StringBuilder(bytes * 2);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < bytes; i++) {
+            final int value = random.nextInt(256);
+            hex.append(Character.forDigit(value >> 4, 16)).append(Character.forDigit(value & 0xf, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+// Base of each resource's CallbackContext, holds the StabilizationState so re-invocations pick up where they left off
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode(callSuper = true)
+public abstract class StabilizationCallbackContext extends StdCallbackContext implements StabilizationState {
+    private int pollCount;
+    private String lastObservedStatus;
+    // Epoch millis of the first stabilization poll, survives re-invocations unlike the proxy's attempt count
+    private Long firstPollTimestamp;
+    // Set before the create call is sent so a re-invocation resumes instead of creating again
+    private boolean createIssued;
+    // ARN the issued create returned, a re-invocation goes straight to reading or stabilizing it
+    private String createdArn;
+}
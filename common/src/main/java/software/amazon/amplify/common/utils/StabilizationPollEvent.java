@@ -0,0 +1,46 @@
+package software.amazon.amplify.common.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One stabilization poll recorded through StabilizationState.recordPoll, see FlightRecorderEvents
+@Name(StabilizationPollEvent.NAME)
+@Label("Stabilization Poll")
+@Category({"Amplify", "Handler"})
+@Description("Status a resource handler observed while waiting for a resource to stabilize")
+@StackTrace(false)
+final class StabilizationPollEvent extends jdk.jfr.Event {
+    static final String NAME = "software.amazon.amplify.StabilizationPoll";
+
+    @Label("Resource Type")
+    String resourceType;
+
+    @Label("Resource Id")
+    String resourceId;
+
+    @Label("Observed Status")
+    String observedStatus;
+
+    @Label("Poll Number")
+    @Description("Polls of this operation so far, survives re-invocations")
+    int pollNumber;
+
+    // Only called through FlightRecorderEvents, which checks that jdk.jfr is there first
+    static void emit(final String resourceType,
+                     final String resourceId,
+                     final String observedStatus,
+                     final int pollNumber) {
+        final StabilizationPollEvent event = new StabilizationPollEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.resourceType = resourceType;
+        event.resourceId = resourceId;
+        event.observedStatus = observedStatus;
+        event.pollNumber = pollNumber;
+        event.commit();
+    }
+}
@@ -0,0 +1,47 @@
+package software.amazon.amplify.common.utils;
+
+// Stabilization progress persisted in each resource's CallbackContext, see StabilizationCallbackContext
+public interface StabilizationState {
+    // Recorded while a delete is polled, the service has no status of its own for a resource going away
+    String DELETING_STATUS = "DELETING";
+    String DELETED_STATUS = "DELETED";
+
+    int getPollCount();
+
+    void setPollCount(int pollCount);
+
+    String getLastObservedStatus();
+
+    void setLastObservedStatus(String lastObservedStatus);
+
+    Long getFirstPollTimestamp();
+
+    void setFirstPollTimestamp(Long firstPollTimestamp);
+
+    boolean isCreateIssued();
+
+    void setCreateIssued(boolean createIssued);
+
+    String getCreatedArn();
+
+    void setCreatedArn(String createdArn);
+
+    // Record one stabilization poll and the status it observed, returns the poll number starting at 1
+    static int recordPoll(final StabilizationState state, final String observedStatus) {
+        return recordPoll(state, observedStatus, null, null);
+    }
+
+    // Same, and emits a StabilizationPollEvent for the resource to any running flight recording
+    static int recordPoll(final StabilizationState state,
+                          final String observedStatus,
+                          final String resourceTypeName,
+                          final String resourceId) {
+        if (state.getFirstPollTimestamp() == null) {
+            state.setFirstPollTimestamp(System.currentTimeMillis());
+        }
+        state.setPollCount(state.getPollCount() + 1);
+        state.setLastObservedStatus(observedStatus);
+        FlightRecorderEvents.poll(resourceTypeName, resourceId, observedStatus, state.getPollCount());
+        return state.getPollCount();
+    }
+}
@@ -0,0 +1,76 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Lock-free in-process token bucket, callers reserve a slot with a single CAS and sleep until it is due, or are turned
+// away without a slot when it is due later than they may wait
+public final class TokenBucketRateLimiter implements RateLimiter {
+    static final long NOT_RESERVED = Long.MAX_VALUE;
+    private final long intervalNanos;
+    // How far ahead of now reservations may run before callers have to wait, this is what allows bursts
+    private final long toleranceNanos;
+    // Time at which the next permit is due if the bucket had no burst capacity
+    private final AtomicLong nextPermitNanos;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(final int permitsPerSecond, final int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(final int permitsPerSecond, final int burst, final LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1L) / permitsPerSecond;
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        this.nextPermitNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public boolean acquire(final long maxWaitNanos) {
+        final long waitNanos = reserve(maxWaitNanos);
+        if (waitNanos == NOT_RESERVED) {
+            return false;
+        }
+        sleep(waitNanos);
+        return true;
+    }
+
+    long reserve() {
+        return reserve(Long.MAX_VALUE);
+    }
+
+    // Reserve the next permit, returns the nanos the caller has to wait for it, 0 or less when it may go right away.
+    // NOT_RESERVED when it would be due more than maxWaitNanos from now, the bucket is left as it was then.
+    long reserve(final long maxWaitNanos) {
+        while (true) {
+            final long now = nanoClock.getAsLong();
+            final long nextPermit = nextPermitNanos.get();
+            final long reserved = Math.max(nextPermit, now);
+            final long waitNanos = reserved - toleranceNanos - now;
+            if (waitNanos > maxWaitNanos) {
+                return NOT_RESERVED;
+            }
+            if (nextPermitNanos.compareAndSet(nextPermit, reserved + intervalNanos)) {
+                return waitNanos;
+            }
+        }
+    }
+
+    private static void sleep(final long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnInternalFailureException(e);
+        }
+    }
+}
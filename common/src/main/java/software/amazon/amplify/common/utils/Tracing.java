@@ -0,0 +1,183 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.proxy.CallChain;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// In-process tracing of handler invocations: a span per invocation, per proxy.initiate stage (translate,
+// makeServiceCall, stabilize, done) and per Amplify call. Finished traces go to the exporter as OTLP JSON, one
+// ExportTraceServiceRequest per line. Off by default, amplify.tracing or AMPLIFY_TRACING set to stdout or to a file
+// path turn it on. While off, startSpan hands out the NOOP span and the stage wrappers return the stage unchanged, so
+// tracing costs one static read per span site.
+public final class Tracing {
+    public static final String PROPERTY = "amplify.tracing";
+    private static final String ENVIRONMENT_VARIABLE = "AMPLIFY_TRACING";
+    private static final String STDOUT = "stdout";
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static volatile SpanExporter exporter = createExporter();
+
+    @FunctionalInterface
+    public interface SpanExporter {
+        void export(List<Span> trace);
+    }
+
+    private Tracing() {
+    }
+
+    public static boolean isEnabled() {
+        return exporter != null;
+    }
+
+    // Replaces the configured exporter, null turns tracing off. Meant for tests and benchmark harnesses.
+    public static void install(final SpanExporter spanExporter) {
+        exporter = spanExporter;
+        CURRENT.remove();
+    }
+
+    public static Span startSpan(final String name) {
+        return startSpan(name, Span.Kind.INTERNAL);
+    }
+
+    // The new span becomes the current span of the thread until it is closed
+    public static Span startSpan(final String name, final Span.Kind kind) {
+        if (exporter == null) {
+            return Span.NOOP;
+        }
+        final Span span = new Span(name, kind, CURRENT.get());
+        CURRENT.set(span);
+        return span;
+    }
+
+    // Child of the current span that does not become current itself, for work that ends on another thread
+    public static Span startDetachedSpan(final String name, final Span.Kind kind) {
+        if (exporter == null) {
+            return Span.NOOP;
+        }
+        return new Span(name, kind, CURRENT.get());
+    }
+
+    public static <ModelT, RequestT> Function<ModelT, RequestT> translate(
+            final String callGraph,
+            final Function<ModelT, RequestT> translator) {
+        if (exporter == null) {
+            return translator;
+        }
+        return model -> {
+            try (Span span = startSpan("translate")) {
+                span.setAttribute("cfn.call_graph", callGraph);
+                return translator.apply(model);
+            }
+        };
+    }
+
+    public static <RequestT, ResponseT, ClientT> BiFunction<RequestT, ProxyClient<ClientT>, ResponseT> makeServiceCall(
+            final String callGraph,
+            final BiFunction<RequestT, ProxyClient<ClientT>, ResponseT> serviceCall) {
+        if (exporter == null) {
+            return serviceCall;
+        }
+        return (request, proxyClient) -> {
+            try (Span span = startSpan("makeServiceCall")) {
+                span.setAttribute("cfn.call_graph", callGraph);
+                return traced(span, () -> serviceCall.apply(request, proxyClient));
+            }
+        };
+    }
+
+    public static <RequestT, ResponseT, ClientT, ModelT, CallbackT extends StdCallbackContext>
+            CallChain.Callback<RequestT, ResponseT, ClientT, ModelT, CallbackT, Boolean> stabilize(
+            final String callGraph,
+            final CallChain.Callback<RequestT, ResponseT, ClientT, ModelT, CallbackT, Boolean> stabilizer) {
+        if (exporter == null) {
+            return stabilizer;
+        }
+        return (request, response, proxyClient, model, context) -> {
+            try (Span span = startSpan("stabilize")) {
+                span.setAttribute("cfn.call_graph", callGraph);
+                final Boolean stabilized = traced(span,
+                        () -> stabilizer.invoke(request, response, proxyClient, model, context));
+                span.setAttribute("cfn.stabilized", stabilized);
+                return stabilized;
+            }
+        };
+    }
+
+    public static <ResponseT, ModelT, CallbackT extends StdCallbackContext>
+            Function<ResponseT, ProgressEvent<ModelT, CallbackT>> done(
+            final String callGraph,
+            final Function<ResponseT, ProgressEvent<ModelT, CallbackT>> handler) {
+        if (exporter == null) {
+            return handler;
+        }
+        return response -> {
+            try (Span span = startSpan("done")) {
+                span.setAttribute("cfn.call_graph", callGraph);
+                final ProgressEvent<ModelT, CallbackT> event = traced(span, () -> handler.apply(response));
+                span.setAttribute("cfn.operation_status", event.getStatus());
+                return event;
+            }
+        };
+    }
+
+    // Runs the work and marks the span failed with whatever it throws
+    public static <T> T traced(final Span span, final Supplier<T> work) {
+        try {
+            return work.get();
+        } catch (final RuntimeException | Error e) {
+            span.recordError(e);
+            throw e;
+        }
+    }
+
+    static void restore(final Span closed, final Span parent) {
+        // Spans closed out of order leave the current span alone
+        if (CURRENT.get() == closed) {
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void export(final List<Span> trace) {
+        final SpanExporter spanExporter = exporter;
+        if (spanExporter == null) {
+            return;
+        }
+        try {
+            spanExporter.export(trace);
+        } catch (final RuntimeException e) {
+            // Tracing must never fail the invocation it traces, the next invocation logs the drop
+            InitWarnings.add("dropping trace, export failed: " + e);
+        }
+    }
+
+    private static SpanExporter createExporter() {
+        String setting = System.getProperty(PROPERTY);
+        if (setting == null) {
+            setting = System.getenv(ENVIRONMENT_VARIABLE);
+        }
+        if (setting == null || setting.isEmpty() || "false".equalsIgnoreCase(setting) ||
+                "off".equalsIgnoreCase(setting)) {
+            return null;
+        }
+        if (STDOUT.equalsIgnoreCase(setting)) {
+            return new OtlpJsonSpanExporter(System.out);
+        }
+        try {
+            return OtlpJsonSpanExporter.toFile(Paths.get(setting));
+        } catch (final IOException e) {
+            InitWarnings.add("tracing disabled, cannot open " + setting + ": " + e);
+            return null;
+        }
+    }
+}
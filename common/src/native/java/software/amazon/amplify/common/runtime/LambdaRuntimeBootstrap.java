@@ -0,0 +1,120 @@
+package software.amazon.amplify.common.runtime;
+
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.function.Supplier;
+
+// Invocation loop of the Lambda custom runtime API, used when a handler is built as a native executable and deployed
+// on the provided runtime instead of the managed Java one. Not part of the common jar, the native profile of a
+// handler module compiles this source set into the handler along with the module's Bootstrap.
+public final class LambdaRuntimeBootstrap {
+    public static final String RUNTIME_API_VARIABLE = "AWS_LAMBDA_RUNTIME_API";
+    private static final String API_VERSION = "2018-06-01";
+    private static final String REQUEST_ID_HEADER = "Lambda-Runtime-Aws-Request-Id";
+    private static final String DEADLINE_HEADER = "Lambda-Runtime-Deadline-Ms";
+    private static final String FUNCTION_ARN_HEADER = "Lambda-Runtime-Invoked-Function-Arn";
+    private static final String TRACE_ID_HEADER = "Lambda-Runtime-Trace-Id";
+    private static final String ERROR_TYPE_HEADER = "Lambda-Runtime-Function-Error-Type";
+    private static final String TRACE_ID_PROPERTY = "com.amazonaws.xray.traceHeader";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final RequestStreamHandler handler;
+
+    public LambdaRuntimeBootstrap(final String runtimeApi, final RequestStreamHandler handler) {
+        this.baseUrl = "http://" + runtimeApi + "/" + API_VERSION + "/runtime";
+        this.handler = handler;
+    }
+
+    public static void run(final Supplier<RequestStreamHandler> handlerFactory) throws IOException {
+        final String runtimeApi = System.getenv(RUNTIME_API_VARIABLE);
+        if (runtimeApi == null) {
+            throw new IllegalStateException(RUNTIME_API_VARIABLE + " is not set, the bootstrap only runs in Lambda");
+        }
+
+        final RequestStreamHandler handler;
+        try {
+            handler = handlerFactory.get();
+        } catch (final RuntimeException e) {
+            post("http://" + runtimeApi + "/" + API_VERSION + "/runtime/init/error", errorBody(e), true);
+            throw e;
+        }
+        final LambdaRuntimeBootstrap bootstrap = new LambdaRuntimeBootstrap(runtimeApi, handler);
+        while (true) {
+            bootstrap.processNext();
+        }
+    }
+
+    // Long polls for the next event, runs the handler on it and reports the response or the error back
+    public void processNext() throws IOException {
+        final HttpURLConnection next = (HttpURLConnection) new URL(baseUrl + "/invocation/next").openConnection();
+        next.setReadTimeout(0);
+        final byte[] event;
+        try (InputStream body = next.getInputStream()) {
+            event = readAll(body);
+        }
+        final String requestId = next.getHeaderField(REQUEST_ID_HEADER);
+        final String traceId = next.getHeaderField(TRACE_ID_HEADER);
+        if (traceId != null) {
+            System.setProperty(TRACE_ID_PROPERTY, traceId);
+        } else {
+            System.clearProperty(TRACE_ID_PROPERTY);
+        }
+        final RuntimeContext context = new RuntimeContext(requestId,
+                next.getHeaderFieldLong(DEADLINE_HEADER, Long.MAX_VALUE),
+                next.getHeaderField(FUNCTION_ARN_HEADER));
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            handler.handleRequest(new ByteArrayInputStream(event), output, context);
+        } catch (final IOException | RuntimeException e) {
+            context.getLogger().log("ERROR: invocation " + requestId + " failed: " + e);
+            post(baseUrl + "/invocation/" + requestId + "/error", errorBody(e), true);
+            return;
+        }
+        post(baseUrl + "/invocation/" + requestId + "/response", output.toByteArray(), false);
+    }
+
+    private static void post(final String url, final byte[] body, final boolean error) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setFixedLengthStreamingMode(body.length);
+        if (error) {
+            connection.setRequestProperty(ERROR_TYPE_HEADER, "Unhandled");
+        }
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body);
+        }
+        // Draining the reply completes the exchange so the connection can go back to the keep-alive pool
+        try (InputStream response = connection.getInputStream()) {
+            readAll(response);
+        }
+    }
+
+    private static byte[] errorBody(final Exception e) throws IOException {
+        final ObjectNode error = MAPPER.createObjectNode()
+                .put("errorMessage", String.valueOf(e.getMessage()))
+                .put("errorType", e.getClass().getName());
+        return MAPPER.writeValueAsBytes(error);
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
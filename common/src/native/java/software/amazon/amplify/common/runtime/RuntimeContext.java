@@ -0,0 +1,88 @@
+package software.amazon.amplify.common.runtime;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.nio.charset.StandardCharsets;
+
+// Lambda context of one custom runtime invocation, function details come from the reserved environment variables
+final class RuntimeContext implements Context {
+    private static final LambdaLogger STDOUT_LOGGER = new LambdaLogger() {
+        @Override
+        public void log(final String message) {
+            System.out.println(message);
+        }
+
+        public void log(final byte[] message) {
+            System.out.println(new String(message, StandardCharsets.UTF_8));
+        }
+    };
+
+    private final String awsRequestId;
+    private final long deadlineMillis;
+    private final String invokedFunctionArn;
+
+    RuntimeContext(final String awsRequestId, final long deadlineMillis, final String invokedFunctionArn) {
+        this.awsRequestId = awsRequestId;
+        this.deadlineMillis = deadlineMillis;
+        this.invokedFunctionArn = invokedFunctionArn;
+    }
+
+    @Override
+    public String getAwsRequestId() {
+        return awsRequestId;
+    }
+
+    @Override
+    public String getLogGroupName() {
+        return System.getenv("AWS_LAMBDA_LOG_GROUP_NAME");
+    }
+
+    @Override
+    public String getLogStreamName() {
+        return System.getenv("AWS_LAMBDA_LOG_STREAM_NAME");
+    }
+
+    @Override
+    public String getFunctionName() {
+        return System.getenv("AWS_LAMBDA_FUNCTION_NAME");
+    }
+
+    @Override
+    public String getFunctionVersion() {
+        return System.getenv("AWS_LAMBDA_FUNCTION_VERSION");
+    }
+
+    @Override
+    public String getInvokedFunctionArn() {
+        return invokedFunctionArn;
+    }
+
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    @Override
+    public int getRemainingTimeInMillis() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0L, deadlineMillis - System.currentTimeMillis()));
+    }
+
+    @Override
+    public int getMemoryLimitInMB() {
+        return NumberUtils.toInt(System.getenv("AWS_LAMBDA_FUNCTION_MEMORY_SIZE"), 0);
+    }
+
+    @Override
+    public LambdaLogger getLogger() {
+        return STDOUT_LOGGER;
+    }
+}
@@ -0,0 +1,280 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory stand-in for the Amplify REST API, just enough of it for the App, Branch and Domain handlers to run
+// end to end. Items that were never created are made up on first access so the placeholder identifiers in the
+// cfn-invoke-payload samples resolve, deleted items stay gone until reset().
+public final class AmplifyStandIn implements AutoCloseable {
+    private static final String ARN_PREFIX = "arn:aws:amplify:us-east-1:123456789012:";
+    private static final String APPS = "apps";
+    private static final String BRANCHES = "branches";
+    private static final String DOMAINS = "domains";
+    private static final String TAGS = "tags";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, ObjectNode> items = new ConcurrentHashMap<>();
+    private final Map<String, ObjectNode> tags = new ConcurrentHashMap<>();
+    private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextAppId = new AtomicLong();
+    private final HttpServer server;
+
+    private AmplifyStandIn(final HttpServer server) {
+        this.server = server;
+    }
+
+    public static AmplifyStandIn start() throws IOException {
+        return start(HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0));
+    }
+
+    // Same over TLS, presenting the key of the context, see HttpClientBenchmark
+    public static AmplifyStandIn startHttps(final SSLContext sslContext) throws IOException {
+        final HttpsServer server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+        return start(server);
+    }
+
+    private static AmplifyStandIn start(final HttpServer server) {
+        final AmplifyStandIn standIn = new AmplifyStandIn(server);
+        server.createContext("/", standIn::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        return standIn;
+    }
+
+    public URI getEndpoint() {
+        final String scheme = server instanceof HttpsServer ? "https" : "http";
+        return URI.create(scheme + "://localhost:" + server.getAddress().getPort());
+    }
+
+    public void reset() {
+        items.clear();
+        tags.clear();
+        deleted.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String[] path = exchange.getRequestURI().getRawPath().substring(1).split("/");
+            final JsonNode response = TAGS.equals(path[0]) ? handleTags(exchange, path) : handleResource(exchange, path);
+            if (response == null) {
+                respond(exchange, 404, notFound(exchange.getRequestURI().getPath()));
+            } else {
+                respond(exchange, 200, response);
+            }
+        } catch (final RuntimeException e) {
+            respond(exchange, 500, mapper.createObjectNode().put("message", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private JsonNode handleResource(final HttpExchange exchange, final String[] path) throws IOException {
+        final Kind kind = Kind.of(path);
+        final String method = exchange.getRequestMethod();
+        final boolean collection = path.length % 2 == 1;
+        final String appId = path.length > 1 ? path[1] : null;
+
+        if (collection && "GET".equals(method)) {
+            return list(kind, String.join("/", path) + "/");
+        }
+        if (collection && "POST".equals(method)) {
+            final ObjectNode body = readBody(exchange);
+            final String id = kind == Kind.APP ? "d" + nextAppId.incrementAndGet() : body.path(kind.idField).asText();
+            final String key = String.join("/", path) + "/" + id;
+            deleted.remove(key);
+            final ObjectNode item = kind.newItem(mapper, appId, id);
+            merge(kind, item, body);
+            items.put(key, item);
+            return wrap(kind.itemField, item);
+        }
+
+        final String key = String.join("/", path);
+        if (deleted.contains(key)) {
+            return null;
+        }
+        final ObjectNode item = items.computeIfAbsent(key, k -> kind.newItem(mapper, appId, path[path.length - 1]));
+        switch (method) {
+            case "POST":
+                merge(kind, item, readBody(exchange));
+                break;
+            case "DELETE":
+                items.remove(key);
+                deleted.add(key);
+                break;
+            default:
+                break;
+        }
+        return wrap(kind.itemField, item);
+    }
+
+    private JsonNode handleTags(final HttpExchange exchange, final String[] path) throws IOException {
+        final String arn = decode(String.join("/", Arrays.copyOfRange(path, 1, path.length)));
+        final ObjectNode resourceTags = tags.computeIfAbsent(arn, k -> mapper.createObjectNode());
+        switch (exchange.getRequestMethod()) {
+            case "POST":
+                final JsonNode newTags = readBody(exchange).path(TAGS);
+                if (newTags.isObject()) {
+                    resourceTags.setAll((ObjectNode) newTags);
+                }
+                return mapper.createObjectNode();
+            case "DELETE":
+                final String query = exchange.getRequestURI().getRawQuery();
+                if (query != null) {
+                    for (final String parameter : query.split("&")) {
+                        final int separator = parameter.indexOf('=');
+                        if (separator > 0) {
+                            resourceTags.remove(decode(parameter.substring(separator + 1)));
+                        }
+                    }
+                }
+                return mapper.createObjectNode();
+            default:
+                return wrap(TAGS, resourceTags);
+        }
+    }
+
+    private JsonNode list(final Kind kind, final String prefix) {
+        final ArrayNode models = mapper.createArrayNode();
+        for (final Map.Entry<String, ObjectNode> entry : items.entrySet()) {
+            final String key = entry.getKey();
+            if (key.startsWith(prefix) && key.indexOf('/', prefix.length()) < 0) {
+                models.add(entry.getValue());
+            }
+        }
+        return wrap(kind.listField, models);
+    }
+
+    private void merge(final Kind kind, final ObjectNode item, final ObjectNode body) {
+        final Iterator<Map.Entry<String, JsonNode>> fields = body.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getKey().equals(kind.idField)) {
+                item.set(field.getKey(), field.getValue());
+            }
+        }
+        if (kind == Kind.DOMAIN) {
+            // Domains come back AVAILABLE right away so create and update do not wait on certificate issuance
+            final ArrayNode subDomains = item.putArray("subDomains");
+            for (final JsonNode subDomainSetting : item.path("subDomainSettings")) {
+                subDomains.addObject()
+                        .put("verified", true)
+                        .put("dnsRecord", subDomainSetting.path("prefix").asText() + " CNAME standin.cloudfront.net")
+                        .set("subDomainSetting", subDomainSetting);
+            }
+        }
+    }
+
+    private ObjectNode readBody(final HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            final JsonNode node = mapper.readTree(body);
+            return node != null && node.isObject() ? (ObjectNode) node : mapper.createObjectNode();
+        }
+    }
+
+    private ObjectNode wrap(final String field, final JsonNode value) {
+        final ObjectNode node = mapper.createObjectNode();
+        node.set(field, value);
+        return node;
+    }
+
+    private ObjectNode notFound(final String path) {
+        return mapper.createObjectNode().put("message", path + " not found");
+    }
+
+    private void respond(final HttpExchange exchange, final int status, final JsonNode body) throws IOException {
+        final byte[] bytes = mapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        if (status == 404) {
+            exchange.getResponseHeaders().add("x-amzn-ErrorType", "NotFoundException");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private enum Kind {
+        APP("appId", "appArn", "app", APPS),
+        BRANCH("branchName", "branchArn", "branch", BRANCHES),
+        DOMAIN("domainName", "domainAssociationArn", "domainAssociation", "domainAssociations");
+
+        private final String idField;
+        private final String arnField;
+        private final String itemField;
+        private final String listField;
+
+        Kind(final String idField, final String arnField, final String itemField, final String listField) {
+            this.idField = idField;
+            this.arnField = arnField;
+            this.itemField = itemField;
+            this.listField = listField;
+        }
+
+        static Kind of(final String[] path) {
+            if (path.length > 2 && BRANCHES.equals(path[2])) {
+                return BRANCH;
+            }
+            if (path.length > 2 && DOMAINS.equals(path[2])) {
+                return DOMAIN;
+            }
+            return APP;
+        }
+
+        ObjectNode newItem(final ObjectMapper mapper, final String appId, final String id) {
+            final ObjectNode item = mapper.createObjectNode();
+            if (this == APP) {
+                item.put("appId", id)
+                        .put("name", id)
+                        .put("defaultDomain", id + ".amplifyapp.com")
+                        .put(arnField, ARN_PREFIX + "apps/" + id);
+            } else {
+                item.put("appId", appId)
+                        .put(idField, id)
+                        .put(arnField, ARN_PREFIX + "apps/" + appId + "/" + (this == BRANCH ? BRANCHES : DOMAINS) + "/" + id);
+            }
+            if (this == DOMAIN) {
+                item.put("domainStatus", "AVAILABLE");
+            }
+            return item;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package software.amazon.amplify.common.benchmark;
+
+import lombok.Builder;
+import software.amazon.amplify.common.utils.BackoffPolicies;
+import software.amazon.amplify.common.utils.BackoffPolicy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+// Prints the poll schedule each backoff policy of a module produces and the Amplify calls it costs: the mutating call
+// plus one read per poll. Polls run on simulated time, the first one right after the mutating call as the framework
+// does. amplify.backoff.policies takes a candidate AMPLIFY_BACKOFF_POLICIES document to simulate instead of the
+// current settings. amplify.backoff.statuses describes the resource, e.g. CREATING:120,PENDING_DEPLOYMENT:900 reports
+// CREATING for the first 2 minutes, PENDING_DEPLOYMENT until minute 15 and stabilized from then on. Without it the
+// resource never stabilizes, which shows the whole schedule up to the timeout.
+@Builder
+public final class BackoffSimulation {
+    private static final String STABILIZED = "(stabilized)";
+    private static final int MAX_POLLS = 10000;
+
+    private final String resourceTypeName;
+    private final BackoffPolicies policies;
+    @Builder.Default
+    private final String candidatePolicies = System.getProperty("amplify.backoff.policies");
+    @Builder.Default
+    private final String statuses = System.getProperty("amplify.backoff.statuses", "");
+
+    public void run() {
+        BackoffPolicies simulated = policies;
+        if (candidatePolicies != null) {
+            try {
+                simulated = policies.withOverrides(candidatePolicies);
+            } catch (final IllegalArgumentException e) {
+                System.out.println("Invalid backoff policies:");
+                for (final String problem : e.getMessage().split("; ")) {
+                    System.out.println("  " + problem);
+                }
+                return;
+            }
+        }
+        final List<String> problems = simulated.validate();
+        if (!problems.isEmpty()) {
+            System.out.println("Invalid backoff policies: " + problems);
+            return;
+        }
+        for (final Map.Entry<String, BackoffPolicy> policy : simulated.getPolicies().entrySet()) {
+            simulate(policy.getKey(), policy.getValue());
+        }
+    }
+
+    private void simulate(final String operation, final BackoffPolicy policy) {
+        System.out.printf("%n%s %s, %s min %ds max %ds timeout %ds%n", resourceTypeName, operation,
+                policy.getStrategy(), policy.getMinDelaySeconds(), policy.getEffectiveMaxDelaySeconds(),
+                policy.getTimeoutSeconds());
+        System.out.printf("%6s %10s %-28s %12s%n", "Poll", "At (s)", "Observed status", "Next in (s)");
+        long elapsedSeconds = 0L;
+        int pollCount = 0;
+        while (pollCount < MAX_POLLS) {
+            final String status = statusAt(elapsedSeconds);
+            pollCount++;
+            if (STABILIZED.equals(status)) {
+                System.out.printf("%6d %10d %-28s %12s%n", pollCount, elapsedSeconds, status, "-");
+                printSummary(pollCount, "stabilized after " + elapsedSeconds + "s");
+                return;
+            }
+            final Duration delay = policy.nextDelay(pollCount, status);
+            // Same check as BackoffPolicy.toDelay, the timeout counts from the first poll
+            if (elapsedSeconds > policy.getTimeoutSeconds()) {
+                System.out.printf("%6d %10d %-28s %12s%n", pollCount, elapsedSeconds, status, "-");
+                printSummary(pollCount, "timed out after " + elapsedSeconds + "s");
+                return;
+            }
+            System.out.printf("%6d %10d %-28s %12d%n", pollCount, elapsedSeconds, status, delay.getSeconds());
+            elapsedSeconds += delay.getSeconds();
+        }
+        printSummary(pollCount, "still polling after " + MAX_POLLS + " polls");
+    }
+
+    private static void printSummary(final int pollCount, final String outcome) {
+        System.out.printf("%d polls, %d Amplify calls, %s%n", pollCount, pollCount + 1, outcome);
+    }
+
+    private String statusAt(final long elapsedSeconds) {
+        if (statuses.isEmpty()) {
+            return "IN_PROGRESS";
+        }
+        for (final String phase : statuses.split(",")) {
+            final String[] statusAndEnd = phase.trim().split(":");
+            if (elapsedSeconds < Long.parseLong(statusAndEnd[1].trim())) {
+                return statusAndEnd[0].trim();
+            }
+        }
+        return STABILIZED;
+    }
+}
@@ -0,0 +1,78 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+import java.util.concurrent.TimeUnit;
+
+// Minimal Lambda context for invoking HandlerWrapper.testEntrypoint outside of Lambda
+public final class BenchmarkContext implements Context {
+    private static final long REMAINING_TIME_MILLIS = TimeUnit.MINUTES.toMillis(15L);
+
+    // Handler logs are dropped, printing them would dominate the measurement
+    private final LambdaLogger logger = new LambdaLogger() {
+        @Override
+        public void log(final String message) {
+        }
+
+        public void log(final byte[] message) {
+        }
+    };
+
+    @Override
+    public String getAwsRequestId() {
+        return "benchmark";
+    }
+
+    @Override
+    public String getLogGroupName() {
+        return "benchmark";
+    }
+
+    @Override
+    public String getLogStreamName() {
+        return "benchmark";
+    }
+
+    @Override
+    public String getFunctionName() {
+        return "benchmark";
+    }
+
+    @Override
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+
+    @Override
+    public String getInvokedFunctionArn() {
+        return "arn:aws:lambda:" + TestEvents.REGION + ":" + TestEvents.AWS_ACCOUNT_ID + ":function:benchmark";
+    }
+
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    @Override
+    public int getRemainingTimeInMillis() {
+        return (int) REMAINING_TIME_MILLIS;
+    }
+
+    @Override
+    public int getMemoryLimitInMB() {
+        return 256;
+    }
+
+    @Override
+    public LambdaLogger getLogger() {
+        return logger;
+    }
+}
@@ -0,0 +1,134 @@
+package software.amazon.amplify.common.benchmark;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+// Not a test, the benchmark, startup and native profiles of every module run it from the module directory as
+// BenchmarkLauncher <BenchmarkModule class> <benchmark> [arguments]. Benchmarks: handler, serialization, projection,
+// fingerprint, tracing, backoff, http, cold-start, native-config and native-compare. probe and bootstrap are what
+// ColdStartHarness and NativeImageHarness run in the processes they fork.
+public final class BenchmarkLauncher {
+    // Forked processes get the AmplifyStandIn endpoint through this property and hand it to the module's endpoint hook
+    public static final String ENDPOINT_PROPERTY = "amplify.benchmark.endpoint";
+
+    private static final Path PAYLOAD_DIRECTORY = Paths.get("cfn-invoke-payload");
+
+    private BenchmarkLauncher() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: BenchmarkLauncher <BenchmarkModule class> <benchmark> [arguments]");
+        }
+        final BenchmarkModule<?, ?> module = (BenchmarkModule<?, ?>) Class.forName(args[0])
+                .getDeclaredConstructor()
+                .newInstance();
+        run(module, args[1], Arrays.copyOfRange(args, 1, args.length));
+    }
+
+    // arguments starts with the benchmark name, the way ColdStartHarness.probe expects them
+    private static <ModelT, CallbackT> void run(final BenchmarkModule<ModelT, CallbackT> module,
+                                                final String benchmark,
+                                                final String[] arguments) throws Exception {
+        switch (benchmark) {
+            case "handler":
+                HandlerBenchmark.builder()
+                        .resourceTypeName(module.resourceTypeName())
+                        .payloadDirectory(PAYLOAD_DIRECTORY)
+                        .endpointOverride(module::overrideEndpoint)
+                        .entrypoint(module.newEntrypoint())
+                        .build()
+                        .run();
+                break;
+            case "serialization":
+                SerializationBenchmark.<ModelT, CallbackT>builder()
+                        .resourceTypeName(module.resourceTypeName())
+                        .payloadDirectory(PAYLOAD_DIRECTORY)
+                        .modelType(module.modelType())
+                        .callbackContextType(module.callbackContextType())
+                        .callbackContext(module.newCallbackContext())
+                        .build()
+                        .run();
+                break;
+            case "projection":
+                module.projectionBenchmark().run();
+                break;
+            case "fingerprint":
+                FingerprintBenchmark.<ModelT>builder()
+                        .resourceTypeName(module.resourceTypeName())
+                        .payloadDirectory(PAYLOAD_DIRECTORY)
+                        .modelType(module.modelType())
+                        .fingerprint(module.fingerprint())
+                        .build()
+                        .run();
+                break;
+            case "tracing":
+                TracingBenchmark.builder()
+                        .resourceTypeName(module.resourceTypeName())
+                        .payloadDirectory(PAYLOAD_DIRECTORY)
+                        .endpointOverride(module::overrideEndpoint)
+                        .entrypoint(module.newEntrypoint())
+                        .build()
+                        .run();
+                break;
+            case "backoff":
+                BackoffSimulation.builder()
+                        .resourceTypeName(module.resourceTypeName())
+                        .policies(module.backoffPolicies())
+                        .build()
+                        .run();
+                break;
+            case "http":
+                HttpClientBenchmark.builder()
+                        .build()
+                        .run();
+                break;
+            case "cold-start":
+                ColdStartHarness.builder()
+                        .resourceTypeName(module.resourceTypeName())
+                        .payloadDirectory(PAYLOAD_DIRECTORY)
+                        .moduleClass(module.getClass().getName())
+                        .build()
+                        .run();
+                break;
+            case ColdStartHarness.PROBE:
+                // Pointing the clients at the stand-in is part of init, as is constructing the handler
+                ColdStartHarness.probe(arguments, () -> {
+                    overrideEndpointFromProperty(module);
+                    return module.newEntrypoint();
+                });
+                break;
+            case "native-config":
+                nativeImageHarness(module).generateConfig();
+                break;
+            case "native-compare":
+                nativeImageHarness(module).compare();
+                break;
+            case NativeImageHarness.BOOTSTRAP:
+                overrideEndpointFromProperty(module);
+                module.bootstrap();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown benchmark " + benchmark);
+        }
+    }
+
+    private static NativeImageHarness nativeImageHarness(final BenchmarkModule<?, ?> module) {
+        return NativeImageHarness.builder()
+                .resourceTypeName(module.resourceTypeName())
+                .payloadDirectory(PAYLOAD_DIRECTORY)
+                .moduleClass(module.getClass().getName())
+                .build();
+    }
+
+    private static void overrideEndpointFromProperty(final BenchmarkModule<?, ?> module) {
+        final String endpoint = System.getProperty(ENDPOINT_PROPERTY);
+        if (endpoint == null) {
+            throw new IllegalStateException(ENDPOINT_PROPERTY + " must point at the Amplify stand-in");
+        }
+        module.overrideEndpoint(URI.create(endpoint));
+    }
+}
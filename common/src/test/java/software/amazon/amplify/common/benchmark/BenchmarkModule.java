@@ -0,0 +1,39 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.amplify.common.utils.BackoffPolicies;
+
+import java.net.URI;
+import java.util.function.Function;
+
+// What BenchmarkLauncher needs from a resource module. Each module implements it once, in a test class of its handler
+// package so it reaches the package-private Translator and ClientBuilder members.
+public interface BenchmarkModule<ModelT, CallbackT> {
+    String resourceTypeName();
+
+    // A new HandlerWrapper, constructed the way Lambda does during init
+    HandlerBenchmark.Entrypoint newEntrypoint();
+
+    // Points the clients the handlers build from then on at endpoint, null goes back to the service endpoint
+    void overrideEndpoint(URI endpoint);
+
+    TypeReference<ModelT> modelType();
+
+    TypeReference<CallbackT> callbackContextType();
+
+    CallbackT newCallbackContext();
+
+    Function<ModelT, String> fingerprint();
+
+    // Built around a service read response of the module scaled up to a large resource
+    ProjectionBenchmark<?, ModelT> projectionBenchmark();
+
+    BackoffPolicies backoffPolicies();
+
+    // Runs the module's custom runtime Bootstrap, looked up by name as only native profile builds compile it
+    default void bootstrap() throws Exception {
+        Class.forName(getClass().getPackage().getName() + ".Bootstrap")
+                .getMethod("main", String[].class)
+                .invoke(null, (Object) new String[0]);
+    }
+}
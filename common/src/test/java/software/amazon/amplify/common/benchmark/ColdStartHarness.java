@@ -0,0 +1,266 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.amplify.common.utils.Priming;
+import software.amazon.amplify.common.utils.RateLimiters;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+// Launches a fresh JVM per sample and times handler construction and the first testEntrypoint invocation of every
+// action against AmplifyStandIn. Variants: the default JVM setup, the same with priming, and the startup optimized one
+// with priming: the shaded handler jar first on the class path, C1 only and, on JDK 11 or later, an AppCDS archive
+// dumped from a training run.
+@Builder
+public final class ColdStartHarness {
+    // Benchmark name BenchmarkLauncher runs probe under in the forked JVM
+    public static final String PROBE = "probe";
+    private static final String RESULT_PREFIX = "COLD_START ";
+
+    private final String resourceTypeName;
+    private final Path payloadDirectory;
+    // BenchmarkModule the forked JVMs hand to BenchmarkLauncher
+    private final String moduleClass;
+    @Builder.Default
+    private final int samples = Integer.getInteger("amplify.coldstart.samples", 10);
+    @Builder.Default
+    private final String handlerJar = System.getProperty("amplify.coldstart.handlerJar");
+    @Builder.Default
+    private final Path workDirectory = Paths.get("target", "cold-start");
+
+    // Runs in the forked JVM, args are "probe" followed by action and event file pairs
+    public static void probe(final String[] args,
+                             final Supplier<HandlerBenchmark.Entrypoint> entrypointFactory) throws IOException {
+        final long mainStart = System.nanoTime();
+        // Lambda constructs the handler during init, outside of the first invocation
+        final HandlerBenchmark.Entrypoint entrypoint = entrypointFactory.get();
+        final long initNanos = System.nanoTime() - mainStart;
+
+        final Context context = new BenchmarkContext();
+        final List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        final long[] invocationNanos = new long[args.length / 2];
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            final byte[] event = Files.readAllBytes(Paths.get(args[i + 1]));
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final long start = System.nanoTime();
+            entrypoint.invoke(new ByteArrayInputStream(event), output, context);
+            invocationNanos[i / 2] = System.nanoTime() - start;
+            outputs.add(output);
+        }
+
+        // Management beans are only touched now so their classes do not count against the handler
+        final long jvmStartToMainMillis = ManagementFactory.getRuntimeMXBean().getUptime()
+                - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - mainStart);
+        final long loadedClasses = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+        final ObjectMapper mapper = new ObjectMapper();
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            final String status = mapper.readTree(outputs.get(i / 2).toByteArray()).path("status").asText();
+            System.out.println(RESULT_PREFIX + String.join(" ", args[i], status, String.valueOf(jvmStartToMainMillis),
+                    String.valueOf(toMillis(initNanos)), String.valueOf(toMillis(invocationNanos[i / 2])),
+                    String.valueOf(loadedClasses)));
+        }
+    }
+
+    public void run() throws IOException, InterruptedException {
+        Files.createDirectories(workDirectory);
+        final ObjectMapper mapper = new ObjectMapper();
+        final Map<String, Path> events = new LinkedHashMap<>();
+        for (final String action : TestEvents.ACTIONS) {
+            final Path event = workDirectory.resolve(action + ".json");
+            Files.write(event, TestEvents.toTestEvent(mapper, payloadDirectory, action));
+            events.put(action, event);
+        }
+
+        try (AmplifyStandIn standIn = AmplifyStandIn.start()) {
+            final List<String> properties = Arrays.asList(
+                    "-D" + BenchmarkLauncher.ENDPOINT_PROPERTY + "=" + standIn.getEndpoint(),
+                    "-D" + RateLimiters.SCOPE_PROPERTY + "=" + RateLimiters.NONE_SCOPE,
+                    "-D" + TestEvents.REGION_PROPERTY + "=" + TestEvents.REGION);
+            final List<String> primed = new ArrayList<>(properties);
+            primed.add("-D" + Priming.PROPERTY + "=true");
+            final List<String> unprimed = new ArrayList<>(properties);
+            unprimed.add("-D" + Priming.PROPERTY + "=false");
+            final String classPath = System.getProperty("java.class.path");
+
+            final Map<String, Map<String, List<Sample>>> variants = new LinkedHashMap<>();
+            variants.put("default", measure(standIn, Collections.emptyList(), unprimed, classPath, events));
+            variants.put("primed", measure(standIn, Collections.emptyList(), primed, classPath, events));
+
+            final String optimizedClassPath = handlerJar != null
+                    ? handlerJar + File.pathSeparator + classPath : classPath;
+            final List<String> optimizedOptions = new ArrayList<>();
+            optimizedOptions.add("-XX:TieredStopAtLevel=1");
+            if (javaMajorVersion() >= 11) {
+                final Path archive = dumpArchive(standIn, primed, optimizedClassPath, events);
+                optimizedOptions.add("-XX:SharedArchiveFile=" + archive);
+                optimizedOptions.add("-Xshare:auto");
+            } else {
+                System.out.println("AppCDS archives need JDK 11 or later, measuring without one");
+            }
+            variants.put("startup", measure(standIn, optimizedOptions, primed, optimizedClassPath, events));
+            report(variants);
+        }
+    }
+
+    private Map<String, List<Sample>> measure(final AmplifyStandIn standIn,
+                                              final List<String> jvmOptions,
+                                              final List<String> properties,
+                                              final String classPath,
+                                              final Map<String, Path> events) throws IOException, InterruptedException {
+        final Map<String, List<Sample>> samplesByAction = new LinkedHashMap<>();
+        for (final Map.Entry<String, Path> event : events.entrySet()) {
+            final List<Sample> actionSamples = new ArrayList<>(samples);
+            for (int i = 0; i < samples; i++) {
+                final List<String> command = javaCommand(jvmOptions, properties, classPath);
+                command.addAll(launcher());
+                command.add(event.getKey());
+                command.add(event.getValue().toString());
+                standIn.reset();
+                actionSamples.addAll(launch(command));
+            }
+            samplesByAction.put(event.getKey(), actionSamples);
+        }
+        return samplesByAction;
+    }
+
+    private Path dumpArchive(final AmplifyStandIn standIn,
+                             final List<String> properties,
+                             final String classPath,
+                             final Map<String, Path> events) throws IOException, InterruptedException {
+        final Path classList = workDirectory.resolve(resourceTypeName.replace("::", "-") + ".classlist");
+        final Path archive = workDirectory.resolve(resourceTypeName.replace("::", "-") + ".jsa");
+
+        // Training run: every action once in a single JVM so the class list covers all of them
+        final List<String> training = javaCommand(
+                Arrays.asList("-Xshare:off", "-XX:DumpLoadedClassList=" + classList), properties, classPath);
+        training.addAll(launcher());
+        for (final Map.Entry<String, Path> event : events.entrySet()) {
+            training.add(event.getKey());
+            training.add(event.getValue().toString());
+        }
+        standIn.reset();
+        launch(training);
+
+        launch(javaCommand(Arrays.asList("-Xshare:dump", "-XX:SharedClassListFile=" + classList,
+                "-XX:SharedArchiveFile=" + archive), Collections.emptyList(), classPath));
+        return archive;
+    }
+
+    private List<String> launcher() {
+        return Arrays.asList(BenchmarkLauncher.class.getName(), moduleClass, PROBE);
+    }
+
+    private static List<String> javaCommand(final List<String> jvmOptions,
+                                            final List<String> properties,
+                                            final String classPath) {
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.addAll(properties);
+        command.add("-cp");
+        command.add(classPath);
+        return command;
+    }
+
+    private static List<Sample> launch(final List<String> command) throws IOException, InterruptedException {
+        final long start = System.nanoTime();
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        final List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+            }
+        }
+        final int exitCode = process.waitFor();
+        final double wallMillis = toMillis(System.nanoTime() - start);
+        if (exitCode != 0) {
+            throw new IllegalStateException(String.format("%s exited with %d:%n%s",
+                    command.get(0), exitCode, String.join(System.lineSeparator(), output)));
+        }
+
+        final List<Sample> results = new ArrayList<>();
+        for (final String line : output) {
+            if (line.startsWith(RESULT_PREFIX)) {
+                final String[] fields = line.substring(RESULT_PREFIX.length()).split(" ");
+                if ("FAILED".equals(fields[1])) {
+                    throw new IllegalStateException(fields[0] + " failed against the stand-in");
+                }
+                results.add(new Sample(wallMillis, Long.parseLong(fields[2]), Double.parseDouble(fields[3]),
+                        Double.parseDouble(fields[4]), Long.parseLong(fields[5])));
+            }
+        }
+        return results;
+    }
+
+    // One row per action and variant, changes are relative to the default variant
+    private void report(final Map<String, Map<String, List<Sample>>> variants) {
+        System.out.printf("%-24s %-7s %-8s %10s %10s %14s %14s %9s %12s%n", "Resource", "Action", "Variant",
+                "JVM (ms)", "Init (ms)", "First inv (ms)", "Process (ms)", "Classes", "Inv change");
+        final Map<String, List<Sample>> baseline = variants.values().iterator().next();
+        for (final String action : baseline.keySet()) {
+            final double baselineInvocation = median(baseline.get(action), Sample::getFirstInvocationMillis);
+            for (final Map.Entry<String, Map<String, List<Sample>>> variant : variants.entrySet()) {
+                final List<Sample> variantSamples = variant.getValue().get(action);
+                final double firstInvocation = median(variantSamples, Sample::getFirstInvocationMillis);
+                System.out.printf("%-24s %-7s %-8s %10.0f %10.1f %14.1f %14.1f %9.0f %11.1f%%%n",
+                        resourceTypeName,
+                        action,
+                        variant.getKey(),
+                        median(variantSamples, Sample::getJvmStartToMainMillis),
+                        median(variantSamples, Sample::getInitMillis),
+                        firstInvocation,
+                        median(variantSamples, Sample::getProcessMillis),
+                        median(variantSamples, Sample::getLoadedClasses),
+                        (firstInvocation - baselineInvocation) / baselineInvocation * 100);
+            }
+        }
+    }
+
+    private static double median(final List<Sample> samples, final ToDoubleFunction<Sample> metric) {
+        final double[] values = samples.stream().mapToDouble(metric).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+
+    private static int javaMajorVersion() {
+        final String version = System.getProperty("java.specification.version");
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+
+    @Value
+    private static class Sample {
+        // Wall clock from fork to exit, what a cold Lambda init plus first invoke roughly costs
+        double processMillis;
+        long jvmStartToMainMillis;
+        // Handler construction, where priming runs
+        double initMillis;
+        double firstInvocationMillis;
+        long loadedClasses;
+    }
+}
@@ -0,0 +1,68 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Times the module's model fingerprint on the create sample of cfn-invoke-payload scaled up to large models, that is
+// the cost every update pays before it knows whether it can be skipped
+@Builder
+public final class FingerprintBenchmark<ModelT> {
+    private final String resourceTypeName;
+    private final Path payloadDirectory;
+    private final TypeReference<ModelT> modelType;
+    private final Function<ModelT, String> fingerprint;
+    @Builder.Default
+    private final int warmupIterations = Integer.getInteger("amplify.benchmark.warmupIterations", 2000);
+    @Builder.Default
+    private final int iterations = Integer.getInteger("amplify.benchmark.iterations", 10000);
+    // See ScaledModels
+    @Builder.Default
+    private final String scales = System.getProperty("amplify.benchmark.scales", "1,10,100");
+
+    public void run() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        final JsonNode desiredState = mapper.readTree(payloadDirectory.resolve("create-payload.json").toFile())
+                .path("desiredResourceState");
+        final JsonCodec<ModelT> modelCodec = JsonCodec.of(modelType);
+
+        System.out.printf("%-24s %-12s %10s %14s %16s%n",
+                "Resource", "Payload", "Size (B)", "Time (us)", "Alloc/hash (B)");
+        for (final String scale : scales.split(",")) {
+            final byte[] json = mapper.writeValueAsBytes(ScaledModels.scale(desiredState, Integer.parseInt(scale)));
+            final ModelT model = modelCodec.read(json);
+            // Summing the hash codes keeps the JIT from dropping the hashing as dead code
+            long sink = 0L;
+            for (int i = 0; i < warmupIterations; i++) {
+                sink += fingerprint.apply(model).hashCode();
+            }
+            final long allocatedBefore = allocatedBytes();
+            final long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                sink += fingerprint.apply(model).hashCode();
+            }
+            final long elapsed = System.nanoTime() - start;
+            final long allocated = allocatedBytes() - allocatedBefore;
+            if (sink == 0L) {
+                throw new IllegalStateException("Fingerprints hashed to nothing for model x" + scale);
+            }
+            System.out.printf("%-24s %-12s %10d %14.2f %16d%n",
+                    resourceTypeName,
+                    "model x" + scale,
+                    json.length,
+                    elapsed / (double) iterations / TimeUnit.MICROSECONDS.toNanos(1L),
+                    allocated / iterations);
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
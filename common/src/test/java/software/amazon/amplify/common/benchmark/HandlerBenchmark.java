@@ -0,0 +1,119 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import software.amazon.amplify.common.utils.RateLimiters;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Drives the generated HandlerWrapper.testEntrypoint with the cfn-invoke-payload samples against AmplifyStandIn, so
+// every measured invocation includes request deserialization, the handler chain, the SDK round trip and response
+// serialization. Allocation is what the invoking thread allocated, SDK and stand-in worker threads are not counted.
+@Builder
+public final class HandlerBenchmark {
+    private final String resourceTypeName;
+    private final Path payloadDirectory;
+    // The module's test-only ClientBuilder hook, given the stand-in endpoint and null once the benchmark is done
+    private final Consumer<URI> endpointOverride;
+    private final Entrypoint entrypoint;
+    @Builder.Default
+    private final int warmupIterations = Integer.getInteger("amplify.benchmark.warmupIterations", 500);
+    @Builder.Default
+    private final int iterations = Integer.getInteger("amplify.benchmark.iterations", 2000);
+
+    @FunctionalInterface
+    public interface Entrypoint {
+        void invoke(InputStream inputStream, OutputStream outputStream, Context context) throws IOException;
+    }
+
+    public void run() throws IOException {
+        // The benchmark measures the handlers, not the client side rate limits in front of the service
+        System.setProperty(RateLimiters.SCOPE_PROPERTY, RateLimiters.NONE_SCOPE);
+        if (System.getProperty(TestEvents.REGION_PROPERTY) == null) {
+            System.setProperty(TestEvents.REGION_PROPERTY, TestEvents.REGION);
+        }
+
+        final ObjectMapper mapper = new ObjectMapper();
+        final Context context = new BenchmarkContext();
+        System.out.printf("%-24s %-7s %12s %10s %10s %16s%n",
+                "Resource", "Action", "Invocations/s", "p50 (ms)", "p99 (ms)", "Alloc/inv (B)");
+        try (AmplifyStandIn standIn = AmplifyStandIn.start()) {
+            endpointOverride.accept(standIn.getEndpoint());
+            for (final String action : TestEvents.ACTIONS) {
+                final byte[] event = TestEvents.toTestEvent(mapper, payloadDirectory, action);
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                for (int i = 0; i < warmupIterations; i++) {
+                    invoke(standIn, event, output, context);
+                }
+                requireNotFailed(mapper, action, output);
+
+                final long[] latencies = new long[iterations];
+                long allocatedBytes = 0L;
+                long elapsed = 0L;
+                for (int i = 0; i < iterations; i++) {
+                    final long allocatedBefore = allocatedBytes();
+                    final long latency = invoke(standIn, event, output, context);
+                    allocatedBytes += allocatedBytes() - allocatedBefore;
+                    latencies[i] = latency;
+                    elapsed += latency;
+                }
+                report(action, latencies, elapsed, allocatedBytes);
+            }
+        } finally {
+            endpointOverride.accept(null);
+        }
+    }
+
+    private long invoke(final AmplifyStandIn standIn,
+                        final byte[] event,
+                        final ByteArrayOutputStream output,
+                        final Context context) throws IOException {
+        standIn.reset();
+        output.reset();
+        final long start = System.nanoTime();
+        entrypoint.invoke(new ByteArrayInputStream(event), output, context);
+        return System.nanoTime() - start;
+    }
+
+    private void requireNotFailed(final ObjectMapper mapper,
+                                  final String action,
+                                  final ByteArrayOutputStream output) throws IOException {
+        final JsonNode response = mapper.readTree(output.toByteArray());
+        if ("FAILED".equals(response.path("status").asText())) {
+            throw new IllegalStateException(String.format("%s %s failed against the stand-in: %s",
+                    resourceTypeName, action, response.path("message").asText()));
+        }
+    }
+
+    private void report(final String action, final long[] latencies, final long elapsed, final long allocatedBytes) {
+        Arrays.sort(latencies);
+        System.out.printf("%-24s %-7s %12.1f %10.3f %10.3f %16d%n",
+                resourceTypeName,
+                action,
+                latencies.length / (elapsed / (double) TimeUnit.SECONDS.toNanos(1L)),
+                percentile(latencies, 0.50) / (double) TimeUnit.MILLISECONDS.toNanos(1L),
+                percentile(latencies, 0.99) / (double) TimeUnit.MILLISECONDS.toNanos(1L),
+                allocatedBytes / latencies.length);
+    }
+
+    private static long percentile(final long[] sorted, final double percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
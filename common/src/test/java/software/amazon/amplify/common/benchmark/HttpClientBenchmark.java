@@ -0,0 +1,167 @@
+package software.amazon.amplify.common.benchmark;
+
+import lombok.Builder;
+import software.amazon.amplify.common.utils.HttpClientProfile;
+import software.amazon.amplify.common.utils.HttpConnectionStats;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.App;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+// Handshake savings of the shared HTTP client: the Create, Read, Tag chain of a create handler followed by
+// stabilization reads, against AmplifyStandIn over HTTPS with a throwaway self signed certificate. Compared are a new
+// HTTP client per chain (every chain pays the TCP and TLS handshakes, as when connections are dropped between calls),
+// one client with the SDK's default settings and one with HttpClientProfile's. amplify.benchmark.gapMillis pauses
+// between chains, longer than a profile's idle time it shows connections being dropped.
+@Builder
+public final class HttpClientBenchmark {
+    private static final char[] PASSWORD = "benchmark".toCharArray();
+
+    @Builder.Default
+    private final int warmupChains = Integer.getInteger("amplify.benchmark.warmupIterations", 50);
+    @Builder.Default
+    private final int chains = Integer.getInteger("amplify.benchmark.iterations", 500);
+    @Builder.Default
+    private final int pollsPerChain = Integer.getInteger("amplify.benchmark.polls", 3);
+    @Builder.Default
+    private final long gapMillis = Long.getLong("amplify.benchmark.gapMillis", 0L);
+
+    private enum Mode {
+        CLIENT_PER_CHAIN,
+        SDK_DEFAULTS,
+        PROFILE
+    }
+
+    public void run() throws Exception {
+        final Path directory = Files.createTempDirectory("amplify-http-benchmark");
+        final SSLContext sslContext = selfSignedContext(directory.resolve("stand-in.p12"));
+        try (AmplifyStandIn standIn = AmplifyStandIn.startHttps(sslContext)) {
+            System.out.printf("%-18s %8s %14s %14s %12s%n",
+                    "Client", "Calls", "Time/call (ms)", "Connections", "Reuse (%)");
+            for (final Mode mode : Mode.values()) {
+                measure(mode, standIn.getEndpoint(), sslContext);
+                standIn.reset();
+            }
+        } finally {
+            Files.deleteIfExists(directory.resolve("stand-in.p12"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private void measure(final Mode mode, final URI endpoint, final SSLContext sslContext) throws InterruptedException {
+        final HttpClientProfile profile = mode == Mode.PROFILE ? HttpClientProfile.builder().build() : sdkDefaults();
+        final HttpConnectionStats warmupStats = new HttpConnectionStats();
+        try (SdkHttpClient shared = profile.createClient(warmupStats, sslContext)) {
+            for (int i = 0; i < warmupChains; i++) {
+                runChain(shared, endpoint, warmupStats);
+            }
+        }
+
+        final HttpConnectionStats stats = new HttpConnectionStats();
+        final SdkHttpClient shared = mode == Mode.CLIENT_PER_CHAIN ? null : profile.createClient(stats, sslContext);
+        long elapsed = 0L;
+        try {
+            for (int i = 0; i < chains; i++) {
+                if (gapMillis > 0L) {
+                    Thread.sleep(gapMillis);
+                }
+                final long start = System.nanoTime();
+                if (shared != null) {
+                    runChain(shared, endpoint, stats);
+                } else {
+                    try (SdkHttpClient perChain = profile.createClient(stats, sslContext)) {
+                        runChain(perChain, endpoint, stats);
+                    }
+                }
+                elapsed += System.nanoTime() - start;
+            }
+        } finally {
+            if (shared != null) {
+                shared.close();
+            }
+        }
+        System.out.printf("%-18s %8d %14.3f %14d %12.1f%n",
+                mode,
+                stats.getRequests(),
+                elapsed / (double) stats.getRequests() / TimeUnit.MILLISECONDS.toNanos(1L),
+                stats.getConnectionsOpened(),
+                stats.getReuseRate() * 100.0);
+    }
+
+    private void runChain(final SdkHttpClient httpClient, final URI endpoint, final HttpConnectionStats stats) {
+        try (AmplifyClient client = AmplifyClient.builder()
+                .httpClient(httpClient)
+                .endpointOverride(endpoint)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("benchmark", "benchmark")))
+                .overrideConfiguration(configuration -> configuration.addMetricPublisher(stats))
+                .build()) {
+            final App app = client.createApp(request -> request.name("benchmark")).app();
+            client.getApp(request -> request.appId(app.appId()));
+            client.tagResource(request -> request.resourceArn(app.appArn())
+                    .tags(Collections.singletonMap("benchmark", "true")));
+            for (int poll = 0; poll < pollsPerChain; poll++) {
+                client.getApp(request -> request.appId(app.appId()));
+            }
+        }
+    }
+
+    // The settings ApacheHttpClient uses when none are given
+    private static HttpClientProfile sdkDefaults() {
+        return HttpClientProfile.builder()
+                .maxConnections(50)
+                .connectionTimeout(Duration.ofSeconds(2L))
+                .socketTimeout(Duration.ofSeconds(30L))
+                .connectionAcquisitionTimeout(Duration.ofSeconds(10L))
+                .connectionMaxIdleTime(Duration.ofSeconds(60L))
+                .connectionTimeToLive(Duration.ZERO)
+                .tcpKeepAlive(false)
+                .expectContinueEnabled(true)
+                .build();
+    }
+
+    // Key pair made with the JDK's keytool, trusted by the client side of the same context
+    private static SSLContext selfSignedContext(final Path keyStorePath) throws IOException, GeneralSecurityException,
+            InterruptedException {
+        final String keytool = System.getProperty("java.home") + File.separator + "bin" + File.separator + "keytool";
+        final Process process = new ProcessBuilder(keytool, "-genkeypair", "-alias", "stand-in",
+                "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+                "-dname", "CN=localhost", "-ext", "SAN=dns:localhost",
+                "-storetype", "PKCS12", "-keystore", keyStorePath.toString(),
+                "-storepass", new String(PASSWORD), "-keypass", new String(PASSWORD))
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("keytool failed to create " + keyStorePath);
+        }
+        final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(keyStorePath)) {
+            keyStore.load(in, PASSWORD);
+        }
+        final KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagers.init(keyStore, PASSWORD);
+        final TrustManagerFactory trustManagers =
+                TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagers.init(keyStore);
+        final SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagers.getKeyManagers(), trustManagers.getTrustManagers(), null);
+        return sslContext;
+    }
+}
@@ -0,0 +1,61 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// Pre-built reader and writer for one type. The (de)serializers are resolved once when the codec is created, every
+// read and write after that streams straight between bytes and the object, without the intermediate String and JSON
+// tree the rpdk Serializer goes through. Codecs are immutable and thread safe, keep them in static fields. Only the
+// benchmarks use it: SerializationBenchmark measures it against the Serializer the generated HandlerWrapper is fixed
+// to, and FingerprintBenchmark reads its scaled up models with it.
+public final class JsonCodec<T> {
+    // Same settings as the models are written with by the rpdk, unknown properties are skipped and nulls omitted
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(DeserializationFeature.EAGER_DESERIALIZER_FETCH, true)
+            .configure(SerializationFeature.EAGER_SERIALIZER_FETCH, true)
+            .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    private JsonCodec(final JavaType type) {
+        this.reader = MAPPER.readerFor(type);
+        this.writer = MAPPER.writerFor(type);
+    }
+
+    public static <T> JsonCodec<T> of(final Class<T> type) {
+        return new JsonCodec<>(MAPPER.constructType(type));
+    }
+
+    public static <T> JsonCodec<T> of(final TypeReference<T> type) {
+        return new JsonCodec<>(MAPPER.getTypeFactory().constructType(type));
+    }
+
+    public T read(final byte[] json) throws IOException {
+        return reader.readValue(json);
+    }
+
+    public T read(final InputStream json) throws IOException {
+        return reader.readValue(json);
+    }
+
+    public byte[] write(final T value) throws IOException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    public void write(final T value, final OutputStream out) throws IOException {
+        writer.writeValue(out, value);
+    }
+}
@@ -0,0 +1,206 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.amplify.common.utils.RateLimiters;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToDoubleFunction;
+
+// Runs the module's custom runtime Bootstrap against StubRuntimeApi and AmplifyStandIn. generateConfig() records the
+// reflection and resource configuration native-image needs with the tracing agent on the JVM, compare() times init
+// and the first invocation of every action and reads the peak resident memory of the JVM jar and of the native binary.
+// Both run Bootstrap through BenchmarkLauncher, which points the clients at the stand-in first, so the native binary
+// is the benchmark image the native profile builds from the launcher next to target/bootstrap.
+@Builder
+public final class NativeImageHarness {
+    // Benchmark name BenchmarkLauncher runs the module's Bootstrap under in the forked process
+    public static final String BOOTSTRAP = "bootstrap";
+    // LambdaRuntimeBootstrap.RUNTIME_API_VARIABLE, the runtime is only on the class path of native profile builds
+    private static final String RUNTIME_API_VARIABLE = "AWS_LAMBDA_RUNTIME_API";
+
+    private static final long TIMEOUT_MINUTES = 2L;
+
+    private final String resourceTypeName;
+    private final Path payloadDirectory;
+    // BenchmarkModule the forked processes hand to BenchmarkLauncher
+    private final String moduleClass;
+    @Builder.Default
+    private final String handlerJar = System.getProperty("amplify.native.handlerJar");
+    @Builder.Default
+    private final Path nativeExecutable = Paths.get("target", "bootstrap-benchmark");
+    @Builder.Default
+    private final Path configDirectory = Paths.get(System.getProperty("amplify.native.configDirectory",
+            "target/native-image-config"));
+    @Builder.Default
+    private final int samples = Integer.getInteger("amplify.native.samples", 5);
+
+    // Drives every action through one JVM with the native-image tracing agent attached, the agent writes its
+    // configuration when the JVM shuts down
+    public void generateConfig() throws Exception {
+        final List<byte[]> events = new ArrayList<>();
+        final ObjectMapper mapper = new ObjectMapper();
+        for (final String action : TestEvents.ACTIONS) {
+            events.add(TestEvents.toHandlerRequest(mapper, payloadDirectory, resourceTypeName, action));
+        }
+        try (AmplifyStandIn standIn = AmplifyStandIn.start()) {
+            launch(jvmCommand(standIn, "-agentlib:native-image-agent=config-output-dir=" + configDirectory),
+                    events, standIn);
+        }
+    }
+
+    public void compare() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        System.out.printf("%-24s %-7s %-7s %12s %14s %14s%n",
+                "Resource", "Action", "Runtime", "Init (ms)", "First inv (ms)", "Peak RSS (MB)");
+        try (AmplifyStandIn standIn = AmplifyStandIn.start()) {
+            for (final String action : TestEvents.ACTIONS) {
+                final List<byte[]> events = Collections.singletonList(
+                        TestEvents.toHandlerRequest(mapper, payloadDirectory, resourceTypeName, action));
+                final List<Sample> jvm = new ArrayList<>();
+                final List<Sample> nativeImage = new ArrayList<>();
+                for (int i = 0; i < samples; i++) {
+                    jvm.add(launch(jvmCommand(standIn), events, standIn));
+                    nativeImage.add(launch(nativeCommand(standIn), events, standIn));
+                }
+                report(action, "JVM", jvm);
+                report(action, "native", nativeImage);
+            }
+        }
+    }
+
+    private Sample launch(final List<String> command,
+                          final List<byte[]> events,
+                          final AmplifyStandIn standIn) throws Exception {
+        standIn.reset();
+        try (StubRuntimeApi runtimeApi = StubRuntimeApi.start()) {
+            final List<CompletableFuture<StubRuntimeApi.Invocation>> invocations = new ArrayList<>();
+            for (final byte[] event : events) {
+                invocations.add(runtimeApi.submit(event));
+            }
+            final ProcessBuilder processBuilder = new ProcessBuilder(command).inheritIO();
+            processBuilder.environment().put(RUNTIME_API_VARIABLE, runtimeApi.getAddress());
+            processBuilder.environment().put("AWS_REGION", TestEvents.REGION);
+
+            final long start = System.nanoTime();
+            final Process process = processBuilder.start();
+            try {
+                final long initNanos = await(runtimeApi.getFirstPoll()) - start;
+                long firstInvocationNanos = -1L;
+                for (final CompletableFuture<StubRuntimeApi.Invocation> future : invocations) {
+                    final StubRuntimeApi.Invocation invocation = await(future);
+                    final String body = new String(invocation.getBody(), StandardCharsets.UTF_8);
+                    if (invocation.isError() || body.contains("\"status\":\"FAILED\"")) {
+                        throw new IllegalStateException(resourceTypeName + " invocation failed: " + body);
+                    }
+                    if (firstInvocationNanos < 0L) {
+                        firstInvocationNanos = invocation.getLatencyNanos();
+                    }
+                }
+                return new Sample(toMillis(initNanos), toMillis(firstInvocationNanos), peakResidentMegabytes(process));
+            } finally {
+                process.destroy();
+                process.waitFor(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            }
+        }
+    }
+
+    private List<String> jvmCommand(final AmplifyStandIn standIn, final String... jvmOptions) {
+        if (handlerJar == null) {
+            throw new IllegalStateException("amplify.native.handlerJar must point at the shaded handler jar");
+        }
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(jvmOptions));
+        command.addAll(properties(standIn));
+        // The handler jar first, the launcher and the module's BenchmarkModule come from the test class path
+        command.add("-cp");
+        command.add(handlerJar + File.pathSeparator + System.getProperty("java.class.path"));
+        command.add(BenchmarkLauncher.class.getName());
+        command.add(moduleClass);
+        command.add(BOOTSTRAP);
+        return command;
+    }
+
+    private List<String> nativeCommand(final AmplifyStandIn standIn) {
+        final List<String> command = new ArrayList<>();
+        command.add(nativeExecutable.toAbsolutePath().toString());
+        command.addAll(properties(standIn));
+        command.add(moduleClass);
+        command.add(BOOTSTRAP);
+        return command;
+    }
+
+    private List<String> properties(final AmplifyStandIn standIn) {
+        return Arrays.asList(
+                "-D" + BenchmarkLauncher.ENDPOINT_PROPERTY + "=" + standIn.getEndpoint(),
+                "-D" + RateLimiters.SCOPE_PROPERTY + "=" + RateLimiters.NONE_SCOPE);
+    }
+
+    private void report(final String action, final String runtime, final List<Sample> runtimeSamples) {
+        System.out.printf("%-24s %-7s %-7s %12.1f %14.1f %14.1f%n",
+                resourceTypeName,
+                action,
+                runtime,
+                median(runtimeSamples, Sample::getInitMillis),
+                median(runtimeSamples, Sample::getFirstInvocationMillis),
+                median(runtimeSamples, Sample::getPeakResidentMegabytes));
+    }
+
+    private static <T> T await(final CompletableFuture<T> future)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(TIMEOUT_MINUTES, TimeUnit.MINUTES);
+    }
+
+    // VmHWM of the child, the pid is only reachable through Process.pid() on JDK 9 or later
+    private static double peakResidentMegabytes(final Process process) throws IOException {
+        final long pid;
+        try {
+            pid = (Long) Process.class.getMethod("pid").invoke(process);
+        } catch (final ReflectiveOperationException e) {
+            return Double.NaN;
+        }
+        final Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return Double.NaN;
+        }
+        for (final String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+            if (line.startsWith("VmHWM:")) {
+                final long kilobytes = Long.parseLong(line.replaceAll("[^0-9]", ""));
+                return kilobytes / 1024.0;
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double median(final List<Sample> samples, final ToDoubleFunction<Sample> metric) {
+        final double[] values = samples.stream().mapToDouble(metric).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+
+    @Value
+    private static class Sample {
+        // From launching the process to its first poll of the runtime API
+        double initMillis;
+        double firstInvocationMillis;
+        double peakResidentMegabytes;
+    }
+}
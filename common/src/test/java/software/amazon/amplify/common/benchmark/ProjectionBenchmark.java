@@ -0,0 +1,72 @@
+package software.amazon.amplify.common.benchmark;
+
+import lombok.Builder;
+import software.amazon.amplify.common.utils.ResponseProjection;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+// Translates a List response item, scaled up to a large resource, with every ResponseProjection and serializes the
+// model with the rpdk Serializer the generated HandlerWrapper writes progress events with. Reports the serialized size and
+// the time and allocation of translating plus serializing per mode.
+@Builder
+public final class ProjectionBenchmark<ResponseT, ModelT> {
+    private final String resourceTypeName;
+    // Builds a service response with the given number of entries in each of its collections
+    private final IntFunction<ResponseT> responseFactory;
+    private final Projection<ResponseT, ModelT> projection;
+    @Builder.Default
+    private final int warmupIterations = Integer.getInteger("amplify.benchmark.warmupIterations", 2000);
+    @Builder.Default
+    private final int iterations = Integer.getInteger("amplify.benchmark.iterations", 10000);
+    @Builder.Default
+    private final String scales = System.getProperty("amplify.benchmark.scales", "1,10,100");
+
+    @FunctionalInterface
+    public interface Projection<ResponseT, ModelT> {
+        ModelT translate(ResponseT response, ResponseProjection projection);
+    }
+
+    public void run() throws Exception {
+        final Serializer serializer = new Serializer();
+        System.out.printf("%-24s %6s %-12s %10s %12s %16s%n",
+                "Resource", "Scale", "Projection", "Size (B)", "Time (us)", "Alloc/op (B)");
+        for (final String scale : scales.split(",")) {
+            final ResponseT response = responseFactory.apply(Integer.parseInt(scale));
+            for (final ResponseProjection responseProjection : ResponseProjection.values()) {
+                // Summing the output sizes keeps the JIT from dropping the work as dead code
+                long sink = 0L;
+                for (int i = 0; i < warmupIterations; i++) {
+                    sink += serializer.serialize(projection.translate(response, responseProjection)).length();
+                }
+                final long allocatedBefore = allocatedBytes();
+                final long start = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    sink += serializer.serialize(projection.translate(response, responseProjection)).length();
+                }
+                final long elapsed = System.nanoTime() - start;
+                final long allocated = allocatedBytes() - allocatedBefore;
+                if (sink == 0L) {
+                    throw new IllegalStateException(responseProjection + " produced no output");
+                }
+                final int size = serializer.serialize(projection.translate(response, responseProjection))
+                        .getBytes(StandardCharsets.UTF_8).length;
+                System.out.printf("%-24s %6s %-12s %10d %12.2f %16d%n",
+                        resourceTypeName,
+                        scale,
+                        responseProjection,
+                        size,
+                        elapsed / (double) iterations / TimeUnit.MICROSECONDS.toNanos(1L),
+                        allocated / iterations);
+            }
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
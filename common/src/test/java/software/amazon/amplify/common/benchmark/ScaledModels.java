@@ -0,0 +1,74 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Grows a cfn-invoke-payload resource model into a large one: every array is repeated scale times and every build
+// spec grows to scale lines
+public final class ScaledModels {
+    private static final String BUILD_SPEC_FIELD = "BuildSpec";
+
+    private ScaledModels() {
+    }
+
+    public static JsonNode scale(final JsonNode model, final int scale) {
+        return scaled(model.deepCopy(), scale);
+    }
+
+    // Arrays get copies of their elements with every text value suffixed, so names and keys stay unique
+    private static JsonNode scaled(final JsonNode node, final int scale) {
+        if (node.isArray()) {
+            final ArrayNode array = (ArrayNode) node;
+            final List<JsonNode> elements = new ArrayList<>();
+            array.forEach(elements::add);
+            for (int copy = 1; copy < scale; copy++) {
+                for (final JsonNode element : elements) {
+                    array.add(suffixed(element.deepCopy(), "-" + copy));
+                }
+            }
+            array.forEach(element -> scaled(element, scale));
+        } else if (node.isObject()) {
+            final ObjectNode object = (ObjectNode) node;
+            final Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                if (BUILD_SPEC_FIELD.equals(field.getKey()) && field.getValue().isTextual()) {
+                    field.setValue(new TextNode(buildSpec(scale)));
+                } else {
+                    scaled(field.getValue(), scale);
+                }
+            }
+        }
+        return node;
+    }
+
+    private static JsonNode suffixed(final JsonNode node, final String suffix) {
+        if (node.isTextual()) {
+            return new TextNode(node.asText() + suffix);
+        }
+        if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                field.setValue(suffixed(field.getValue(), suffix));
+            }
+        }
+        return node;
+    }
+
+    private static String buildSpec(final int lines) {
+        final StringBuilder buildSpec = new StringBuilder(
+                "version: 1\nfrontend:\n  phases:\n    build:\n      commands:\n");
+        for (int line = 0; line < lines; line++) {
+            buildSpec.append("        - npm run build -- --step ").append(line).append('\n');
+        }
+        return buildSpec.toString();
+    }
+}
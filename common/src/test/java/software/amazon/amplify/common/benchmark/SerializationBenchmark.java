@@ -0,0 +1,92 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Round trips the create sample's resource model, scaled up to large models, and a callback context through the rpdk
+// Serializer the generated HandlerWrapper uses and through a JsonCodec, and reports throughput and allocation of both
+@Builder
+public final class SerializationBenchmark<ModelT, CallbackT> {
+    private final String resourceTypeName;
+    private final Path payloadDirectory;
+    private final TypeReference<ModelT> modelType;
+    private final TypeReference<CallbackT> callbackContextType;
+    private final CallbackT callbackContext;
+    @Builder.Default
+    private final int warmupIterations = Integer.getInteger("amplify.benchmark.warmupIterations", 2000);
+    @Builder.Default
+    private final int iterations = Integer.getInteger("amplify.benchmark.iterations", 10000);
+    // See ScaledModels
+    @Builder.Default
+    private final String scales = System.getProperty("amplify.benchmark.scales", "1,10,100");
+
+    @FunctionalInterface
+    private interface RoundTrip {
+        int run(byte[] json) throws Exception;
+    }
+
+    public void run() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        final JsonNode desiredState = mapper.readTree(payloadDirectory.resolve("create-payload.json").toFile())
+                .path("desiredResourceState");
+
+        final Serializer serializer = new Serializer();
+        final JsonCodec<ModelT> modelCodec = JsonCodec.of(modelType);
+        final JsonCodec<CallbackT> callbackContextCodec = JsonCodec.of(callbackContextType);
+
+        System.out.printf("%-24s %-16s %8s %-11s %14s %16s%n",
+                "Resource", "Payload", "Size (B)", "Path", "Round trips/s", "Alloc/trip (B)");
+        for (final String scale : scales.split(",")) {
+            final byte[] model = mapper.writeValueAsBytes(ScaledModels.scale(desiredState, Integer.parseInt(scale)));
+            measure("model x" + scale, model, "Serializer", json -> serializer.serialize(
+                    serializer.deserialize(new String(json, StandardCharsets.UTF_8), modelType))
+                    .getBytes(StandardCharsets.UTF_8).length);
+            measure("model x" + scale, model, "JsonCodec", json -> modelCodec.write(modelCodec.read(json)).length);
+        }
+        final byte[] context = callbackContextCodec.write(callbackContext);
+        measure("callbackContext", context, "Serializer", json -> serializer.serialize(
+                serializer.deserialize(new String(json, StandardCharsets.UTF_8), callbackContextType))
+                .getBytes(StandardCharsets.UTF_8).length);
+        measure("callbackContext", context, "JsonCodec",
+                json -> callbackContextCodec.write(callbackContextCodec.read(json)).length);
+    }
+
+    private void measure(final String payload, final byte[] json, final String path, final RoundTrip roundTrip)
+            throws Exception {
+        // Summing the output sizes keeps the JIT from dropping the round trips as dead code
+        long sink = 0L;
+        for (int i = 0; i < warmupIterations; i++) {
+            sink += roundTrip.run(json);
+        }
+        final long allocatedBefore = allocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += roundTrip.run(json);
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = allocatedBytes() - allocatedBefore;
+        if (sink == 0L) {
+            throw new IllegalStateException(path + " produced no output for " + payload);
+        }
+        System.out.printf("%-24s %-16s %8d %-11s %14.1f %16d%n",
+                resourceTypeName,
+                payload,
+                json.length,
+                path,
+                iterations / (elapsed / (double) TimeUnit.SECONDS.toNanos(1L)),
+                allocated / iterations);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
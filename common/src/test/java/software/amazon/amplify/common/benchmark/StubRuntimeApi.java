@@ -0,0 +1,149 @@
+package software.amazon.amplify.common.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Stand-in for the Lambda runtime API a custom runtime bootstrap polls, hands out submitted events in order and
+// records what the bootstrap reports back for each of them
+public final class StubRuntimeApi implements AutoCloseable {
+    private static final String INVOCATION_PATH = "/2018-06-01/runtime/invocation/";
+    private static final String INIT_ERROR_PATH = "/2018-06-01/runtime/init/error";
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Map<String, Pending> dispatched = new ConcurrentHashMap<>();
+    private final CompletableFuture<Long> firstPoll = new CompletableFuture<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private StubRuntimeApi(final HttpServer server, final ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static StubRuntimeApi start() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        final StubRuntimeApi runtimeApi = new StubRuntimeApi(server, executor);
+        server.createContext("/", runtimeApi::handle);
+        server.setExecutor(executor);
+        server.start();
+        return runtimeApi;
+    }
+
+    // Value for AWS_LAMBDA_RUNTIME_API
+    public String getAddress() {
+        return "localhost:" + server.getAddress().getPort();
+    }
+
+    // Completes with System.nanoTime() of the first poll for an event, that is when the runtime finished its init
+    public CompletableFuture<Long> getFirstPoll() {
+        return firstPoll;
+    }
+
+    public CompletableFuture<Invocation> submit(final byte[] event) {
+        final Pending pending = new Pending(UUID.randomUUID().toString(), event);
+        queue.add(pending);
+        return pending.result;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String path = exchange.getRequestURI().getPath();
+            if (path.equals(INVOCATION_PATH + "next")) {
+                firstPoll.complete(System.nanoTime());
+                final Pending pending = queue.take();
+                pending.dispatchedNanos = System.nanoTime();
+                dispatched.put(pending.requestId, pending);
+                exchange.getResponseHeaders().add("Lambda-Runtime-Aws-Request-Id", pending.requestId);
+                exchange.getResponseHeaders().add("Lambda-Runtime-Deadline-Ms",
+                        String.valueOf(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(15L)));
+                exchange.getResponseHeaders().add("Lambda-Runtime-Invoked-Function-Arn", String.format(
+                        "arn:aws:lambda:%s:%s:function:bootstrap", TestEvents.REGION, TestEvents.AWS_ACCOUNT_ID));
+                respond(exchange, 200, pending.event);
+            } else if (path.startsWith(INVOCATION_PATH)) {
+                final String[] segments = path.substring(INVOCATION_PATH.length()).split("/");
+                final Pending pending = dispatched.remove(segments[0]);
+                final byte[] body = readAll(exchange.getRequestBody());
+                if (pending != null) {
+                    pending.result.complete(new Invocation("error".equals(segments[1]), body,
+                            System.nanoTime() - pending.dispatchedNanos));
+                }
+                respond(exchange, 202, new byte[0]);
+            } else if (path.equals(INIT_ERROR_PATH)) {
+                final byte[] body = readAll(exchange.getRequestBody());
+                firstPoll.completeExceptionally(
+                        new IllegalStateException("Init failed: " + new String(body, StandardCharsets.UTF_8)));
+                respond(exchange, 202, new byte[0]);
+            } else {
+                respond(exchange, 404, new byte[0]);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    @Value
+    public static class Invocation {
+        boolean error;
+        byte[] body;
+        // From handing the event out to receiving the response, the invocation as the runtime API sees it
+        long latencyNanos;
+    }
+
+    private static final class Pending {
+        private final String requestId;
+        private final byte[] event;
+        private final CompletableFuture<Invocation> result = new CompletableFuture<>();
+        private volatile long dispatchedNanos;
+
+        private Pending(final String requestId, final byte[] event) {
+            this.requestId = requestId;
+            this.event = event;
+        }
+    }
+}
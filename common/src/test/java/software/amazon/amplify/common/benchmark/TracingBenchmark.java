@@ -0,0 +1,128 @@
+package software.amazon.amplify.common.benchmark;
+
+import lombok.Builder;
+import software.amazon.amplify.common.utils.OtlpJsonSpanExporter;
+import software.amazon.amplify.common.utils.Span;
+import software.amazon.amplify.common.utils.Tracing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+// Cost of tracing, first per span site: a stage wrapped by Tracing and a span started and closed around it, against
+// the bare stage, with tracing off, on with a discarding exporter and on with the OTLP JSON exporter writing to
+// nowhere. Then end to end, every handler action through HandlerBenchmark under each of those settings.
+@Builder
+public final class TracingBenchmark {
+    private static final String INPUT = "AWS::Amplify::App";
+
+    private final String resourceTypeName;
+    private final Path payloadDirectory;
+    private final Consumer<URI> endpointOverride;
+    private final HandlerBenchmark.Entrypoint entrypoint;
+    @Builder.Default
+    private final int warmupIterations = Integer.getInteger("amplify.benchmark.warmupIterations", 20000);
+    @Builder.Default
+    private final int iterations = Integer.getInteger("amplify.benchmark.iterations", 200000);
+
+    private enum Mode {
+        OFF,
+        DISCARD,
+        OTLP
+    }
+
+    public void run() throws IOException {
+        System.out.printf("%-24s %-8s %12s %16s%n", "Span site", "Tracing", "Time (ns)", "Alloc/op (B)");
+        final Function<String, Integer> stage = String::length;
+        measureSite("bare stage", null, input -> stage.apply(input));
+        for (final Mode mode : Mode.values()) {
+            install(mode);
+            try {
+                // Wrapped after install, the way handlers wrap their stages on every invocation
+                final Function<String, Integer> tracedStage = Tracing.translate("AWS-Amplify-Benchmark::Read", stage);
+                measureSite("traced stage", mode, input -> invokeInSpan(tracedStage, input));
+            } finally {
+                Tracing.install(null);
+            }
+        }
+
+        for (final Mode mode : Mode.values()) {
+            System.out.printf("%nHandler invocations, tracing %s%n", mode);
+            install(mode);
+            try {
+                HandlerBenchmark.builder()
+                        .resourceTypeName(resourceTypeName)
+                        .payloadDirectory(payloadDirectory)
+                        .endpointOverride(endpointOverride)
+                        .entrypoint(entrypoint)
+                        .build()
+                        .run();
+            } finally {
+                Tracing.install(null);
+            }
+        }
+    }
+
+    private void measureSite(final String site, final Mode mode, final ToIntFunction<String> operation) {
+        // Summing the results keeps the JIT from dropping the stage as dead code
+        long sink = 0L;
+        for (int i = 0; i < warmupIterations; i++) {
+            sink += operation.applyAsInt(INPUT);
+        }
+        final long allocatedBefore = allocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.applyAsInt(INPUT);
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = allocatedBytes() - allocatedBefore;
+        if (sink == 0L) {
+            throw new IllegalStateException(site + " produced no output");
+        }
+        System.out.printf("%-24s %-8s %12.1f %16d%n",
+                site,
+                mode == null ? "-" : mode.toString(),
+                elapsed / (double) iterations,
+                allocated / iterations);
+    }
+
+    // The root span stands in for handleRequest, so every iteration also exports one trace while tracing is on
+    private static int invokeInSpan(final Function<String, Integer> stage, final String input) {
+        try (Span span = Tracing.startSpan("handleRequest")) {
+            span.setAttribute("cfn.resource_type", input);
+            return stage.apply(input);
+        }
+    }
+
+    private static void install(final Mode mode) {
+        switch (mode) {
+            case DISCARD:
+                Tracing.install(trace -> { });
+                break;
+            case OTLP:
+                Tracing.install(new OtlpJsonSpanExporter(new OutputStream() {
+                    @Override
+                    public void write(final int b) {
+                    }
+
+                    @Override
+                    public void write(final byte[] b, final int off, final int len) {
+                    }
+                }));
+                break;
+            default:
+                Tracing.install(null);
+                break;
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,118 @@
+package software.amazon.amplify.common.faults;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.amplify.model.AmplifyException;
+import software.amazon.awssdk.services.amplify.model.BadRequestException;
+import software.amazon.awssdk.services.amplify.model.InternalFailureException;
+import software.amazon.awssdk.services.amplify.model.LimitExceededException;
+import software.amazon.awssdk.services.amplify.model.NotFoundException;
+
+import java.time.Duration;
+
+// What one Amplify call of a script runs into. Failures are what the handler sees once the SDK gave up retrying, so a
+// burst of two internal failures stands for two calls that each exhausted the SDK's own retries.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Fault {
+    private static final String SERVICE_NAME = "Amplify";
+
+    public enum Kind {
+        PASS,
+        LATENCY,
+        THROTTLE,
+        LIMIT_EXCEEDED,
+        INTERNAL_FAILURE,
+        NOT_FOUND,
+        CONFLICT
+    }
+
+    private final Kind kind;
+    private final Duration latency;
+
+    public static Fault pass() {
+        return new Fault(Kind.PASS, Duration.ZERO);
+    }
+
+    // The call goes through after taking this long on the simulated clock
+    public static Fault latency(final Duration latency) {
+        return new Fault(Kind.LATENCY, latency);
+    }
+
+    // Throttled by the service, a 429 the SDK classifies as throttling
+    public static Fault throttle() {
+        return new Fault(Kind.THROTTLE, Duration.ZERO);
+    }
+
+    // Amplify's LimitExceededException, a quota rather than a rate
+    public static Fault limitExceeded() {
+        return new Fault(Kind.LIMIT_EXCEEDED, Duration.ZERO);
+    }
+
+    public static Fault internalFailure() {
+        return new Fault(Kind.INTERNAL_FAILURE, Duration.ZERO);
+    }
+
+    // The resource is not found, as reads right after a write can be until the service catches up
+    public static Fault notFound() {
+        return new Fault(Kind.NOT_FOUND, Duration.ZERO);
+    }
+
+    // The resource to create is already there, which Amplify reports as a BadRequest
+    public static Fault conflict() {
+        return new Fault(Kind.CONFLICT, Duration.ZERO);
+    }
+
+    // The exception the call fails with, null when it goes through to the delegate
+    AmplifyException toException(final String operation) {
+        switch (kind) {
+            case THROTTLE:
+                return AmplifyException.builder()
+                        .statusCode(429)
+                        .message("Rate exceeded")
+                        .awsErrorDetails(errorDetails("ThrottlingException", "Rate exceeded"))
+                        .build();
+            case LIMIT_EXCEEDED:
+                return LimitExceededException.builder()
+                        .statusCode(429)
+                        .message("Limit exceeded for " + operation)
+                        .awsErrorDetails(errorDetails("LimitExceededException", "Limit exceeded for " + operation))
+                        .build();
+            case INTERNAL_FAILURE:
+                return InternalFailureException.builder()
+                        .statusCode(500)
+                        .message("Internal failure in " + operation)
+                        .awsErrorDetails(errorDetails("InternalFailureException", "Internal failure in " + operation))
+                        .build();
+            case NOT_FOUND:
+                return NotFoundException.builder()
+                        .statusCode(404)
+                        .message("Not found by " + operation)
+                        .awsErrorDetails(errorDetails("NotFoundException", "Not found by " + operation))
+                        .build();
+            case CONFLICT:
+                return BadRequestException.builder()
+                        .statusCode(400)
+                        .message("Resource already exists for " + operation)
+                        .awsErrorDetails(errorDetails("BadRequestException", "Resource already exists for " + operation))
+                        .build();
+            default:
+                return null;
+        }
+    }
+
+    private static AwsErrorDetails errorDetails(final String errorCode, final String errorMessage) {
+        return AwsErrorDetails.builder()
+                .serviceName(SERVICE_NAME)
+                .errorCode(errorCode)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.LATENCY ? kind + "(" + latency + ")" : kind.toString();
+    }
+}
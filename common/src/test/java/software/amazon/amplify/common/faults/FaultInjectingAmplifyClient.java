@@ -0,0 +1,100 @@
+package software.amazon.amplify.common.faults;
+
+import lombok.NonNull;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.AmplifyException;
+import software.amazon.awssdk.services.amplify.model.AmplifyRequest;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+// AmplifyClient decorator that runs each operation's calls into a scripted sequence of faults before passing them on
+// to the delegate, usually a Mockito mock, e.g.
+//   on("createApp", Fault.throttle(), Fault.throttle()).on("getApp", Fault.latency(Duration.ofSeconds(30)))
+// throttles the first two createApp calls and makes the first getApp take 30 seconds of simulated time. Calls past the
+// end of a script go straight through. Operations are the client's method names, calls and injected faults are
+// counted per operation.
+public final class FaultInjectingAmplifyClient implements InvocationHandler {
+    private final AmplifyClient delegate;
+    private final SimulatedClock clock;
+    private final AmplifyClient client;
+    private final Map<String, Deque<Fault>> scripts = new HashMap<>();
+    private final Map<String, Integer> calls = new HashMap<>();
+    private final Map<String, Integer> faults = new HashMap<>();
+
+    public FaultInjectingAmplifyClient(@NonNull final AmplifyClient delegate, @NonNull final SimulatedClock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.client = (AmplifyClient) Proxy.newProxyInstance(AmplifyClient.class.getClassLoader(),
+                new Class<?>[] {AmplifyClient.class}, this);
+    }
+
+    // Appends to the script of the operation
+    public synchronized FaultInjectingAmplifyClient on(final String operation, final Fault... sequence) {
+        scripts.computeIfAbsent(operation, key -> new ArrayDeque<>()).addAll(Arrays.asList(sequence));
+        return this;
+    }
+
+    // The decorated client to hand to the handler under test
+    public AmplifyClient client() {
+        return client;
+    }
+
+    public synchronized int getCalls(final String operation) {
+        return calls.getOrDefault(operation, 0);
+    }
+
+    public synchronized int getTotalCalls() {
+        return calls.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    // Calls that failed with a scripted exception, latency is not counted
+    public synchronized int getInjectedFaults(final String operation) {
+        return faults.getOrDefault(operation, 0);
+    }
+
+    public synchronized int getTotalInjectedFaults() {
+        return faults.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return method.invoke(this, args);
+        }
+        if (args != null && args.length == 1 && args[0] instanceof AmplifyRequest) {
+            final AmplifyException exception = inject(method.getName());
+            if (exception != null) {
+                throw exception;
+            }
+        }
+        try {
+            return method.invoke(delegate, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Counts the call and takes the next step of its script, the update paths call from several threads at once
+    private synchronized AmplifyException inject(final String operation) {
+        calls.merge(operation, 1, Integer::sum);
+        final Deque<Fault> script = scripts.get(operation);
+        final Fault fault = script != null ? script.poll() : null;
+        if (fault == null) {
+            return null;
+        }
+        clock.advance(fault.getLatency());
+        final AmplifyException exception = fault.toException(operation);
+        if (exception != null) {
+            faults.merge(operation, 1, Integer::sum);
+        }
+        return exception;
+    }
+}
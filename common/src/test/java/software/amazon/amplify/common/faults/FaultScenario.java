@@ -0,0 +1,93 @@
+package software.amazon.amplify.common.faults;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+// Runs a handler to completion the way CloudFormation drives it: IN_PROGRESS is re-invoked with the returned context
+// after its callback delay, a failure with an error code CloudFormation retries is re-invoked after an exponential
+// retry delay, anything else ends the operation. All waiting happens on the SimulatedClock. Build the handler's proxy
+// with no remaining time, () -> 0L, so the framework hands every stabilization wait back as IN_PROGRESS instead of
+// sleeping in process.
+//
+// A retry gets the same context object the failed invocation was given, including what it recorded before failing,
+// which is what OperationJournal restores on Lambda.
+@Builder
+public final class FaultScenario {
+    private static final Set<HandlerErrorCode> RETRIABLE_ERROR_CODES = EnumSet.of(
+            HandlerErrorCode.Throttling,
+            HandlerErrorCode.ServiceInternalError,
+            HandlerErrorCode.NetworkFailure);
+
+    @NonNull
+    private final SimulatedClock clock;
+    // Ends a scenario that would otherwise never complete
+    @Builder.Default
+    private final int maxInvocations = 100;
+    @Builder.Default
+    private final int maxRetries = 5;
+    @Builder.Default
+    private final Duration retryDelay = Duration.ofSeconds(5L);
+    @Builder.Default
+    private final Duration maxRetryDelay = Duration.ofSeconds(60L);
+
+    @Value
+    public static class Outcome<ModelT> {
+        private final OperationStatus status;
+        private final HandlerErrorCode errorCode;
+        private final ModelT resourceModel;
+        private final int invocations;
+        // Re-invocations after a retriable failure, not counting those after IN_PROGRESS
+        private final int retries;
+        private final Duration elapsed;
+    }
+
+    public <ModelT, CallbackT> Outcome<ModelT> run(
+            final CallbackT callbackContext,
+            final Function<CallbackT, ProgressEvent<ModelT, CallbackT>> handler) {
+        final Duration start = clock.elapsed();
+        CallbackT context = callbackContext;
+        ProgressEvent<ModelT, CallbackT> event = null;
+        int invocations = 0;
+        int retries = 0;
+        while (invocations < maxInvocations) {
+            invocations++;
+            try {
+                event = handler.apply(context);
+            } catch (final BaseHandlerException e) {
+                // LambdaWrapper reports a handler exception as a failure with its error code
+                event = ProgressEvent.failed(null, context, e.getErrorCode(), e.getMessage());
+            }
+            if (event.getStatus() == OperationStatus.IN_PROGRESS) {
+                clock.advance(Duration.ofSeconds(Math.max(event.getCallbackDelaySeconds(), 0)));
+                if (event.getCallbackContext() != null) {
+                    context = event.getCallbackContext();
+                }
+                continue;
+            }
+            if (event.getStatus() == OperationStatus.FAILED && RETRIABLE_ERROR_CODES.contains(event.getErrorCode())
+                    && retries < maxRetries) {
+                retries++;
+                clock.advance(nextRetryDelay(retries));
+                continue;
+            }
+            break;
+        }
+        return new Outcome<>(event.getStatus(), event.getErrorCode(), event.getResourceModel(), invocations, retries,
+                clock.elapsed().minus(start));
+    }
+
+    private Duration nextRetryDelay(final int retry) {
+        final Duration delay = retryDelay.multipliedBy(1L << Math.min(retry - 1, 30));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
@@ -0,0 +1,19 @@
+package software.amazon.amplify.common.faults;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Time as a fault scenario sees it: injected latency, callback delays and CloudFormation's retry delays are added up
+// here instead of being slept, so a scenario spanning an hour runs in milliseconds
+public final class SimulatedClock {
+    private final AtomicLong elapsedMillis = new AtomicLong();
+
+    // Calls made concurrently by the async client paths each add their own latency
+    public void advance(final Duration duration) {
+        elapsedMillis.addAndGet(duration.toMillis());
+    }
+
+    public Duration elapsed() {
+        return Duration.ofMillis(elapsedMillis.get());
+    }
+}
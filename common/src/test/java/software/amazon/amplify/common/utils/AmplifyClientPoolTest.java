@@ -0,0 +1,77 @@
+package software.amazon.amplify.common.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.AmplifyClientBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AmplifyClientPoolTest {
+    private SdkHttpClient httpClient;
+    private AmplifyClientPool pool;
+
+    @BeforeEach
+    public void setup() {
+        httpClient = mock(SdkHttpClient.class);
+        pool = AmplifyClientPool.builder()
+                .httpClient(httpClient)
+                .clientBuilder(() -> {
+                    final AmplifyClientBuilder builder = mock(AmplifyClientBuilder.class, RETURNS_SELF);
+                    when(builder.build()).thenAnswer(invocation -> mock(AmplifyClient.class));
+                    return builder;
+                })
+                .maxClients(2)
+                .build();
+    }
+
+    @Test
+    public void lease_ReusesClientPerRegionAndIdentity() {
+        final AmplifyClient first;
+        try (AmplifyClientPool.Lease lease = pool.lease("us-east-1", "111111111111", null)) {
+            first = lease.getClient();
+            assertThat(lease.isCreated()).isTrue();
+        }
+        try (AmplifyClientPool.Lease lease = pool.lease("us-east-1", "111111111111", null)) {
+            assertThat(lease.getClient()).isSameAs(first);
+            assertThat(lease.isCreated()).isFalse();
+        }
+        try (AmplifyClientPool.Lease otherAccount = pool.lease("us-east-1", "222222222222", null);
+             AmplifyClientPool.Lease otherRegion = pool.lease("eu-west-1", "111111111111", null)) {
+            assertThat(otherAccount.getClient()).isNotSameAs(first);
+            assertThat(otherRegion.getClient()).isNotSameAs(first).isNotSameAs(otherAccount.getClient());
+        }
+
+        final AmplifyClientPool.Stats stats = pool.getStats();
+        assertThat(stats.getHits()).isEqualTo(1L);
+        assertThat(stats.getMisses()).isEqualTo(3L);
+        assertThat(stats.getHitRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    public void lease_EvictedClientIsClosedOnceReleased() {
+        final AmplifyClientPool.Lease eldest = pool.lease("us-east-1", "111111111111", null);
+        pool.lease("us-east-1", "222222222222", null).close();
+        pool.lease("us-east-1", "333333333333", null).close();
+
+        // Evicted as least recently leased, but still in use
+        verify(eldest.getClient(), never()).close();
+        assertThat(pool.getStats().getEvictions()).isEqualTo(1L);
+        assertThat(pool.getStats().getLiveClients()).isEqualTo(3);
+
+        eldest.close();
+        verify(eldest.getClient()).close();
+        assertThat(pool.getStats().getLiveClients()).isEqualTo(2);
+
+        pool.close();
+        assertThat(pool.getStats().getLiveClients()).isEqualTo(0);
+        // The shared http client belongs to the caller
+        verify(httpClient, never()).close();
+    }
+}
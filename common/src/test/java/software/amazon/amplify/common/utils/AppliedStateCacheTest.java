@@ -0,0 +1,55 @@
+package software.amazon.amplify.common.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AppliedStateCacheTest {
+    private static final String ARN = "arn:aws:amplify:us-west-2:123456789012:apps/dummyId";
+    private static final String SECRET = "ghp_dummyOauthToken";
+
+    @Test
+    public void getAppliedReadFingerprint_OnlyForTheAppliedModel(@TempDir final Path directory) {
+        final AppliedStateCache appliedStates = new AppliedStateCache(directory, Duration.ofMinutes(15L));
+
+        appliedStates.record(ARN, "applied", "read");
+
+        assertThat(appliedStates.getAppliedReadFingerprint(ARN, "applied")).isEqualTo("read");
+        assertThat(appliedStates.getAppliedReadFingerprint(ARN, "other")).isNull();
+        appliedStates.invalidate(ARN);
+        assertThat(appliedStates.getAppliedReadFingerprint(ARN, "applied")).isNull();
+    }
+
+    @Test
+    public void getAppliedReadFingerprint_ExpiredEntryIgnored(@TempDir final Path directory) {
+        final AppliedStateCache appliedStates = new AppliedStateCache(directory, Duration.ZERO);
+
+        appliedStates.record(ARN, "applied", "read");
+
+        assertThat(appliedStates.getAppliedReadFingerprint(ARN, "applied")).isNull();
+    }
+
+    @Test
+    public void record_DoesNotStoreUnkeyedSecretHashes(@TempDir final Path directory) throws Exception {
+        final AppliedStateCache appliedStates = new AppliedStateCache(directory, Duration.ofMinutes(15L));
+        final String fingerprint = ModelFingerprint.of(Collections.singletonMap("OauthToken", SECRET),
+                Collections.emptySet());
+
+        appliedStates.record(ARN, fingerprint, "read");
+
+        // A token guessed offline cannot be confirmed against the entry without this process' key
+        final String entry = new String(Files.readAllBytes(directory.resolve(ModelFingerprint.sha256(ARN))),
+                StandardCharsets.UTF_8);
+        assertThat(entry).doesNotContain(SECRET)
+                .doesNotContain(ModelFingerprint.sha256("{\"OauthToken\":\"" + SECRET + "\"}"));
+        assertThat(ModelFingerprint.of(Collections.singletonMap("OauthToken", "rotated"), Collections.emptySet()))
+                .isNotEqualTo(fingerprint);
+    }
+}
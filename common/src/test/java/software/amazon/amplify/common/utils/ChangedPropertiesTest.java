@@ -0,0 +1,28 @@
+package software.amazon.amplify.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ChangedPropertiesTest {
+    @Test
+    public void addIfChanged_SkipsUnsetAndEqualValues() {
+        final ChangedProperties changedProperties = new ChangedProperties()
+                .addIfChanged("Description", "before", "after")
+                .addIfChanged("BuildSpec", "version: 1", null)
+                .addIfChanged("Stage", "PRODUCTION", "PRODUCTION");
+
+        assertThat(changedProperties.getNames()).containsExactly("Description");
+        assertThat(changedProperties.contains("BuildSpec")).isFalse();
+    }
+
+    @Test
+    public void add_KeepsFirstRecordedOrder() {
+        final ChangedProperties changedProperties = new ChangedProperties()
+                .add("EnvironmentVariables")
+                .addIfChanged("Description", null, "after")
+                .add("EnvironmentVariables");
+
+        assertThat(changedProperties.getNames()).containsExactly("EnvironmentVariables", "Description");
+    }
+}
@@ -0,0 +1,90 @@
+package software.amazon.amplify.common.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FileLeaseRateLimiterTest {
+    private static final int SLOT_COUNT = 2;
+    // 250 ms into a one second window
+    private static final long NOW_MILLIS = TimeUnit.SECONDS.toMillis(1_600_000_000L) + 250L;
+
+    @TempDir
+    Path tempDir;
+
+    private Path counterFile;
+
+    @BeforeEach
+    public void setup() {
+        counterFile = tempDir.resolve("rate-limits");
+    }
+
+    @Test
+    public void tryAcquire_LeasesPermitsOfCurrentWindow() throws IOException {
+        try (FileLeaseRateLimiter limiter = new FileLeaseRateLimiter(counterFile, 0, SLOT_COUNT, 2)) {
+            assertThat(limiter.tryAcquire(NOW_MILLIS)).isZero();
+            assertThat(limiter.tryAcquire(NOW_MILLIS)).isZero();
+            // Out of permits, wait for the next window
+            assertThat(limiter.tryAcquire(NOW_MILLIS)).isEqualTo(750L);
+        }
+    }
+
+    @Test
+    public void tryAcquire_LeasesExpireWithWindow() throws IOException {
+        try (FileLeaseRateLimiter limiter = new FileLeaseRateLimiter(counterFile, 0, SLOT_COUNT, 1)) {
+            assertThat(limiter.tryAcquire(NOW_MILLIS)).isZero();
+            assertThat(limiter.tryAcquire(NOW_MILLIS)).isPositive();
+
+            assertThat(limiter.tryAcquire(NOW_MILLIS + 750L)).isZero();
+        }
+    }
+
+    @Test
+    public void tryAcquire_SlotSharedThroughFile() throws IOException {
+        try (FileLeaseRateLimiter first = new FileLeaseRateLimiter(counterFile, 0, SLOT_COUNT, 1);
+             FileLeaseRateLimiter second = new FileLeaseRateLimiter(counterFile, 0, SLOT_COUNT, 1)) {
+            assertThat(first.tryAcquire(NOW_MILLIS)).isZero();
+
+            assertThat(second.tryAcquire(NOW_MILLIS)).isPositive();
+        }
+    }
+
+    @Test
+    public void tryAcquire_SlotsAreIndependent() throws IOException {
+        try (FileLeaseRateLimiter first = new FileLeaseRateLimiter(counterFile, 0, SLOT_COUNT, 1);
+             FileLeaseRateLimiter second = new FileLeaseRateLimiter(counterFile, 1, SLOT_COUNT, 1)) {
+            assertThat(first.tryAcquire(NOW_MILLIS)).isZero();
+
+            assertThat(second.tryAcquire(NOW_MILLIS)).isZero();
+        }
+    }
+
+    @Test
+    public void tryAcquire_ClosedLimiterNoLongerLimits() throws IOException {
+        final FileLeaseRateLimiter limiter = new FileLeaseRateLimiter(counterFile, 0, SLOT_COUNT, 1);
+        assertThat(limiter.tryAcquire(NOW_MILLIS)).isZero();
+
+        limiter.close();
+
+        assertThat(limiter.tryAcquire(NOW_MILLIS)).isZero();
+    }
+
+    @Test
+    public void constructor_UnusableFileThrows() {
+        // A directory cannot be opened as a counter file
+        assertThatThrownBy(() -> new FileLeaseRateLimiter(tempDir, 0, SLOT_COUNT, 1)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void constructor_NonPositiveRateRejected() {
+        assertThatThrownBy(() -> new FileLeaseRateLimiter(counterFile, 0, SLOT_COUNT, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
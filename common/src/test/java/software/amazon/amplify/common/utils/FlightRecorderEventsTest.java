@@ -0,0 +1,75 @@
+package software.amazon.amplify.common.utils;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.amplify.model.DeleteAppRequest;
+import software.amazon.awssdk.services.amplify.model.GetAppRequest;
+import software.amazon.awssdk.services.amplify.model.GetAppResponse;
+import software.amazon.awssdk.services.amplify.model.NotFoundException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FlightRecorderEventsTest {
+    private static final String RESOURCE_TYPE = "AWS::Amplify::App";
+    private static final String APP_ARN = "arn:aws:amplify:us-east-1:123456789012:apps/dfd6ua3dn1dbs";
+
+    @BeforeEach
+    public void requireFlightRecorder() {
+        // A runtime without jdk.jfr, or one with the events switched off, emits nothing to record
+        assumeTrue(FlightRecorderEvents.isEnabled(), "JDK Flight Recorder events are not available");
+    }
+
+    @Test
+    public void beginCallAndPoll_EmitEventsToRecording(@TempDir final Path directory) throws IOException {
+        final Path recordingFile = directory.resolve("handler.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(AmplifyCallEvent.NAME);
+            recording.enable(StabilizationPollEvent.NAME);
+            recording.start();
+            FlightRecorderEvents.beginCall().commit(DeleteAppRequest.builder().appId("dfd6ua3dn1dbs").build(),
+                    null, RESOURCE_TYPE, APP_ARN, null);
+            FlightRecorderEvents.poll(RESOURCE_TYPE, APP_ARN, StabilizationState.DELETING_STATUS, 1);
+            FlightRecorderEvents.beginCall().commit(GetAppRequest.builder().appId("dfd6ua3dn1dbs").build(),
+                    GetAppResponse.builder().build(), RESOURCE_TYPE, APP_ARN, null);
+            FlightRecorderEvents.beginCall().commit(GetAppRequest.builder().appId("dfd6ua3dn1dbs").build(),
+                    null, RESOURCE_TYPE, APP_ARN, NotFoundException.builder().statusCode(404).build());
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        assertThat(eventsNamed(events, AmplifyCallEvent.NAME))
+                .extracting(event -> event.getString("operation"), event -> event.getString("outcome"),
+                        event -> event.getString("resourceId"))
+                .containsExactly(
+                        tuple("DeleteApp", "SUCCESS", APP_ARN),
+                        tuple("GetApp", "SUCCESS", APP_ARN),
+                        tuple("GetApp", "NotFoundException", APP_ARN));
+        assertThat(eventsNamed(events, AmplifyCallEvent.NAME))
+                .allSatisfy(event -> assertThat(event.getLong("requestBytes")).isPositive());
+        assertThat(eventsNamed(events, AmplifyCallEvent.NAME).get(2).getInt("statusCode")).isEqualTo(404);
+        assertThat(eventsNamed(events, StabilizationPollEvent.NAME))
+                .extracting(event -> event.getString("resourceType"), event -> event.getString("observedStatus"),
+                        event -> event.getInt("pollNumber"))
+                .containsExactly(tuple(RESOURCE_TYPE, StabilizationState.DELETING_STATUS, 1));
+    }
+
+    private static List<RecordedEvent> eventsNamed(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                .filter(event -> name.equals(event.getEventType().getName()))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,52 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.cloudformation.proxy.Logger;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class HttpConnectionStatsTest {
+    private static final String RESOURCE_TYPE = "AWS::Amplify::App";
+
+    @Test
+    public void publish_ReportsRequestsSincePreviousPublish() {
+        final HttpConnectionStats stats = new HttpConnectionStats();
+        final Logger first = mock(Logger.class);
+        final Logger second = mock(Logger.class);
+        final Logger idle = mock(Logger.class);
+
+        // One connection opened for two requests, then a third request reusing it
+        stats.connectionOpened();
+        request(stats);
+        request(stats);
+        stats.publish(first, RESOURCE_TYPE);
+        request(stats);
+        stats.publish(second, RESOURCE_TYPE);
+        stats.publish(idle, RESOURCE_TYPE);
+
+        verify(first).log(metric("HttpConnectionsOpened", "1", MetricsUtils.UNIT_COUNT));
+        verify(first).log(metric("HttpRequests", "2", MetricsUtils.UNIT_COUNT));
+        verify(first).log(metric("HttpConnectionReuseRate", "50", MetricsUtils.UNIT_PERCENT));
+        verifyNoMoreInteractions(first);
+        verify(second).log(metric("HttpConnectionsOpened", "0", MetricsUtils.UNIT_COUNT));
+        verify(second).log(metric("HttpRequests", "1", MetricsUtils.UNIT_COUNT));
+        verify(second).log(metric("HttpConnectionReuseRate", "100", MetricsUtils.UNIT_PERCENT));
+        verifyNoMoreInteractions(second);
+        verifyNoMoreInteractions(idle);
+    }
+
+    private static void request(final HttpConnectionStats stats) {
+        final MetricCollector collector = MetricCollector.create("ApiCall");
+        collector.createChild("HttpClient").reportMetric(HttpMetric.LEASED_CONCURRENCY, 1);
+        stats.publish(collector.collect());
+    }
+
+    private static String metric(final String name, final String value, final String unit) {
+        return String.format("METRIC: {\"ResourceType\": \"%s\", \"Name\": \"%s\", \"Value\": %s, \"Unit\": \"%s\"}",
+                RESOURCE_TYPE, name, value, unit);
+    }
+}
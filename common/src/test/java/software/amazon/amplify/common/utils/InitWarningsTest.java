@@ -0,0 +1,27 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.proxy.Logger;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class InitWarningsTest {
+
+    @Test
+    public void log_LogsEachPendingWarningOnce() {
+        final Logger first = mock(Logger.class);
+        final Logger second = mock(Logger.class);
+        InitWarnings.add("first");
+        InitWarnings.add("second");
+
+        InitWarnings.log(first);
+        InitWarnings.log(second);
+
+        verify(first).log("WARN: first");
+        verify(first).log("WARN: second");
+        verifyNoMoreInteractions(first);
+        verifyNoMoreInteractions(second);
+    }
+}
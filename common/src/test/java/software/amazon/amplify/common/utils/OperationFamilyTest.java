@@ -0,0 +1,71 @@
+package software.amazon.amplify.common.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
+import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
+import software.amazon.awssdk.services.amplify.model.DeleteAppRequest;
+import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest;
+import software.amazon.awssdk.services.amplify.model.ListBranchesRequest;
+import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.amplify.model.TagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.UntagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.UpdateBranchRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OperationFamilyTest {
+
+    @Test
+    public void of_MapsOperationsToFamilies() {
+        assertThat(OperationFamily.of(CreateAppRequest.builder().build())).isEqualTo(OperationFamily.CREATE);
+        assertThat(OperationFamily.of(CreateBranchRequest.builder().build())).isEqualTo(OperationFamily.CREATE);
+        assertThat(OperationFamily.of(GetDomainAssociationRequest.builder().build())).isEqualTo(OperationFamily.GET);
+        assertThat(OperationFamily.of(ListBranchesRequest.builder().build())).isEqualTo(OperationFamily.LIST);
+        assertThat(OperationFamily.of(TagResourceRequest.builder().build())).isEqualTo(OperationFamily.TAG);
+        assertThat(OperationFamily.of(UntagResourceRequest.builder().build())).isEqualTo(OperationFamily.TAG);
+        assertThat(OperationFamily.of(UpdateBranchRequest.builder().build())).isEqualTo(OperationFamily.OTHER);
+        assertThat(OperationFamily.of(DeleteAppRequest.builder().build())).isEqualTo(OperationFamily.OTHER);
+    }
+
+    @Test
+    public void of_ListTagsForResourceIsTag() {
+        assertThat(OperationFamily.of(ListTagsForResourceRequest.builder().build())).isEqualTo(OperationFamily.TAG);
+    }
+
+    @Test
+    public void getPermitsPerSecond_DefaultsWithoutEnvironment() {
+        final Map<String, String> environment = Collections.emptyMap();
+
+        assertThat(OperationFamily.CREATE.getPermitsPerSecond(environment::get)).isEqualTo(10);
+        assertThat(OperationFamily.CREATE.getBurst(environment::get)).isEqualTo(20);
+        assertThat(OperationFamily.GET.getPermitsPerSecond(environment::get)).isEqualTo(40);
+    }
+
+    @Test
+    public void getPermitsPerSecond_ReadFromEnvironment() {
+        final Map<String, String> environment = new HashMap<>();
+        environment.put("AMPLIFY_RATE_LIMIT_CREATE_PER_SECOND", "5");
+        environment.put("AMPLIFY_RATE_LIMIT_CREATE_BURST", "7");
+
+        assertThat(OperationFamily.CREATE.getPermitsPerSecond(environment::get)).isEqualTo(5);
+        assertThat(OperationFamily.CREATE.getBurst(environment::get)).isEqualTo(7);
+        // Other families keep their defaults
+        assertThat(OperationFamily.LIST.getPermitsPerSecond(environment::get)).isEqualTo(10);
+    }
+
+    @Test
+    public void getPermitsPerSecond_InvalidValuesKeepDefaults() {
+        final Map<String, String> environment = new HashMap<>();
+        environment.put("AMPLIFY_RATE_LIMIT_TAG_PER_SECOND", "fast");
+        environment.put("AMPLIFY_RATE_LIMIT_TAG_BURST", "0");
+        environment.put("AMPLIFY_RATE_LIMIT_OTHER_PER_SECOND", "-3");
+
+        assertThat(OperationFamily.TAG.getPermitsPerSecond(environment::get)).isEqualTo(10);
+        assertThat(OperationFamily.TAG.getBurst(environment::get)).isEqualTo(20);
+        assertThat(OperationFamily.OTHER.getPermitsPerSecond(environment::get)).isEqualTo(20);
+    }
+}
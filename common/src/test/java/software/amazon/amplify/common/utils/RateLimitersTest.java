@@ -0,0 +1,101 @@
+package software.amazon.amplify.common.utils;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class RateLimitersTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void createLimiters_NoneScopeDisablesLimiting() {
+        final Map<OperationFamily, RateLimiter> limiters = RateLimiters.createLimiters("none",
+                tempDir.resolve("rate-limits"), name -> null);
+
+        assertThat(limiters).containsOnlyKeys(OperationFamily.values());
+        assertThat(limiters.values()).allMatch(limiter -> limiter == RateLimiters.UNLIMITED);
+    }
+
+    @Test
+    public void createLimiters_DefaultScopeLimitsProcess() {
+        final Map<OperationFamily, RateLimiter> limiters = RateLimiters.createLimiters(null,
+                tempDir.resolve("rate-limits"), name -> null);
+
+        assertThat(limiters).containsOnlyKeys(OperationFamily.values());
+        assertThat(limiters.values()).allMatch(limiter -> limiter instanceof TokenBucketRateLimiter);
+    }
+
+    @Test
+    public void createLimiters_HostScopeSharesCounterFile() {
+        final Path counterFile = tempDir.resolve("rate-limits");
+        final Map<OperationFamily, RateLimiter> limiters = RateLimiters.createLimiters("HOST", counterFile,
+                name -> null);
+        try {
+            assertThat(limiters.values()).allMatch(limiter -> limiter instanceof FileLeaseRateLimiter);
+            assertThat(counterFile).exists();
+            assertThat(counterFile.toFile().length())
+                    .isEqualTo((long) FileLeaseRateLimiter.SLOT_SIZE * OperationFamily.values().length);
+        } finally {
+            RateLimiters.close(limiters);
+        }
+    }
+
+    @Test
+    public void createLimiters_HostScopeFallsBackWithoutCounterFile() {
+        // A directory cannot be opened as the counter file
+        final Map<OperationFamily, RateLimiter> limiters = RateLimiters.createLimiters("HOST", tempDir, name -> null);
+        final Logger logger = mock(Logger.class);
+        InitWarnings.log(logger);
+
+        assertThat(limiters.values()).allMatch(limiter -> limiter instanceof TokenBucketRateLimiter);
+        verify(logger).log(argThat(message ->
+                message.startsWith("WARN: rate limiting CREATE calls of this process only")));
+    }
+
+    @Test
+    public void acquire_PastMaxWaitFailsWithThrottling() {
+        final RateLimiter exhausted = maxWaitNanos -> false;
+
+        assertThatThrownBy(() -> RateLimiters.acquire(exhausted, CreateAppRequest.builder().build(), 0L))
+                .isInstanceOf(CfnThrottlingException.class)
+                .hasMessageContaining("CreateApp");
+    }
+
+    @Test
+    public void maxWaitNanos_ConfiguredOrDefault() {
+        assertThat(RateLimiters.maxWaitNanos(name -> null)).isEqualTo(TimeUnit.SECONDS.toNanos(5L));
+        assertThat(RateLimiters.maxWaitNanos(
+                name -> "AMPLIFY_RATE_LIMITER_MAX_WAIT_MILLIS".equals(name) ? "250" : null))
+                .isEqualTo(TimeUnit.MILLISECONDS.toNanos(250L));
+        assertThat(RateLimiters.maxWaitNanos(name -> "-1")).isEqualTo(TimeUnit.SECONDS.toNanos(5L));
+    }
+
+    @Test
+    public void createLimiters_HostScopeUsesConfiguredRate() {
+        final Map<OperationFamily, RateLimiter> limiters = RateLimiters.createLimiters("HOST",
+                tempDir.resolve("rate-limits"),
+                name -> "AMPLIFY_RATE_LIMIT_CREATE_PER_SECOND".equals(name) ? "1" : null);
+        try {
+            final FileLeaseRateLimiter create = (FileLeaseRateLimiter) limiters.get(OperationFamily.CREATE);
+            final long nowMillis = System.currentTimeMillis();
+
+            assertThat(create.tryAcquire(nowMillis)).isZero();
+            assertThat(create.tryAcquire(nowMillis)).isPositive();
+        } finally {
+            RateLimiters.close(limiters);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package software.amazon.amplify.common.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TokenBucketRateLimiterTest {
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+
+    private AtomicLong clock;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    public void setup() {
+        clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1000L));
+        // 10 permits per second, bursts of 3
+        limiter = new TokenBucketRateLimiter(10, 3, clock::get);
+    }
+
+    @Test
+    public void reserve_BurstGoesRightAway() {
+        assertThat(limiter.reserve()).isLessThanOrEqualTo(0L);
+        assertThat(limiter.reserve()).isLessThanOrEqualTo(0L);
+        assertThat(limiter.reserve()).isLessThanOrEqualTo(0L);
+    }
+
+    @Test
+    public void reserve_WaitsOneIntervalPerPermitPastBurst() {
+        drainBurst();
+
+        assertThat(limiter.reserve()).isEqualTo(INTERVAL_NANOS);
+        assertThat(limiter.reserve()).isEqualTo(2 * INTERVAL_NANOS);
+    }
+
+    @Test
+    public void reserve_RefillsOnePermitPerInterval() {
+        drainBurst();
+
+        clock.addAndGet(INTERVAL_NANOS);
+
+        assertThat(limiter.reserve()).isLessThanOrEqualTo(0L);
+        assertThat(limiter.reserve()).isEqualTo(INTERVAL_NANOS);
+    }
+
+    @Test
+    public void reserve_IdleBucketRefillsToBurstOnly() {
+        drainBurst();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60L));
+
+        drainBurst();
+        assertThat(limiter.reserve()).isEqualTo(INTERVAL_NANOS);
+    }
+
+    @Test
+    public void reserve_PastMaxWaitLeavesBucketAlone() {
+        drainBurst();
+
+        assertThat(limiter.reserve(INTERVAL_NANOS - 1L)).isEqualTo(TokenBucketRateLimiter.NOT_RESERVED);
+        assertThat(limiter.reserve(INTERVAL_NANOS)).isEqualTo(INTERVAL_NANOS);
+    }
+
+    @Test
+    public void acquire_PastMaxWaitReturnsWithoutPermit() {
+        drainBurst();
+
+        assertThat(limiter.acquire(0L)).isFalse();
+        assertThat(limiter.reserve()).isEqualTo(INTERVAL_NANOS);
+    }
+
+    @Test
+    public void acquire_ReturnsWithinBurst() {
+        final TokenBucketRateLimiter systemClockLimiter = new TokenBucketRateLimiter(1, 2);
+        final long start = System.nanoTime();
+
+        assertThat(systemClockLimiter.acquire(Long.MAX_VALUE)).isTrue();
+        assertThat(systemClockLimiter.acquire(Long.MAX_VALUE)).isTrue();
+
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(500L));
+    }
+
+    @Test
+    public void constructor_NonPositiveRatesRejected() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void drainBurst() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.reserve()).isLessThanOrEqualTo(0L);
+        }
+    }
+}